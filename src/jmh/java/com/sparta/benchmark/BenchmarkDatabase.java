@@ -0,0 +1,40 @@
+package com.sparta.benchmark;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+// 벤치마크용 데이터베이스 설정
+// 'memo' 퍼시스턴스 유닛을 그대로 사용하되, 접속 정보만 MySQL 호환 모드의 내장 H2로 덮어씀
+public final class BenchmarkDatabase {
+
+    private BenchmarkDatabase() {}
+
+    // name: 벤치마크마다 분리된 인메모리 데이터베이스 이름
+    public static Map<String, Object> h2Properties(String name) {
+        Map<String, Object> properties = new HashMap<>();
+        // 데이터베이스 드라이버와 접속 정보를 H2로 교체
+        properties.put("jakarta.persistence.jdbc.driver", "org.h2.Driver");
+        properties.put("jakarta.persistence.jdbc.url",
+                "jdbc:h2:mem:" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        properties.put("jakarta.persistence.jdbc.user", "sa");
+        properties.put("jakarta.persistence.jdbc.password", "");
+        // SQL 출력은 측정값을 왜곡하므로 끔
+        properties.put("hibernate.show_sql", "false");
+        properties.put("hibernate.format_sql", "false");
+        properties.put("hibernate.use_sql_comments", "false");
+        properties.put("memo.sql-log.enabled", "false");
+        // 새 데이터베이스에는 마이그레이션 스크립트로 스키마를 만듦 (이미 적용된 데이터베이스면 그대로 사용)
+        properties.put("memo.schema.migration", "migrate");
+        return properties;
+    }
+
+    // dir: 데이터베이스 파일을 둘 디렉터리
+    // 행이 수백만 건이라 인메모리로는 벤치마크 힙을 차지하는 경우에 사용
+    public static Map<String, Object> h2FileProperties(Path dir) {
+        Map<String, Object> properties = h2Properties("file");
+        properties.put("jakarta.persistence.jdbc.url",
+                "jdbc:h2:file:" + dir.resolve("db").toAbsolutePath() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE");
+        return properties;
+    }
+}
@@ -0,0 +1,100 @@
+package com.sparta.benchmark;
+
+import com.sparta.JpaManager;
+import com.sparta.bulk.BulkWriteResult;
+import com.sparta.bulk.MemoBulkWriter;
+import com.sparta.entity.Memo;
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+// Memo 100만 건 저장 : 한 건씩 persist (rowByRow) vs MemoBulkWriter (batched)
+// 한 번 실행에 걸린 시간과 함께 실행 중 Old 영역 최대 사용량(영속성 컨텍스트에 붙잡힌 객체)을 출력
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class BulkIngestBenchmark {
+
+    @Param({"1000000"})
+    long rows;
+
+    @Param({"rowByRow", "batched"})
+    String strategy;
+
+    JpaManager jpa;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        // 반복마다 테이블을 새로 만들어 같은 조건에서 측정
+        jpa = new JpaManager(BenchmarkDatabase.h2Properties("bulk"));
+        oldGenPools().forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        long peak = oldGenPools().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        System.out.printf("%n[%s] peak old gen = %d MB%n", strategy, peak / (1024 * 1024));
+        jpa.close();
+    }
+
+    @Benchmark
+    public long ingest() {
+        if (strategy.equals("batched")) {
+            BulkWriteResult result = new MemoBulkWriter(jpa).writeAll(memos());
+            System.out.printf("%n[batched] %.0f rows/s%n", result.rowsPerSecond());
+            return result.rows();
+        }
+
+        // 테스트 코드처럼 하나의 EntityManager 로 한 건씩 persist 후 커밋
+        long start = System.nanoTime();
+        long count = jpa.runInTransaction(em -> {
+            // INSERT 를 한 건씩 전송
+            em.unwrap(Session.class).setJdbcBatchSize(1);
+            long persisted = 0;
+            for (Memo memo : (Iterable<Memo>) memos()::iterator) {
+                em.persist(memo);
+                persisted++;
+            }
+            return persisted;
+        });
+        System.out.printf("%n[rowByRow] %.0f rows/s%n", new BulkWriteResult(count, System.nanoTime() - start).rowsPerSecond());
+        return count;
+    }
+
+    private Stream<Memo> memos() {
+        return LongStream.rangeClosed(1, rows).mapToObj(i -> {
+            Memo memo = new Memo();
+            memo.setUsername("bulk-" + i);
+            memo.setContents("대량 저장 벤치마크 " + i);
+            return memo;
+        });
+    }
+
+    // GC 를 여러 번 거쳐 살아남은 객체가 머무는 영역 (G1 Old Gen, Tenured Gen 등)
+    private static Stream<MemoryPoolMXBean> oldGenPools() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .filter(pool -> pool.getName().contains("Old") || pool.getName().contains("Tenured"));
+    }
+}
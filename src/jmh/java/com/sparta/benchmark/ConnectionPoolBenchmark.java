@@ -0,0 +1,95 @@
+package com.sparta.benchmark;
+
+import com.sparta.entity.Memo;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 동시 em.find(Memo.class, …) 처리량 비교 : 하이버네이트 내장 풀(default) vs HikariCP 풀(pooled)
+// 내장 풀은 커넥션이 모자라면 기다리지 않고 예외를 던지므로 스레드 수는 풀 크기(10)보다 작게 둠
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConnectionPoolBenchmark {
+
+    static final int ROWS = 100;
+
+    @Param({"default", "pooled"})
+    String provider;
+
+    EntityManagerFactory emf;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Map<String, Object> properties = BenchmarkDatabase.h2Properties("pool-" + provider);
+        if (provider.equals("default")) {
+            // 하이버네이트 내장 커넥션 풀 (개발용, 풀 크기는 같게 맞춤)
+            properties.put("hibernate.connection.provider_class",
+                    "org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl");
+            properties.put("hibernate.connection.pool_size", "10");
+        }
+        emf = Persistence.createEntityManagerFactory("memo", properties);
+
+        EntityManager em = emf.createEntityManager();
+        em.getTransaction().begin();
+        // 식별자는 1부터 순서대로 생성됨
+        for (long id = 1; id <= ROWS; id++) {
+            Memo memo = new Memo();
+            memo.setUsername("user-" + id);
+            memo.setContents("커넥션 풀 벤치마크 " + id);
+            em.persist(memo);
+        }
+        em.getTransaction().commit();
+        em.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        emf.close();
+    }
+
+    // 작업 단위마다 EntityManager 를 열어 트랜잭션 안에서 조회 (커넥션 획득/반납 포함)
+    @Benchmark
+    public Memo find(ThreadCursor cursor) {
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            Memo memo = em.find(Memo.class, cursor.next());
+            em.getTransaction().commit();
+            return memo;
+        } finally {
+            em.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadCursor {
+        long id;
+
+        long next() {
+            id = id % ROWS + 1;
+            return id;
+        }
+    }
+}
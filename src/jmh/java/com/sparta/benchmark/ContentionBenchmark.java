@@ -0,0 +1,103 @@
+package com.sparta.benchmark;
+
+import com.sparta.JpaManager;
+import com.sparta.entity.Memo;
+import com.sparta.repository.MemoFetchProfile;
+import com.sparta.retry.OptimisticRetryExecutor;
+import jakarta.persistence.LockModeType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 8개 스레드가 hotRows 개의 Memo 를 동시에 수정 : 낙관적 잠금 + 재시도(optimistic) vs SELECT ... FOR UPDATE(pessimistic)
+// 각 작업 단위는 Memo 하나를 읽고 잠시 (work 마이크로초) 처리한 뒤 contents 카운터를 1 증가시킴
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+@Threads(8)
+@State(Scope.Benchmark)
+public class ContentionBenchmark {
+
+    @Param({"4", "64"})
+    int hotRows;
+
+    @Param({"100"})
+    long work;
+
+    JpaManager jpa;
+    OptimisticRetryExecutor executor;
+    List<Long> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jpa = new JpaManager(BenchmarkDatabase.h2Properties("contention"));
+        executor = new OptimisticRetryExecutor(jpa, 50, 1, 50);
+        ids = jpa.runInTransaction(em -> {
+            List<Long> result = new ArrayList<>();
+            for (int i = 1; i <= hotRows; i++) {
+                Memo memo = new Memo();
+                memo.setUsername("counter-" + i);
+                memo.setContents("0");
+                em.persist(memo);
+                result.add(memo.getId());
+            }
+            return result;
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        // 재시도 통계 출력
+        System.out.printf("%n%s%n", executor.getMetrics());
+        jpa.close();
+    }
+
+    private Long randomId() {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    private static void increment(Memo memo, long work) {
+        // 읽은 값으로 처리하는 시간
+        long deadline = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(work);
+        while (System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        memo.setContents(String.valueOf(Long.parseLong(memo.getContents()) + 1));
+    }
+
+    @Benchmark
+    public Object optimistic() {
+        Long id = randomId();
+        return executor.execute(em -> {
+            increment(em.find(Memo.class, id, MemoFetchProfile.FULL.hints(em)), work);
+            return null;
+        });
+    }
+
+    @Benchmark
+    public Object pessimistic() {
+        Long id = randomId();
+        return jpa.runInTransaction(em -> {
+            increment(em.find(Memo.class, id, LockModeType.PESSIMISTIC_WRITE, MemoFetchProfile.FULL.hints(em)), work);
+            return null;
+        });
+    }
+}
@@ -0,0 +1,142 @@
+package com.sparta.benchmark;
+
+import com.sparta.JpaManager;
+import com.sparta.bulk.MemoBulkWriter;
+import com.sparta.entity.CompressedTextConverter;
+import com.sparta.entity.Memo;
+import com.sparta.repository.MemoFetchProfile;
+import com.sparta.repository.MemoRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+// contents 압축 : 길이별 저장 크기, 변환 비용(압축 vs UTF-8 그대로), 저장/조회 처리량
+// 행당 할당량은 jmh 태스크가 붙이는 GC 프로파일러의 gc.alloc.rate.norm (호출 한 번에 할당한 바이트)
+// 저장 크기는 setUp 에서 출력 (압축 후 contents 컬럼 바이트 / UTF-8 바이트)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class ContentsCompressionBenchmark {
+
+    static final int ROWS = 10_000;
+    // 메모에 쓰이는 단어 수 (실제 글처럼 같은 단어가 반복됨)
+    static final int VOCABULARY = 2000;
+
+    // contents 글자 수 (임계값 미만 / 이상 / 긴 메모)
+    @Param({"100", "1000", "10000"})
+    int length;
+
+    final CompressedTextConverter converter = new CompressedTextConverter();
+    final AtomicLong sequence = new AtomicLong();
+    JpaManager jpa;
+    String text;
+    byte[] compressed;
+    byte[] utf8;
+    List<Long> ids;
+
+    // 단어를 이어 붙인 length 글자의 글 (seed 가 같으면 같은 글)
+    static String text(long seed, int length) {
+        SplittableRandom random = new SplittableRandom(seed);
+        StringBuilder sb = new StringBuilder(length + 16);
+        while (sb.length() < length) {
+            int word = random.nextInt(VOCABULARY);
+            sb.append(word % 3 == 0 ? "메모" : word % 3 == 1 ? "note" : "내용").append(word).append(' ');
+        }
+        return sb.substring(0, length);
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        text = text(0, length);
+        compressed = converter.convertToDatabaseColumn(text);
+        utf8 = text.getBytes(StandardCharsets.UTF_8);
+
+        Map<String, Object> properties = BenchmarkDatabase.h2Properties("compression-" + length);
+        // 조회할 때마다 DB 에서 읽고 압축을 풀도록 2차 캐시를 끔
+        properties.put("hibernate.cache.use_second_level_cache", "false");
+        properties.put("hibernate.cache.use_query_cache", "false");
+        jpa = new JpaManager(properties);
+        new MemoBulkWriter(jpa).writeAll(LongStream.rangeClosed(1, ROWS).mapToObj(i -> {
+            Memo memo = new Memo();
+            memo.setUsername("user-" + i);
+            memo.setContents(text(i, length));
+            return memo;
+        }));
+        ids = jpa.runReadOnly(em -> em.createQuery("select m.id from Memo m", Long.class).getResultList());
+
+        long rawBytes = LongStream.rangeClosed(1, ROWS).map(i -> text(i, length).getBytes(StandardCharsets.UTF_8).length).sum();
+        long storedBytes = jpa.runReadOnly(em -> ((Number) em.createNativeQuery(
+                "select sum(octet_length(contents)) from memo").getSingleResult()).longValue());
+        System.out.printf("%n[length=%d] UTF-8 %d 바이트 -> 저장 %d 바이트 (%.1f%%)%n",
+                length, rawBytes, storedBytes, 100.0 * storedBytes / rawBytes);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jpa.close();
+    }
+
+    // 저장할 때의 변환 : 압축
+    @Benchmark
+    public byte[] encodeCompressed() {
+        return converter.convertToDatabaseColumn(text);
+    }
+
+    // 비교 : 압축하지 않고 UTF-8 로만 변환 (VARCHAR 컬럼에 바인딩할 때 드라이버가 하는 일)
+    @Benchmark
+    public byte[] encodeRaw() {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // 읽을 때의 변환 : 압축 풀기
+    @Benchmark
+    public String decodeCompressed() {
+        return converter.convertToEntityAttribute(compressed);
+    }
+
+    // 비교 : UTF-8 바이트를 문자열로
+    @Benchmark
+    public String decodeRaw() {
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    // Memo 한 건 저장 (압축 포함)
+    @Benchmark
+    public Long persist() {
+        return jpa.runInTransaction(em -> {
+            Memo memo = new Memo();
+            memo.setUsername("bench-" + sequence.incrementAndGet());
+            memo.setContents(text);
+            em.persist(memo);
+            return memo.getId();
+        });
+    }
+
+    // Memo 한 건을 contents 까지 조회 (압축 풀기 포함)
+    @Benchmark
+    public String find() {
+        Long id = ids.get((int) (sequence.incrementAndGet() % ids.size()));
+        return jpa.runReadOnly(em -> new MemoRepository(em).findById(id, MemoFetchProfile.FULL).orElseThrow().getContents());
+    }
+}
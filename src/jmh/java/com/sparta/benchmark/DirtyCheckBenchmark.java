@@ -0,0 +1,100 @@
+package com.sparta.benchmark;
+
+import com.sparta.JpaManager;
+import com.sparta.bulk.MemoBulkWriter;
+import com.sparta.entity.Memo;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+// 하나의 영속성 컨텍스트에 Memo 10만 건을 올리고 1%만 수정한 뒤 flush() 에 걸리는 시간 측정
+// 영속성 컨텍스트가 붙잡고 있는 힙 크기(retained heap)도 함께 출력
+// 바이트코드 향상 전후 비교: ./gradlew jmh -Pjmh.includes=DirtyCheckBenchmark -PhibernateEnhancement=false
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class DirtyCheckBenchmark {
+
+    @Param({"100000"})
+    int rows;
+
+    // 수정할 Memo 의 비율 (%)
+    @Param({"1"})
+    int modifiedPercent;
+
+    JpaManager jpa;
+    EntityManager em;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jpa = new JpaManager(BenchmarkDatabase.h2Properties("dirty-check"));
+        new MemoBulkWriter(jpa).writeAll(LongStream.rangeClosed(1, rows).mapToObj(i -> {
+            Memo memo = new Memo();
+            memo.setUsername("user-" + i);
+            memo.setContents("변경 감지 벤치마크 " + i);
+            return memo;
+        }));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jpa.close();
+    }
+
+    @Setup(Level.Invocation)
+    public void load() {
+        long before = usedHeapAfterGc();
+
+        em = jpa.createEntityManager();
+        em.getTransaction().begin();
+        List<Memo> memos = em.createQuery("select m from Memo m", Memo.class).getResultList();
+
+        long retained = usedHeapAfterGc() - before;
+        System.out.printf("%nretained heap = %d MB (%d bytes/entity)%n", retained / (1024 * 1024), retained / memos.size());
+
+        // 일부 Memo 만 수정
+        int step = 100 / modifiedPercent;
+        for (int i = 0; i < memos.size(); i += step) {
+            memos.get(i).setContents("수정 " + System.nanoTime());
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void rollback() {
+        em.getTransaction().rollback();
+        em.close();
+    }
+
+    // 관리 중인 모든 Memo 의 변경 여부를 확인하고 변경분을 DB 에 반영
+    @Benchmark
+    public void flush() {
+        em.flush();
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
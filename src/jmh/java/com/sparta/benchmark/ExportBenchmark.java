@@ -0,0 +1,81 @@
+package com.sparta.benchmark;
+
+import com.sparta.JpaManager;
+import com.sparta.bulk.MemoBulkWriter;
+import com.sparta.entity.Memo;
+import com.sparta.export.ExportResult;
+import com.sparta.export.MemoExporter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+// memo 테이블 전체를 NDJSON 파일로 내보내기 (기본 1,000만 건)
+// 힙을 512MB 로 고정하고 OOM 없이 끝나는지, 초당 몇 건을 내보내는지 확인
+// 데이터는 힙 밖에 두기 위해 인메모리가 아닌 파일 기반 H2 에 저장
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 2)
+@Fork(value = 1, jvmArgs = {"-Xms512m", "-Xmx512m", "-XX:+ExitOnOutOfMemoryError"})
+@State(Scope.Benchmark)
+public class ExportBenchmark {
+
+    static final long CHUNK = 100_000;
+
+    @Param({"10000000"})
+    long rows;
+
+    JpaManager jpa;
+    Path dir;
+    Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("memo-export");
+        jpa = new JpaManager(BenchmarkDatabase.h2FileProperties(dir));
+        file = dir.resolve("memo.ndjson");
+
+        // 한 트랜잭션이 너무 커지지 않도록 CHUNK 건씩 나눠서 저장
+        MemoBulkWriter writer = new MemoBulkWriter(jpa);
+        for (long from = 1; from <= rows; from += CHUNK) {
+            writer.writeAll(LongStream.range(from, Math.min(from + CHUNK, rows + 1)).mapToObj(i -> {
+                Memo memo = new Memo();
+                memo.setUsername("user-" + i);
+                memo.setContents("내보내기 벤치마크 " + i);
+                return memo;
+            }));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        jpa.close();
+        try (var paths = Files.walk(dir)) {
+            paths.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public ExportResult export() {
+        ExportResult result = new MemoExporter(jpa).exportTo(file);
+        System.out.printf("%n%d rows, %d MB, %.0f rows/s%n",
+                result.rows(), result.bytes() / (1024 * 1024), result.rowsPerSecond());
+        return result;
+    }
+}
@@ -0,0 +1,134 @@
+package com.sparta.benchmark;
+
+import com.sparta.JpaManager;
+import com.sparta.bulk.MemoBulkWriter;
+import com.sparta.entity.Memo;
+import com.sparta.search.MemoSearch;
+import jakarta.persistence.TypedQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+// rows 건에서 contents 단어 검색 지연시간 : MemoSearch 역색인 vs LIKE '%단어%' 전체 스캔
+// 내용은 VOCABULARY 개의 단어 중 WORDS_PER_MEMO 개를 무작위로 골라 만듦 (단어 하나가 약 rows * 8 / 5000 건에 나옴)
+// query: common = 흔한 단어 하나, rare = RARE_EVERY 건마다 하나씩만 나오는 단어, both = 흔한 단어 두 개 모두
+// 데이터는 파일 기반 H2 에 저장하고 build/jmh-data 에 남겨두고 재사용
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class FullTextSearchBenchmark {
+
+    static final long CHUNK = 100_000;
+    static final int LIMIT = 20;
+    static final int VOCABULARY = 5000;
+    static final int WORDS_PER_MEMO = 8;
+    static final long RARE_EVERY = 100_000;
+
+    // 단어 길이가 모두 같아서 LIKE '%w00042%' 도 단어 단위 검색과 같은 결과
+    static final Map<String, String[]> QUERIES = Map.of(
+            "common", new String[]{"w00042"},
+            "rare", new String[]{"needle"},
+            "both", new String[]{"w00042", "w04242"});
+
+    @Param({"1000000"})
+    long rows;
+
+    @Param({"common", "rare", "both"})
+    String query;
+
+    JpaManager jpa;
+    MemoSearch search;
+    String[] words;
+    String like;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Path dir = Files.createDirectories(Path.of("build", "jmh-data", "search-" + rows));
+        Map<String, Object> properties = BenchmarkDatabase.h2FileProperties(dir);
+        // 같은 쿼리를 반복하므로 H2 의 쿼리 결과 캐시를 꺼서 매번 실제로 실행되게 함
+        properties.put("jakarta.persistence.jdbc.url", properties.get("jakarta.persistence.jdbc.url") + ";QUERY_CACHE_SIZE=0");
+        jpa = new JpaManager(properties);
+        long count = jpa.runReadOnly(em -> em.createQuery("select count(m) from Memo m", Long.class)
+                .getSingleResult());
+        if (count != rows) {
+            jpa.runInTransaction(em -> em.createNativeQuery("truncate table memo").executeUpdate());
+            populate();
+        }
+        search = new MemoSearch(jpa);
+        words = QUERIES.get(query);
+
+        // contents 는 압축되어 있으므로 앞부분(contentsPreview)을 검색 (여기서 만드는 내용은 모두 PREVIEW_LENGTH 글자 이내)
+        StringBuilder jpql = new StringBuilder("select m from Memo m where m.contentsPreview like ?1");
+        for (int i = 2; i <= words.length; i++) {
+            jpql.append(" and m.contentsPreview like ?").append(i);
+        }
+        like = jpql.append(" order by m.id").toString();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        search.close();
+        jpa.close();
+    }
+
+    private void populate() {
+        MemoBulkWriter writer = new MemoBulkWriter(jpa);
+        for (long from = 1; from <= rows; from += CHUNK) {
+            writer.writeAll(LongStream.range(from, Math.min(from + CHUNK, rows + 1)).mapToObj(i -> {
+                // 식별자로 시드를 정해 같은 rows 면 항상 같은 내용
+                SplittableRandom random = new SplittableRandom(i);
+                StringBuilder contents = new StringBuilder("메모 ").append(i);
+                for (int w = 0; w < WORDS_PER_MEMO; w++) {
+                    contents.append(' ').append(String.format("w%05d", random.nextInt(VOCABULARY)));
+                }
+                if (i % RARE_EVERY == 0) {
+                    contents.append(" needle");
+                }
+                Memo memo = new Memo();
+                memo.setUsername("user-" + i);
+                memo.setContents(contents.toString());
+                return memo;
+            }));
+        }
+    }
+
+    // 역색인으로 후보를 찾고 DB 에서 limit 건을 읽어 확인
+    @Benchmark
+    public List<Memo> index() {
+        return search.search(String.join(" ", words), LIMIT);
+    }
+
+    // LIKE '%단어%' : 인덱스를 쓸 수 없어 limit 건을 찾을 때까지 (없으면 끝까지) 테이블을 읽음
+    @Benchmark
+    public List<Memo> like() {
+        return jpa.runReadOnly(em -> {
+            TypedQuery<Memo> typed = em.createQuery(like, Memo.class).setMaxResults(LIMIT);
+            for (int i = 0; i < words.length; i++) {
+                typed.setParameter(i + 1, "%" + words[i] + "%");
+            }
+            return typed.getResultList();
+        });
+    }
+}
@@ -0,0 +1,81 @@
+package com.sparta.benchmark;
+
+import com.sparta.JpaManager;
+import com.sparta.entity.Memo;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// 측정용 프록시의 작업당 비용 : 같은 EntityManager 를 직접 호출(plain*) vs 측정 프록시로 호출(instrumented*)
+// 1차 캐시에 있는 Memo 를 find() 하거나 변경 없는 flush() 를 하므로 SQL 은 실행되지 않고 순수하게 프록시 비용만 차이남 (목표 1µs 미만)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Thread)
+public class InstrumentationOverheadBenchmark {
+
+    JpaManager jpa;
+    EntityManager plain;
+    EntityManager instrumented;
+    Long id;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jpa = new JpaManager(BenchmarkDatabase.h2Properties("instrumentation"));
+        id = jpa.runInTransaction(em -> {
+            Memo memo = new Memo();
+            memo.setUsername("Robbie");
+            memo.setContents("측정 비용");
+            em.persist(memo);
+            return memo.getId();
+        });
+
+        // 같은 영속성 컨텍스트를 직접 / 프록시로 사용
+        plain = jpa.getEntityManagerFactory().createEntityManager();
+        instrumented = jpa.getMetrics().instrument(plain);
+        plain.getTransaction().begin();
+        plain.find(Memo.class, id);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        plain.getTransaction().rollback();
+        plain.close();
+        System.out.printf("%n%s%n", jpa.getMetrics().snapshot().latencies());
+        jpa.close();
+    }
+
+    @Benchmark
+    public Memo plainFind() {
+        return plain.find(Memo.class, id);
+    }
+
+    @Benchmark
+    public Memo instrumentedFind() {
+        return instrumented.find(Memo.class, id);
+    }
+
+    @Benchmark
+    public void plainFlush() {
+        plain.flush();
+    }
+
+    @Benchmark
+    public void instrumentedFlush() {
+        instrumented.flush();
+    }
+}
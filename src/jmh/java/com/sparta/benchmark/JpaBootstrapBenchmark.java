@@ -0,0 +1,58 @@
+package com.sparta.benchmark;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// EntityManagerFactory 생성 비용과 EntityManager 생성 비용 비교
+// 테스트 클래스들처럼 작업 단위마다 팩토리를 만들면 매번 createFactory 만큼의 비용이 듦
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JpaBootstrapBenchmark {
+
+    Map<String, Object> properties;
+    EntityManagerFactory emf;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        properties = BenchmarkDatabase.h2Properties("bootstrap");
+        emf = Persistence.createEntityManagerFactory("memo", properties);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        emf.close();
+    }
+
+    // Persistence.createEntityManagerFactory("memo") : 메타모델 구성 + 스키마 생성 + 커넥션 준비
+    @Benchmark
+    public void createFactory() {
+        Persistence.createEntityManagerFactory("memo", properties).close();
+    }
+
+    // 이미 만들어진 팩토리에서 EntityManager 만 발급
+    @Benchmark
+    public void createEntityManager() {
+        EntityManager em = emf.createEntityManager();
+        em.close();
+    }
+}
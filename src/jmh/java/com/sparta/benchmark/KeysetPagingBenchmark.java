@@ -0,0 +1,124 @@
+package com.sparta.benchmark;
+
+import com.sparta.JpaManager;
+import com.sparta.bulk.MemoBulkWriter;
+import com.sparta.entity.Memo;
+import com.sparta.paging.ContinuationToken;
+import com.sparta.paging.MemoPage;
+import com.sparta.paging.MemoPager;
+import com.sparta.repository.MemoSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+// page 번째 페이지 조회 : OFFSET 페이지(offset) vs keyset 페이지(keyset)
+// offset 은 page 가 커질수록 버리는 행이 늘어 느려지고, keyset 은 page 와 관계없이 일정해야 함
+// 1,000만 건은 인메모리로 두기엔 커서 파일 기반 H2 에 저장하고, page 마다 새로 채우지 않도록 build/jmh-data 에 남겨두고 재사용
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class KeysetPagingBenchmark {
+
+    static final long CHUNK = 100_000;
+
+    @Param({"10000000"})
+    long rows;
+
+    @Param({"1", "100", "1000", "10000"})
+    int page;
+
+    @Param({"100"})
+    int pageSize;
+
+    JpaManager jpa;
+    Path dir;
+    MemoPager pager;
+    // page 번째 페이지를 요청하는 keyset 토큰
+    String token;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dir = Files.createDirectories(Path.of("build", "jmh-data", "paging-" + rows));
+        // 스키마는 마이그레이션으로 만들고 시작할 때 지우지 않으므로 이전 실행에서 rows 건을 모두 채워뒀다면 그대로 사용
+        jpa = new JpaManager(properties());
+        long count = jpa.runReadOnly(em -> em.createQuery("select count(m) from Memo m", Long.class)
+                .getSingleResult());
+        if (count != rows) {
+            jpa.runInTransaction(em -> em.createNativeQuery("truncate table memo").executeUpdate());
+            populate();
+        }
+
+        pager = new MemoPager(jpa, MemoPager.Order.ID, pageSize, false);
+        // 이전 페이지의 마지막 식별자 (측정 밖에서 한 번만 구함)
+        List<MemoSummary> previous = offsetPage(page - 1);
+        token = page == 1 ? null : ContinuationToken.afterId(previous.get(previous.size() - 1).id());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pager.close();
+        jpa.close();
+    }
+
+    // 같은 쿼리를 반복하므로 H2 의 쿼리 결과 캐시를 꺼서 매번 실제로 실행되게 함
+    private Map<String, Object> properties() {
+        Map<String, Object> properties = BenchmarkDatabase.h2FileProperties(dir);
+        properties.put("jakarta.persistence.jdbc.url", properties.get("jakarta.persistence.jdbc.url") + ";QUERY_CACHE_SIZE=0");
+        return properties;
+    }
+
+    private void populate() {
+        // 한 트랜잭션이 너무 커지지 않도록 CHUNK 건씩 나눠서 저장
+        MemoBulkWriter writer = new MemoBulkWriter(jpa);
+        for (long from = 1; from <= rows; from += CHUNK) {
+            writer.writeAll(LongStream.range(from, Math.min(from + CHUNK, rows + 1)).mapToObj(i -> {
+                Memo memo = new Memo();
+                memo.setUsername("user-" + i);
+                memo.setContents("페이지 벤치마크 " + i);
+                return memo;
+            }));
+        }
+    }
+
+    private List<MemoSummary> offsetPage(int pageNumber) {
+        if (pageNumber < 1) {
+            return List.of();
+        }
+        return jpa.runReadOnly(em -> em.createQuery("select new com.sparta.repository.MemoSummary(m.id, m.username)"
+                        + " from Memo m order by m.id", MemoSummary.class)
+                .setFirstResult((pageNumber - 1) * pageSize)
+                .setMaxResults(pageSize)
+                .getResultList());
+    }
+
+    @Benchmark
+    public List<MemoSummary> offset() {
+        return offsetPage(page);
+    }
+
+    @Benchmark
+    public MemoPage keyset() {
+        return pager.next(token);
+    }
+}
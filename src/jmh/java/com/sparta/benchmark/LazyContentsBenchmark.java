@@ -0,0 +1,138 @@
+package com.sparta.benchmark;
+
+import com.sparta.JpaManager;
+import com.sparta.bulk.MemoBulkWriter;
+import com.sparta.entity.Memo;
+import com.sparta.repository.MemoFetchProfile;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.ref.Reference;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+// Memo PAGE 건을 SUMMARY(contents 제외) / FULL(contents 포함) 로 조회 : 처리량과 할당량(gc.alloc.rate.norm / PAGE = 엔티티당)
+// 엔티티당 읽는 바이트와 영속성 컨텍스트에 붙잡히는 힙은 setUp 에서 출력
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class LazyContentsBenchmark {
+
+    static final long ROWS = 10_000;
+    static final int PAGE = 100;
+    static final int VOCABULARY = 2000;
+
+    @Param({"SUMMARY", "FULL"})
+    MemoFetchProfile profile;
+
+    // contents 글자 수
+    @Param({"2000"})
+    int length;
+
+    JpaManager jpa;
+
+    // 단어를 이어 붙인 length 글자의 글 (seed 가 같으면 같은 글)
+    static String text(long seed, int length) {
+        SplittableRandom random = new SplittableRandom(seed);
+        StringBuilder sb = new StringBuilder(length + 16);
+        while (sb.length() < length) {
+            int word = random.nextInt(VOCABULARY);
+            sb.append(word % 3 == 0 ? "메모" : word % 3 == 1 ? "note" : "내용").append(word).append(' ');
+        }
+        return sb.substring(0, length);
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Map<String, Object> properties = BenchmarkDatabase.h2Properties("lazy-contents-" + length);
+        // 매번 DB 에서 읽도록 2차 캐시를 끔
+        properties.put("hibernate.cache.use_second_level_cache", "false");
+        properties.put("hibernate.cache.use_query_cache", "false");
+        jpa = new JpaManager(properties);
+        new MemoBulkWriter(jpa).writeAll(LongStream.rangeClosed(1, ROWS).mapToObj(i -> {
+            Memo memo = new Memo();
+            memo.setUsername("user-" + i);
+            memo.setContents(text(i, length));
+            return memo;
+        }));
+
+        // 조회하는 컬럼의 저장 크기 (행 평균)
+        double[] bytes = jpa.runReadOnly(em -> {
+            Object[] row = (Object[]) em.createNativeQuery("select avg(octet_length(contents)),"
+                    + " avg(8 + octet_length(username) + octet_length(contents_preview) + 8 + 8 + 8) from memo").getSingleResult();
+            return new double[]{((Number) row[0]).doubleValue(), ((Number) row[1]).doubleValue()};
+        });
+        double selected = profile == MemoFetchProfile.FULL ? bytes[1] + bytes[0] : bytes[1];
+        System.out.printf("%n[%s] 엔티티당 읽는 컬럼 %.0f 바이트, 붙잡는 힙 %.0f 바이트%n", profile, selected, retainedPerEntity());
+    }
+
+    // 영속성 컨텍스트에 5000건을 올렸을 때 늘어난 힙 / 5000
+    private double retainedPerEntity() {
+        int count = 5000;
+        // 같은 쿼리를 한 번 실행해 쿼리 계획 캐시와 DB 페이지 캐시를 채워 둠
+        jpa.runReadOnly(em -> query(em, count));
+        EntityManager em = jpa.createEntityManager();
+        try {
+            long before = usedHeap();
+            List<Memo> memos = query(em, count);
+            long after = usedHeap();
+            if (memos.size() != count) {
+                throw new IllegalStateException("조회 건수 = " + memos.size());
+            }
+            Reference.reachabilityFence(memos);
+            return (after - before) / (double) count;
+        } finally {
+            em.close();
+        }
+    }
+
+    // 전체 GC 직후 살아 있는 힙 (GC 가 끝난 시점의 사용량이므로 GC 이후의 할당은 포함하지 않음)
+    private static long usedHeap() {
+        System.gc();
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.getCollectionUsage() != null) {
+                used += pool.getCollectionUsage().getUsed();
+            }
+        }
+        return used;
+    }
+
+    private List<Memo> query(EntityManager em, int count) {
+        return profile.apply(em, em.createQuery("select m from Memo m where m.id <= :last order by m.id", Memo.class))
+                .setParameter("last", (long) count)
+                .getResultList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jpa.close();
+    }
+
+    // PAGE 건 조회 (SUMMARY 는 contents 를 읽지 않으므로 압축도 풀지 않음)
+    @Benchmark
+    public List<Memo> load() {
+        return jpa.runReadOnly(em -> query(em, PAGE));
+    }
+}
@@ -0,0 +1,201 @@
+package com.sparta.benchmark;
+
+import com.sparta.entity.Memo;
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.Persistence;
+import org.hibernate.jpa.SpecHints;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+// PersistenceTest, EntityStateTest 에서 수행하는 영속성 연산들의 처리량 측정
+// 실행: ./gradlew jmh -Pjmh.includes=MemoPersistenceBenchmark (gc 프로파일러로 연산당 할당량 함께 출력)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MemoPersistenceBenchmark {
+
+    private static final Map<String, Object> BYPASS_CACHE =
+            Map.of(SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, CacheRetrieveMode.BYPASS);
+
+    @State(Scope.Benchmark)
+    public static class Database {
+        EntityManagerFactory emf;
+        // 새로 저장할 Memo 의 username 일련번호 (스레드 간 중복 방지)
+        final AtomicLong sequence = new AtomicLong();
+        // 조회/병합 대상으로 미리 저장해두는 Memo 의 Id
+        long seedId;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            emf = Persistence.createEntityManagerFactory("memo", BenchmarkDatabase.h2Properties("persistence"));
+            Memo seed = newMemo();
+            inTransaction(em -> em.persist(seed));
+            seedId = seed.getId();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            emf.close();
+        }
+
+        Memo newMemo() {
+            long number = sequence.incrementAndGet();
+            Memo memo = new Memo();
+            memo.setUsername("user-" + number);
+            memo.setContents("벤치마크 메모 " + number);
+            return memo;
+        }
+
+        void inTransaction(Consumer<EntityManager> work) {
+            EntityManager em = emf.createEntityManager();
+            EntityTransaction et = em.getTransaction();
+            et.begin();
+            try {
+                work.accept(em);
+                et.commit();
+            } catch (RuntimeException ex) {
+                et.rollback();
+                throw ex;
+            } finally {
+                em.close();
+            }
+        }
+    }
+
+    // 1차 캐시에 이미 Memo 가 올라가 있는 EntityManager
+    @State(Scope.Thread)
+    public static class WarmContext {
+        EntityManager em;
+
+        @Setup(Level.Iteration)
+        public void setUp(Database db) {
+            em = db.emf.createEntityManager();
+            em.find(Memo.class, db.seedId);
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() {
+            em.close();
+        }
+    }
+
+    // 영속성 컨텍스트 밖으로 분리된(준영속) Memo
+    @State(Scope.Thread)
+    public static class DetachedMemo {
+        Memo memo;
+        long counter;
+
+        @Setup(Level.Iteration)
+        public void setUp(Database db) {
+            EntityManager em = db.emf.createEntityManager();
+            try {
+                memo = em.find(Memo.class, db.seedId);
+            } finally {
+                em.close();
+            }
+        }
+    }
+
+    // 트랜잭션이 열린 상태로 유지되는 EntityManager (flush 측정용)
+    @State(Scope.Thread)
+    public static class OpenTransaction {
+        EntityManager em;
+        Memo memo;
+        long counter;
+
+        @Setup(Level.Iteration)
+        public void setUp(Database db) {
+            em = db.emf.createEntityManager();
+            em.getTransaction().begin();
+            memo = db.newMemo();
+            em.persist(memo);
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() {
+            em.getTransaction().commit();
+            em.close();
+        }
+    }
+
+    // 삭제 대상으로 매 호출마다 새로 저장되는 Memo
+    @State(Scope.Thread)
+    public static class RemovableMemo {
+        long id;
+
+        @Setup(Level.Invocation)
+        public void setUp(Database db) {
+            Memo memo = db.newMemo();
+            db.inTransaction(em -> em.persist(memo));
+            id = memo.getId();
+        }
+    }
+
+    // em.persist() : 비영속 Memo 저장 후 커밋
+    @Benchmark
+    public Memo persist(Database db) {
+        Memo memo = db.newMemo();
+        db.inTransaction(em -> em.persist(memo));
+        return memo;
+    }
+
+    // em.find() : 1차 캐시에 없어 DB 조회가 발생하는 경우
+    // Memo 는 2차 캐시 대상이므로 2차 캐시를 건너뛰어야 DB 조회를 측정함
+    @Benchmark
+    public Memo findCold(Database db) {
+        EntityManager em = db.emf.createEntityManager();
+        try {
+            return em.find(Memo.class, db.seedId, BYPASS_CACHE);
+        } finally {
+            em.close();
+        }
+    }
+
+    // em.find() : 1차 캐시에서 바로 반환되는 경우
+    @Benchmark
+    public Memo findWarm(Database db, WarmContext context) {
+        return context.em.find(Memo.class, db.seedId);
+    }
+
+    // em.merge() : 준영속 Memo 를 다시 영속 상태로 병합 후 커밋
+    // 커밋하면 버전이 올라가므로 다음 호출은 병합 결과 (EntityManager 를 닫아 준영속이 된 것) 를 병합
+    // (같은 준영속 Memo 를 다시 병합하면 낡은 버전이라 OptimisticLockException)
+    @Benchmark
+    public void merge(Database db, DetachedMemo detached) {
+        detached.memo.setContents("merge() 수정 " + detached.counter++);
+        db.inTransaction(em -> detached.memo = em.merge(detached.memo));
+    }
+
+    // em.flush() : 변경된 Memo 를 커밋 없이 DB 에 반영
+    @Benchmark
+    public void flush(OpenTransaction tx) {
+        tx.memo.setContents("flush() 호출 " + tx.counter++);
+        tx.em.flush();
+    }
+
+    // em.remove() : 조회한 Memo 삭제 후 커밋
+    @Benchmark
+    public void remove(Database db, RemovableMemo removable) {
+        db.inTransaction(em -> em.remove(em.find(Memo.class, removable.id)));
+    }
+}
@@ -0,0 +1,108 @@
+package com.sparta.benchmark;
+
+import com.sparta.JpaManager;
+import com.sparta.bulk.MemoBulkWriter;
+import com.sparta.entity.Memo;
+import com.sparta.repository.MemoRepository;
+import com.sparta.repository.MultiGetResult;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.LongStream;
+
+// 식별자 count 개를 한 작업 단위에서 조회 : MemoRepository.findAll (IN 으로 묶어 조회) vs em.find 반복
+// 2차 캐시를 끄고 작업 단위마다 새 EntityManager 를 사용하므로 모두 DB 에서 읽음
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class MultiGetBenchmark {
+
+    static final long ROWS = 100_000;
+
+    @Param({"10", "100", "10000"})
+    int count;
+
+    // IN 절 하나에 넣는 식별자 수
+    @Param({"500"})
+    int chunkSize;
+
+    // SQL 한 번마다 더하는 네트워크 왕복 시간 (마이크로초, 내장 H2 는 왕복 비용이 없으므로 원격 DB 를 흉내냄)
+    @Param({"0", "500"})
+    long rttMicros;
+
+    JpaManager jpa;
+    List<Long> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Map<String, Object> properties = BenchmarkDatabase.h2Properties("multi-get");
+        properties.put("hibernate.cache.use_second_level_cache", "false");
+        properties.put("hibernate.cache.use_query_cache", "false");
+        if (rttMicros > 0) {
+            long rttNanos = TimeUnit.MICROSECONDS.toNanos(rttMicros);
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+                LockSupport.parkNanos(rttNanos);
+                return sql;
+            });
+        }
+        jpa = new JpaManager(properties);
+        new MemoBulkWriter(jpa).writeAll(LongStream.rangeClosed(1, ROWS).mapToObj(i -> {
+            Memo memo = new Memo();
+            memo.setUsername("user-" + i);
+            memo.setContents("다건 조회 벤치마크 " + i);
+            return memo;
+        }));
+
+        // 저장된 식별자 중 count 개를 무작위 순서로
+        List<Long> all = jpa.runReadOnly(em -> em.createQuery("select m.id from Memo m", Long.class).getResultList());
+        all = new ArrayList<>(all);
+        Collections.shuffle(all, new Random(23));
+        ids = List.copyOf(all.subList(0, count));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jpa.close();
+    }
+
+    // chunkSize 개씩 IN 으로 조회 (count=10000, chunkSize=500 이면 SELECT 20번)
+    @Benchmark
+    public MultiGetResult findAll() {
+        return jpa.runReadOnly(em -> new MemoRepository(em).findAll(ids, chunkSize));
+    }
+
+    // 식별자마다 SELECT 한 번
+    @Benchmark
+    public List<Memo> findLoop() {
+        return jpa.runReadOnly(em -> {
+            List<Memo> memos = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                memos.add(em.find(Memo.class, id));
+            }
+            return memos;
+        });
+    }
+}
@@ -0,0 +1,87 @@
+package com.sparta.benchmark;
+
+import com.sparta.JpaManager;
+import com.sparta.bulk.MemoBulkWriter;
+import com.sparta.entity.Memo;
+import com.sparta.repository.MemoRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+// username 으로 Memo 조회 : natural id 조회(naturalId) vs 매번 실행하는 JPQL(jpql)
+// rows 건을 저장해두고, 자주 조회되는 hotSet 개의 username 중 하나를 작업 단위마다 조회
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class NaturalIdBenchmark {
+
+    @Param({"1000000"})
+    long rows;
+
+    @Param({"1000"})
+    int hotSet;
+
+    JpaManager jpa;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jpa = new JpaManager(BenchmarkDatabase.h2Properties("natural-id"));
+        new MemoBulkWriter(jpa).writeAll(LongStream.rangeClosed(1, rows).mapToObj(i -> {
+            Memo memo = new Memo();
+            memo.setUsername("user-" + i);
+            memo.setContents("natural id 벤치마크 " + i);
+            return memo;
+        }));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jpa.close();
+    }
+
+    private String randomUsername() {
+        return "user-" + (ThreadLocalRandom.current().nextInt(hotSet) + 1);
+    }
+
+    // natural id 캐시 → 2차 캐시 순서로 확인, 캐시에 없을 때만 SQL 실행
+    @Benchmark
+    public Memo naturalId() {
+        EntityManager em = jpa.createEntityManager();
+        try {
+            return new MemoRepository(em).findByUsername(randomUsername()).orElseThrow();
+        } finally {
+            em.close();
+        }
+    }
+
+    // 캐시 힌트가 없는 JPQL : 매번 SQL 실행
+    @Benchmark
+    public Memo jpql() {
+        EntityManager em = jpa.createEntityManager();
+        try {
+            return em.createQuery("select m from Memo m where m.username = :username", Memo.class)
+                    .setParameter("username", randomUsername())
+                    .getSingleResult();
+        } finally {
+            em.close();
+        }
+    }
+}
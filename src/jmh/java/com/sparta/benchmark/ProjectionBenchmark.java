@@ -0,0 +1,102 @@
+package com.sparta.benchmark;
+
+import com.sparta.JpaManager;
+import com.sparta.bulk.MemoBulkWriter;
+import com.sparta.entity.Memo;
+import com.sparta.repository.MemoRepository;
+import com.sparta.repository.MemoSummary;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+// 목록 한 페이지 조회 : 엔티티 전체 로딩(entity) vs 생성자 표현식(constructor) vs Tuple 쿼리(tuple)
+// 세 방식 모두 같은 keyset 조건(id > :afterId order by id)으로 pageSize 건을 읽음
+// 행당 할당량은 -prof gc 의 gc.alloc.rate.norm 을 pageSize 로 나눈 값
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class ProjectionBenchmark {
+
+    @Param({"100000"})
+    long rows;
+
+    @Param({"100"})
+    int pageSize;
+
+    JpaManager jpa;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jpa = new JpaManager(BenchmarkDatabase.h2Properties("projection"));
+        // 목록에는 필요 없는 contents 컬럼을 최대 길이(500자)로 채움
+        String contents = "목".repeat(500);
+        new MemoBulkWriter(jpa).writeAll(LongStream.rangeClosed(1, rows).mapToObj(i -> {
+            Memo memo = new Memo();
+            memo.setUsername("user-" + i);
+            memo.setContents(contents);
+            return memo;
+        }));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jpa.close();
+    }
+
+    private long randomAfterId() {
+        return ThreadLocalRandom.current().nextLong(rows - pageSize);
+    }
+
+    // 모든 컬럼을 읽어 관리 상태의 엔티티로 만들고 스냅샷까지 보관
+    @Benchmark
+    public List<Memo> entity() {
+        EntityManager em = jpa.createEntityManager();
+        try {
+            return em.createQuery("select m from Memo m where m.id > :afterId order by m.id", Memo.class)
+                    .setParameter("afterId", randomAfterId())
+                    .setMaxResults(pageSize)
+                    .getResultList();
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public List<MemoSummary> constructor() {
+        EntityManager em = jpa.createEntityManager();
+        try {
+            return new MemoRepository(em).findSummaries(randomAfterId(), pageSize);
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public List<MemoSummary> tuple() {
+        EntityManager em = jpa.createEntityManager();
+        try {
+            return new MemoRepository(em).findSummariesAsTuples(randomAfterId(), pageSize);
+        } finally {
+            em.close();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.sparta.benchmark;
+
+import com.sparta.JpaManager;
+import com.sparta.bulk.MemoBulkWriter;
+import com.sparta.entity.Memo;
+import com.sparta.repository.MemoScanner;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+// memo 테이블 전체 읽기 : em.createQuery("from Memo") (plain) vs 읽기 전용 작업 단위 (readOnly) vs StatelessSession 스캐너 (stateless)
+// 한 번 읽는 데 걸린 시간, 초당 행 수, 실행 중 Old 영역 최대 사용량을 출력
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ScanBenchmark {
+
+    @Param({"5000000"})
+    long rows;
+
+    @Param({"plain", "readOnly", "stateless"})
+    String mode;
+
+    JpaManager jpa;
+    long start;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jpa = new JpaManager(BenchmarkDatabase.h2Properties("scan"));
+        new MemoBulkWriter(jpa).writeAll(LongStream.rangeClosed(1, rows).mapToObj(i -> {
+            Memo memo = new Memo();
+            memo.setUsername("user-" + i);
+            memo.setContents("스캔 벤치마크 " + i);
+            return memo;
+        }));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jpa.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetPeak() {
+        System.gc();
+        oldGenPools().forEach(MemoryPoolMXBean::resetPeakUsage);
+        start = System.nanoTime();
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long peak = oldGenPools().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        System.out.printf("%n[%s] %.0f rows/s, peak old gen = %d MB%n", mode, rows / seconds, peak / (1024 * 1024));
+    }
+
+    @Benchmark
+    public long scan(Blackhole blackhole) {
+        switch (mode) {
+            case "plain": {
+                // 모든 Memo 를 영속성 컨텍스트에 올리고 변경 감지용 스냅샷까지 보관
+                EntityManager em = jpa.createEntityManager();
+                try {
+                    List<Memo> memos = em.createQuery("from Memo", Memo.class).getResultList();
+                    memos.forEach(blackhole::consume);
+                    return memos.size();
+                } finally {
+                    em.close();
+                }
+            }
+            case "readOnly":
+                // 영속성 컨텍스트에는 올리지만 스냅샷은 만들지 않음
+                return jpa.runReadOnly(em -> {
+                    List<Memo> memos = em.createQuery("from Memo", Memo.class).getResultList();
+                    memos.forEach(blackhole::consume);
+                    return (long) memos.size();
+                });
+            default:
+                // 한 건씩 전달하고 어디에도 보관하지 않음
+                return new MemoScanner(jpa.getEntityManagerFactory()).scan(blackhole::consume);
+        }
+    }
+
+    private static Stream<MemoryPoolMXBean> oldGenPools() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .filter(pool -> pool.getName().contains("Old") || pool.getName().contains("Tenured"));
+    }
+}
@@ -0,0 +1,103 @@
+package com.sparta.benchmark;
+
+import com.sparta.JpaManager;
+import com.sparta.bulk.MemoBulkWriter;
+import com.sparta.entity.Memo;
+import com.sparta.schema.SchemaMigrator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+// rows 건이 채워진 memo 테이블이 있을 때 EntityManagerFactory 시작 시간
+// create   : 이전 설정 (hibernate.hbm2ddl.auto=create) 시작할 때마다 테이블을 지우고 다시 만듦 → 데이터가 사라지므로 반복마다 다시 채움
+// validate : 현재 설정 (마이그레이션 검증 + hibernate.hbm2ddl.auto=validate) 데이터는 그대로 둠
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgs = {"-Xmx512m"})
+@State(Scope.Benchmark)
+public class SchemaStartupBenchmark {
+
+    static final long CHUNK = 100_000;
+
+    @Param({"100000"})
+    long rows;
+
+    @Param({"create", "validate"})
+    String schema;
+
+    Path dir;
+    // 데이터베이스 서버가 떠 있는 상황처럼 측정 동안 데이터베이스를 열어 두는 커넥션
+    // (마지막 커넥션이 닫히면 H2 가 파일을 닫으므로, 열어 두지 않으면 매번 파일을 여는 시간까지 측정됨)
+    Connection keepOpen;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        dir = Files.createDirectories(Path.of("build", "jmh-data", "startup-" + rows));
+        Map<String, Object> properties = BenchmarkDatabase.h2FileProperties(dir);
+        keepOpen = DriverManager.getConnection((String) properties.get("jakarta.persistence.jdbc.url"), "sa", "");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        keepOpen.close();
+    }
+
+    // 측정 밖에서 rows 건이 채워져 있도록 맞춤 (create 는 매번 지워지므로 매 반복 다시 채움)
+    @Setup(Level.Iteration)
+    public void populate() {
+        Map<String, Object> properties = BenchmarkDatabase.h2FileProperties(dir);
+        try (JpaManager jpa = new JpaManager(properties)) {
+            long count = jpa.runReadOnly(em -> em.createQuery("select count(m) from Memo m", Long.class)
+                    .getSingleResult());
+            if (count == rows) {
+                return;
+            }
+            jpa.runInTransaction(em -> em.createNativeQuery("truncate table memo").executeUpdate());
+            // 한 트랜잭션이 너무 커지지 않도록 CHUNK 건씩 나눠서 저장
+            MemoBulkWriter writer = new MemoBulkWriter(jpa);
+            for (long from = 1; from <= rows; from += CHUNK) {
+                writer.writeAll(LongStream.range(from, Math.min(from + CHUNK, rows + 1)).mapToObj(i -> {
+                    Memo memo = new Memo();
+                    memo.setUsername("user-" + i);
+                    memo.setContents("시작 시간 벤치마크 " + i);
+                    return memo;
+                }));
+            }
+        }
+    }
+
+    @Benchmark
+    public void start() {
+        Map<String, Object> properties = BenchmarkDatabase.h2FileProperties(dir);
+        if (schema.equals("create")) {
+            properties.put("hibernate.hbm2ddl.auto", "create");
+            properties.put(SchemaMigrator.MODE, SchemaMigrator.Mode.NONE.name());
+        } else {
+            properties.put("hibernate.hbm2ddl.auto", "validate");
+            properties.put(SchemaMigrator.MODE, SchemaMigrator.Mode.VALIDATE.name());
+        }
+        new JpaManager(properties).close();
+    }
+}
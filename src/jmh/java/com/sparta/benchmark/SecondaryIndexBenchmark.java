@@ -0,0 +1,175 @@
+package com.sparta.benchmark;
+
+import com.sparta.JpaManager;
+import com.sparta.bulk.MemoBulkWriter;
+import com.sparta.entity.Memo;
+import com.sparta.repository.MemoRepository;
+import com.sparta.repository.MemoSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+// rows 건에서 MemoRepository 조회 지연시간 : 보조 인덱스가 있을 때(indexed=true) vs 없을 때(false)
+// 인덱스가 없으면 매 조회마다 전체 테이블을 읽고, 있으면 인덱스 범위에서 limit 건만 읽음
+// 데이터는 파일 기반 H2 에 저장하고 build/jmh-data 에 남겨두고 재사용 (indexed 에 따라 인덱스만 만들거나 지움)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class SecondaryIndexBenchmark {
+
+    static final long CHUNK = 100_000;
+    static final int LIMIT = 20;
+
+    // V2, V3 마이그레이션의 보조 인덱스 (H2 문법)
+    static final Map<String, String> INDEXES = Map.of(
+            "uk_memo_username", "alter table memo add constraint uk_memo_username unique (username)",
+            "idx_memo_recent", "create index idx_memo_recent on memo (created_at desc, id desc, username)",
+            "idx_memo_updated_at", "create index idx_memo_updated_at on memo (updated_at)",
+            "idx_memo_contents_preview", "create index idx_memo_contents_preview on memo (contents_preview)");
+
+    @Param({"5000000"})
+    long rows;
+
+    @Param({"true", "false"})
+    boolean indexed;
+
+    JpaManager jpa;
+    Path dir;
+    // 마지막 100초 동안 수정된 행 (약 100건) 을 조회하는 기준 시각
+    LocalDateTime since;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dir = Files.createDirectories(Path.of("build", "jmh-data", "index-" + rows));
+        jpa = new JpaManager(properties());
+        long count = jpa.runReadOnly(em -> em.createQuery("select count(m) from Memo m", Long.class)
+                .getSingleResult());
+        if (count != rows) {
+            // 인덱스를 유지하지 않도록 지운 상태에서 채움
+            INDEXES.keySet().forEach(this::dropIndex);
+            jpa.runInTransaction(em -> em.createNativeQuery("truncate table memo").executeUpdate());
+            populate();
+        }
+        INDEXES.forEach((name, ddl) -> {
+            if (indexed) {
+                createIndex(name, ddl);
+            } else {
+                dropIndex(name);
+            }
+        });
+        since = jpa.runReadOnly(em -> em.createQuery("select max(m.updatedAt) from Memo m", LocalDateTime.class)
+                .getSingleResult()).minusSeconds(100);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jpa.close();
+    }
+
+    // 같은 쿼리를 반복하므로 H2 의 쿼리 결과 캐시를 꺼서 매번 실제로 실행되게 함
+    private Map<String, Object> properties() {
+        Map<String, Object> properties = BenchmarkDatabase.h2FileProperties(dir);
+        properties.put("jakarta.persistence.jdbc.url", properties.get("jakarta.persistence.jdbc.url") + ";QUERY_CACHE_SIZE=0");
+        return properties;
+    }
+
+    private void populate() {
+        // 한 트랜잭션이 너무 커지지 않도록 CHUNK 건씩 나눠서 저장
+        MemoBulkWriter writer = new MemoBulkWriter(jpa);
+        for (long from = 1; from <= rows; from += CHUNK) {
+            writer.writeAll(LongStream.range(from, Math.min(from + CHUNK, rows + 1)).mapToObj(i -> {
+                Memo memo = new Memo();
+                memo.setUsername("user-" + i);
+                memo.setContents("인덱스 벤치마크 " + i);
+                return memo;
+            }));
+        }
+
+        // 한꺼번에 저장하면 생성 시각이 거의 같으므로 식별자 순서대로 1초씩 벌려 둠
+        long minId = jpa.runReadOnly(em -> em.createQuery("select min(m.id) from Memo m", Long.class).getSingleResult());
+        long maxId = jpa.runReadOnly(em -> em.createQuery("select max(m.id) from Memo m", Long.class).getSingleResult());
+        for (long from = minId; from <= maxId; from += CHUNK) {
+            long start = from;
+            long end = from + CHUNK - 1;
+            jpa.runInTransaction(em -> em.createNativeQuery("update memo"
+                            + " set created_at = dateadd(second, id - ?1, timestamp '2020-01-01 00:00:00'),"
+                            + " updated_at = dateadd(second, id - ?1, timestamp '2020-01-01 00:00:00')"
+                            + " where id between ?2 and ?3")
+                    .setParameter(1, minId)
+                    .setParameter(2, start)
+                    .setParameter(3, end)
+                    .executeUpdate());
+        }
+    }
+
+    private void createIndex(String name, String ddl) {
+        if (!indexExists(name)) {
+            jpa.runInTransaction(em -> em.createNativeQuery(ddl).executeUpdate());
+        }
+    }
+
+    private void dropIndex(String name) {
+        if (indexExists(name)) {
+            String ddl = name.startsWith("uk_")
+                    ? "alter table memo drop constraint " + name
+                    : "drop index " + name;
+            jpa.runInTransaction(em -> em.createNativeQuery(ddl).executeUpdate());
+        }
+    }
+
+    // 유니크 제약은 이름이 제약 이름으로만 남으므로 제약 목록에서 확인
+    private boolean indexExists(String name) {
+        String sql = name.startsWith("uk_")
+                ? "select count(*) from information_schema.table_constraints where table_name = 'memo' and constraint_name = ?1"
+                : "select count(*) from information_schema.indexes where table_name = 'memo' and index_name = ?1";
+        return jpa.runReadOnly(em -> ((Number) em.createNativeQuery(sql)
+                .setParameter(1, name)
+                .getSingleResult()).longValue() > 0);
+    }
+
+    // username 접두사 검색 (약 11건)
+    @Benchmark
+    public List<MemoSummary> usernamePrefix() {
+        return jpa.runReadOnly(em -> new MemoRepository(em).findSummariesByUsernamePrefix("user-49999", LIMIT));
+    }
+
+    // 최신순 목록
+    @Benchmark
+    public List<MemoSummary> recent() {
+        return jpa.runReadOnly(em -> new MemoRepository(em).findRecentSummaries(LIMIT));
+    }
+
+    // 최근 100초 동안 수정된 메모
+    @Benchmark
+    public List<Memo> updatedSince() {
+        return jpa.runReadOnly(em -> new MemoRepository(em).findUpdatedSince(since, LIMIT));
+    }
+
+    // 내용 접두사 검색 (약 11건)
+    @Benchmark
+    public List<MemoSummary> contentsPrefix() {
+        return jpa.runReadOnly(em -> new MemoRepository(em).findSummariesByContentsPrefix("인덱스 벤치마크 49999", LIMIT));
+    }
+}
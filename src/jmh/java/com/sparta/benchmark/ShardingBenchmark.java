@@ -0,0 +1,102 @@
+package com.sparta.benchmark;
+
+import com.sparta.entity.Memo;
+import com.sparta.shard.MemoShards;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+// 샤드 수별 처리량 : 8개 스레드가 저장과 식별자 조회를 반반씩 섞어 실행
+// 샤드 하나를 커넥션 하나로 SQL 을 한 번에 하나씩, 1ms 씩 걸려 처리하는 서버로 두므로 (네트워크 왕복과 서버 처리 시간 대역)
+// 샤드를 늘리면 동시에 처리할 수 있는 SQL 수만큼 처리량이 늘어남
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+@Threads(8)
+@State(Scope.Benchmark)
+public class ShardingBenchmark {
+
+    @Param({"1", "4"})
+    int shardCount;
+
+    // SQL 한 번에 걸리는 시간 (마이크로초)
+    @Param({"1000"})
+    long latency;
+
+    final AtomicLong sequence = new AtomicLong();
+    MemoShards shards;
+    List<Long> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long latencyNanos = TimeUnit.MICROSECONDS.toNanos(latency);
+        StatementInspector slow = sql -> {
+            try {
+                TimeUnit.NANOSECONDS.sleep(latencyNanos);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return sql;
+        };
+        String prefix = "sharding-" + UUID.randomUUID() + "-";
+        List<String> urls = IntStream.range(0, shardCount)
+                .mapToObj(i -> (String) BenchmarkDatabase.h2Properties(prefix + i).get("jakarta.persistence.jdbc.url"))
+                .toList();
+        Map<String, Object> properties = BenchmarkDatabase.h2Properties(prefix + "unused");
+        properties.remove("jakarta.persistence.jdbc.url");
+        properties.put("memo.pool.maximum-pool-size", "1");
+        properties.put(AvailableSettings.STATEMENT_INSPECTOR, slow);
+        shards = new MemoShards(urls, properties);
+
+        ids = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            ids.add(shards.persist(memo("seed-" + i)));
+        }
+    }
+
+    private static Memo memo(String username) {
+        Memo memo = new Memo();
+        memo.setUsername(username);
+        memo.setContents("샤드 " + username);
+        return memo;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        shards.close();
+    }
+
+    // 저장 또는 식별자 조회 (반반)
+    @Benchmark
+    public Object mixed() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextBoolean()) {
+            return shards.persist(memo("load-" + sequence.incrementAndGet()));
+        }
+        return shards.find(ids.get(random.nextInt(ids.size()))).orElseThrow();
+    }
+}
@@ -0,0 +1,84 @@
+package com.sparta.benchmark;
+
+import com.sparta.JpaManager;
+import com.sparta.entity.Memo;
+import com.sparta.sqllog.AsyncSqlLogger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Memo 하나를 저장하고 커밋하는 작업 단위의 지연시간
+// none: SQL 로그 없음, console: hibernate.show_sql + format_sql + use_sql_comments, async: AsyncSqlLogger (파일)
+// 4개 스레드가 동시에 실행하므로 console 은 System.out 잠금 경합까지 포함
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+@Threads(4)
+@State(Scope.Benchmark)
+public class SqlLoggingBenchmark {
+
+    @Param({"none", "console", "async"})
+    String mode;
+
+    JpaManager jpa;
+    Path dir;
+    final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("sql-log");
+        Map<String, Object> properties = BenchmarkDatabase.h2Properties("sql-log");
+        if (mode.equals("console")) {
+            properties.put("hibernate.show_sql", "true");
+            properties.put("hibernate.format_sql", "true");
+            properties.put("hibernate.use_sql_comments", "true");
+        } else if (mode.equals("async")) {
+            properties.put(AsyncSqlLogger.ENABLED, "true");
+            properties.put(AsyncSqlLogger.FILE, dir.resolve("sql.log").toString());
+            // console 과 같은 조건으로 비교하도록 모든 SQL 과 파라미터를 기록
+            properties.put(AsyncSqlLogger.SAMPLE_RATE, "1.0");
+            properties.put(AsyncSqlLogger.PARAMETERS, "true");
+        }
+        jpa = new JpaManager(properties);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        jpa.close();
+        try (var paths = Files.walk(dir)) {
+            paths.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public Long persistAndCommit() {
+        long n = sequence.incrementAndGet();
+        return jpa.runInTransaction(em -> {
+            Memo memo = new Memo();
+            memo.setUsername("user-" + n);
+            memo.setContents("SQL 로그 벤치마크 " + n);
+            em.persist(memo);
+            return memo.getId();
+        });
+    }
+}
@@ -0,0 +1,114 @@
+package com.sparta.benchmark;
+
+import com.sparta.JpaManager;
+import com.sparta.UnitOfWorkExecutor;
+import com.sparta.bulk.MemoBulkWriter;
+import com.sparta.entity.Memo;
+import com.sparta.jdbc.PooledConnectionProvider;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+// UnitOfWorkExecutor 부하 테스트 : 가상 스레드(virtual) vs 고정 크기 플랫폼 스레드 풀(platform)
+// clients 명의 클라이언트가 각자 requests 번씩, 앞 요청이 끝나면 다음 요청을 보냄
+// 요청 하나는 Memo 하나를 조회한 뒤 원격 DB 왕복을 흉내 내어 latencyMs 동안 블로킹
+// 실행: gradle loadTest -PloadTest.args="clients requests latencyMs platformThreads" (가상 스레드는 Java 21 이상에서 실행)
+public final class UnitOfWorkLoadTest {
+
+    static final long ROWS = 10_000;
+
+    private UnitOfWorkLoadTest() {}
+
+    public static void main(String[] args) {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int requests = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+        long latencyMs = args.length > 2 ? Long.parseLong(args[2]) : 2;
+
+        try (JpaManager jpa = new JpaManager(BenchmarkDatabase.h2Properties("load-test"))) {
+            new MemoBulkWriter(jpa).writeAll(LongStream.rangeClosed(1, ROWS).mapToObj(i -> {
+                Memo memo = new Memo();
+                memo.setUsername("user-" + i);
+                memo.setContents("부하 테스트 " + i);
+                return memo;
+            }));
+            int poolSize = PooledConnectionProvider.from(jpa.getEntityManagerFactory()).getMaximumPoolSize();
+            int platformThreads = args.length > 3 ? Integer.parseInt(args[3]) : poolSize;
+
+            System.out.printf("Java %s, clients=%d, requests=%d, latency=%dms, pool=%d%n",
+                    Runtime.version(), clients, requests, latencyMs, poolSize);
+
+            // 워밍업 후 측정
+            for (int round = 0; round < 2; round++) {
+                boolean measure = round == 1;
+                try (UnitOfWorkExecutor executor = new UnitOfWorkExecutor(jpa)) {
+                    run(measure ? (executor.isVirtual() ? "virtual" : "cached (Java 21 미만)") : null,
+                            executor, clients, requests, latencyMs);
+                }
+                try (UnitOfWorkExecutor executor = new UnitOfWorkExecutor(jpa,
+                        Executors.newFixedThreadPool(platformThreads), poolSize)) {
+                    run(measure ? "platform x" + platformThreads : null, executor, clients, requests, latencyMs);
+                }
+            }
+        }
+    }
+
+    // label 이 null 이면 결과를 출력하지 않음 (워밍업)
+    private static void run(String label, UnitOfWorkExecutor executor, int clients, int requests, long latencyMs) {
+        long[] latencies = new long[clients * requests];
+        AtomicInteger recorded = new AtomicInteger();
+
+        long start = System.nanoTime();
+        CompletableFuture<?>[] running = new CompletableFuture<?>[clients];
+        for (int c = 0; c < clients; c++) {
+            running[c] = client(executor, requests, latencyMs, latencies, recorded);
+        }
+        CompletableFuture.allOf(running).join();
+        long elapsed = System.nanoTime() - start;
+
+        if (label == null) {
+            return;
+        }
+        Arrays.sort(latencies);
+        System.out.printf("%-24s %8.0f req/s  p50 %7.2f ms  p99 %7.2f ms  max %7.2f ms%n",
+                label,
+                latencies.length * (double) TimeUnit.SECONDS.toNanos(1) / elapsed,
+                percentile(latencies, 0.50) / 1e6,
+                percentile(latencies, 0.99) / 1e6,
+                latencies[latencies.length - 1] / 1e6);
+    }
+
+    // 한 클라이언트 : 앞 요청이 끝나면 다음 요청을 보내는 것을 remaining 번 반복
+    private static CompletableFuture<Void> client(UnitOfWorkExecutor executor, int remaining, long latencyMs,
+                                                  long[] latencies, AtomicInteger recorded) {
+        if (remaining == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        long submitted = System.nanoTime();
+        long id = ThreadLocalRandom.current().nextLong(ROWS) + 1;
+        return executor.submit(em -> {
+            Memo memo = em.find(Memo.class, id);
+            sleep(latencyMs);
+            return memo;
+        }).thenCompose(memo -> {
+            latencies[recorded.getAndIncrement()] = System.nanoTime() - submitted;
+            return client(executor, remaining - 1, latencyMs, latencies, recorded);
+        });
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
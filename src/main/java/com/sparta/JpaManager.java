@@ -0,0 +1,147 @@
+package com.sparta;
+
+import com.sparta.jdbc.ReadOnlyRouting;
+import com.sparta.metrics.PersistenceMetrics;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.Persistence;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+
+import java.util.Map;
+import java.util.function.Function;
+
+// 'memo' 퍼시스턴스 유닛의 EntityManagerFactory 를 프로세스 전체에서 하나만 만들어 재사용
+// EntityManagerFactory 생성(메타모델 구성, 엔티티 스캔, 커넥션 준비)은 비용이 크므로
+// 작업 단위마다 새로 만들지 않고 EntityManager 만 새로 발급
+public final class JpaManager implements AutoCloseable {
+
+    // persistence.xml 에 정의된 퍼시스턴스 유닛 이름
+    public static final String PERSISTENCE_UNIT = "memo";
+
+    // 프로세스 전역 인스턴스
+    private static volatile JpaManager instance;
+
+    private final EntityManagerFactory emf;
+    // 측정을 사용하지 않으면 (memo.metrics.enabled=false) null
+    private final PersistenceMetrics metrics;
+
+    // properties: persistence.xml 의 설정을 덮어쓸 값 (접속 정보 등)
+    public JpaManager(Map<String, ?> properties) {
+        this.emf = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT, properties);
+        this.metrics = Boolean.parseBoolean(String.valueOf(emf.getProperties().get(PersistenceMetrics.ENABLED)))
+                ? PersistenceMetrics.register(emf)
+                : null;
+    }
+
+    // 전역 인스턴스 반환 (최초 호출 시 persistence.xml 설정 그대로 생성)
+    public static JpaManager getInstance() {
+        JpaManager manager = instance;
+        if (manager == null) {
+            synchronized (JpaManager.class) {
+                manager = instance;
+                if (manager == null) {
+                    manager = new JpaManager(Map.of());
+                    instance = manager;
+                }
+            }
+        }
+        return manager;
+    }
+
+    // 전역 인스턴스를 지정한 설정으로 생성 (이미 생성되어 있다면 예외 발생)
+    public static synchronized JpaManager initialize(Map<String, ?> properties) {
+        if (instance != null) {
+            throw new IllegalStateException("JpaManager 가 이미 초기화되었습니다.");
+        }
+        instance = new JpaManager(properties);
+        return instance;
+    }
+
+    // 전역 인스턴스를 닫고 해제 (프로세스 종료 시 호출)
+    public static synchronized void shutdown() {
+        if (instance != null) {
+            instance.close();
+            instance = null;
+        }
+    }
+
+    public EntityManagerFactory getEntityManagerFactory() {
+        return emf;
+    }
+
+    // 영속성 계층 측정값 (memo.metrics.enabled=false 이면 예외 발생)
+    public PersistenceMetrics getMetrics() {
+        if (metrics == null) {
+            throw new IllegalStateException("측정이 꺼져 있습니다: " + PersistenceMetrics.ENABLED + "=false");
+        }
+        return metrics;
+    }
+
+    // 새로운 EntityManager 발급 (사용 후 반드시 close() 호출)
+    // 측정을 사용하면 작업별 지연시간을 기록하는 EntityManager 를 발급
+    public EntityManager createEntityManager() {
+        EntityManager em = emf.createEntityManager();
+        return metrics == null ? em : metrics.instrument(em);
+    }
+
+    // 트랜잭션 시작 → 작업 수행 → 커밋, 예외 발생 시 롤백 후 다시 던짐, 마지막에 EntityManager 종료
+    public <T> T runInTransaction(Function<EntityManager, T> work) {
+        EntityManager em = createEntityManager();
+        EntityTransaction et = em.getTransaction();
+
+        et.begin();
+
+        try {
+            T result = work.apply(em);
+            et.commit();
+            return result;
+        } catch (RuntimeException ex) {
+            if (et.isActive()) {
+                et.rollback();
+            }
+            throw ex;
+        } finally {
+            em.close();
+        }
+    }
+
+    // 읽기 전용 작업 단위 : 조회한 엔티티를 읽기 전용으로 관리하여 변경 감지용 스냅샷을 만들지 않고,
+    // flush 도 하지 않음 (조회한 엔티티를 수정해도 DB 에 반영되지 않음)
+    // RoutingConnectionProvider 를 사용하면 복제본 커넥션으로 실행
+    public <T> T runReadOnly(Function<EntityManager, T> work) {
+        return ReadOnlyRouting.readOnly(() -> {
+            EntityManager em = createEntityManager();
+            Session session = em.unwrap(Session.class);
+            session.setDefaultReadOnly(true);
+            session.setHibernateFlushMode(FlushMode.MANUAL);
+            EntityTransaction et = em.getTransaction();
+
+            et.begin();
+
+            try {
+                T result = work.apply(em);
+                et.commit();
+                return result;
+            } catch (RuntimeException ex) {
+                if (et.isActive()) {
+                    et.rollback();
+                }
+                throw ex;
+            } finally {
+                em.close();
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        if (emf.isOpen()) {
+            if (metrics != null) {
+                metrics.unregister();
+            }
+            emf.close();
+        }
+    }
+}
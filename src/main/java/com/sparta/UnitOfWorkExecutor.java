@@ -0,0 +1,136 @@
+package com.sparta;
+
+import com.sparta.entity.Memo;
+import com.sparta.jdbc.PooledConnectionProvider;
+import jakarta.persistence.EntityManager;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// 트랜잭션 단위의 Memo 작업을 동시에 실행하는 실행기
+// 작업마다 새 스레드와 새 EntityManager 를 사용하고 (EntityManager 는 스레드 간에 공유하면 안 됨),
+// 동시에 실행되는 작업 수는 커넥션 풀 크기만큼으로 제한해 풀에서 커넥션을 기다리며 쌓이지 않게 함
+// Java 21 이상에서는 작업마다 가상 스레드를 사용하므로 JDBC 호출로 블로킹되어도 플랫폼 스레드를 점유하지 않음
+// (그보다 낮은 버전에서 실행하면 동시 실행 수만큼의 고정 크기 플랫폼 스레드 풀로 동작해, 허가를 기다리는 스레드가 쌓이지 않음)
+// 대기에는 synchronized 대신 Semaphore 를 사용해 가상 스레드가 캐리어 스레드에 고정(pinning)되지 않게 함
+public class UnitOfWorkExecutor implements AutoCloseable {
+
+    private final JpaManager jpa;
+    private final ExecutorService threads;
+    private final Semaphore permits;
+    private final boolean virtual;
+
+    // 가상 스레드 실행기, 동시 실행 수는 커넥션 풀 최대 크기
+    public UnitOfWorkExecutor(JpaManager jpa) {
+        this(jpa, PooledConnectionProvider.from(jpa.getEntityManagerFactory()).getMaximumPoolSize());
+    }
+
+    // 가상 스레드 실행기, 동시 실행 수는 maxConcurrency
+    public UnitOfWorkExecutor(JpaManager jpa, int maxConcurrency) {
+        this(jpa, newVirtualThreadExecutor(), maxConcurrency);
+    }
+
+    // threads 로 작업을 실행 (플랫폼 스레드 풀과 비교할 때 사용), 실행기를 닫으면 threads 도 종료됨
+    public UnitOfWorkExecutor(JpaManager jpa, ExecutorService threads, int maxConcurrency) {
+        this(jpa, threads, maxConcurrency, false);
+    }
+
+    private UnitOfWorkExecutor(JpaManager jpa, Optional<ExecutorService> virtualThreads, int maxConcurrency) {
+        this(jpa, virtualThreads.orElseGet(() -> Executors.newFixedThreadPool(Math.max(1, maxConcurrency))),
+                maxConcurrency, virtualThreads.isPresent());
+    }
+
+    private UnitOfWorkExecutor(JpaManager jpa, ExecutorService threads, int maxConcurrency, boolean virtual) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency 는 1 이상이어야 합니다: " + maxConcurrency);
+        }
+        this.jpa = jpa;
+        this.threads = threads;
+        this.permits = new Semaphore(maxConcurrency);
+        this.virtual = virtual;
+    }
+
+    // Executors.newVirtualThreadPerTaskExecutor() (Java 21) 가 있으면 호출
+    private static Optional<ExecutorService> newVirtualThreadExecutor() {
+        try {
+            return Optional.of((ExecutorService) MethodHandles.publicLookup()
+                    .findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class))
+                    .invoke());
+        } catch (NoSuchMethodException | IllegalAccessException ex) {
+            return Optional.empty();
+        } catch (Throwable ex) {
+            throw new IllegalStateException("가상 스레드 실행기를 만들 수 없습니다", ex);
+        }
+    }
+
+    // 가상 스레드로 작업을 실행하는지 여부
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    // work 를 자신만의 EntityManager 와 트랜잭션 안에서 실행 (JpaManager.runInTransaction 과 같은 규칙)
+    public <T> CompletableFuture<T> submit(Function<EntityManager, T> work) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("작업 대기 중 인터럽트되었습니다", ex);
+            }
+            try {
+                return jpa.runInTransaction(work);
+            } finally {
+                permits.release();
+            }
+        }, threads);
+    }
+
+    // 저장 후 생성된 식별자 반환
+    public CompletableFuture<Long> persist(Memo memo) {
+        return submit(em -> {
+            em.persist(memo);
+            return memo.getId();
+        });
+    }
+
+    public CompletableFuture<Optional<Memo>> find(Long id) {
+        return submit(em -> Optional.ofNullable(em.find(Memo.class, id)));
+    }
+
+    public CompletableFuture<Memo> merge(Memo memo) {
+        return submit(em -> em.merge(memo));
+    }
+
+    // 삭제했으면 true, 해당 식별자의 Memo 가 없으면 false
+    public CompletableFuture<Boolean> remove(Long id) {
+        return submit(em -> {
+            Memo memo = em.find(Memo.class, id);
+            if (memo == null) {
+                return false;
+            }
+            em.remove(memo);
+            return true;
+        });
+    }
+
+    // 새 작업을 받지 않고, 이미 받은 작업이 끝날 때까지 기다림
+    @Override
+    public void close() {
+        threads.shutdown();
+        try {
+            if (!threads.awaitTermination(1, TimeUnit.MINUTES)) {
+                threads.shutdownNow();
+            }
+        } catch (InterruptedException ex) {
+            threads.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.sparta.bulk;
+
+import java.util.concurrent.TimeUnit;
+
+// 대량 저장 결과 (저장한 행 수와 걸린 시간)
+public record BulkWriteResult(long rows, long elapsedNanos) {
+
+    // 초당 저장한 행 수
+    public double rowsPerSecond() {
+        return elapsedNanos == 0 ? 0 : rows * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+}
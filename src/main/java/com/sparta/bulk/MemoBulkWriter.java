@@ -0,0 +1,62 @@
+package com.sparta.bulk;
+
+import com.sparta.JpaManager;
+import com.sparta.entity.Memo;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+// Memo 대량 저장기
+// 쓰기 지연 저장소에 쌓인 INSERT 를 JDBC 배치로 묶어 보내고,
+// flushInterval 건마다 flush() + clear() 로 영속성 컨텍스트를 비워 메모리 사용량을 일정하게 유지
+public class MemoBulkWriter {
+
+    // persistence.xml 의 hibernate.jdbc.batch_size 와 같은 값
+    public static final int DEFAULT_FLUSH_INTERVAL = 50;
+
+    private final JpaManager jpa;
+    private final int flushInterval;
+
+    public MemoBulkWriter(JpaManager jpa) {
+        this(jpa, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    // flushInterval: flush() + clear() 를 수행할 간격 (JDBC 배치 크기로도 사용)
+    public MemoBulkWriter(JpaManager jpa, int flushInterval) {
+        if (flushInterval < 1) {
+            throw new IllegalArgumentException("flushInterval 은 1 이상이어야 합니다: " + flushInterval);
+        }
+        this.jpa = jpa;
+        this.flushInterval = flushInterval;
+    }
+
+    // 하나의 트랜잭션 안에서 모든 Memo 를 저장 (실패 시 전체 롤백)
+    public BulkWriteResult writeAll(Stream<Memo> memos) {
+        long start = System.nanoTime();
+
+        long rows = jpa.runInTransaction(em -> {
+            Session session = em.unwrap(Session.class);
+            // 전역 설정과 관계없이 이 작업 단위는 flushInterval 크기로 배치 전송
+            session.setJdbcBatchSize(flushInterval);
+            // 대량 저장한 Memo 로 2차 캐시를 채우지 않음
+            session.setCacheMode(CacheMode.IGNORE);
+
+            long count = 0;
+            Iterator<Memo> iterator = memos.iterator();
+            while (iterator.hasNext()) {
+                em.persist(iterator.next());
+
+                if (++count % flushInterval == 0) {
+                    // 쌓인 INSERT 를 배치로 전송하고 1차 캐시 비우기
+                    em.flush();
+                    em.clear();
+                }
+            }
+            return count;
+        });
+
+        return new BulkWriteResult(rows, System.nanoTime() - start);
+    }
+}
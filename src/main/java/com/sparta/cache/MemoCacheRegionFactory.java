@@ -0,0 +1,29 @@
+package com.sparta.cache;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Map;
+
+// JCache(Ehcache) 2차 캐시 영역 팩토리 (persistence.xml 의 hibernate.cache.region.factory_class)
+// 기본 JCacheRegionFactory 는 설정 파일(URI)이 같으면 모든 SessionFactory 가 CacheManager 하나를 같이 쓰므로,
+// 샤드처럼 같은 식별자가 다른 Memo 를 가리키는 SessionFactory 끼리 캐시 항목이 섞이고 하나를 닫으면 나머지의 캐시도 닫힘
+// 설정 파일 URI 에 SessionFactory 의 UUID 를 fragment 로 붙여 SessionFactory 마다 CacheManager 를 따로 만듦
+// (fragment 는 설정 파일을 읽을 때 무시되고, JCache 통계 MXBean 의 CacheManager 이름에 들어감)
+public class MemoCacheRegionFactory extends JCacheRegionFactory {
+
+    @Override
+    protected URI getUri(SessionFactoryOptions settings, Map<String, Object> properties) {
+        URI uri = super.getUri(settings, properties);
+        if (uri == null) {
+            return null;
+        }
+        try {
+            return new URI(uri.getScheme(), uri.getSchemeSpecificPart(), settings.getUuid());
+        } catch (URISyntaxException ex) {
+            throw new IllegalStateException("캐시 설정 URI 를 만들 수 없습니다: " + uri, ex);
+        }
+    }
+}
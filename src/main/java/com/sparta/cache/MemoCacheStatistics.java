@@ -0,0 +1,73 @@
+package com.sparta.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+// Memo 2차 캐시 통계 스냅샷
+// hits/misses/puts: 엔티티 캐시 적중, 실패, 저장 횟수 (하이버네이트 통계)
+// evictions: 크기 제한으로 캐시에서 밀려난 횟수 (이 EntityManagerFactory 의 CacheManager 의 JCache 통계)
+// queryHits/queryMisses: username 조회 쿼리 캐시 적중, 실패 횟수
+public record MemoCacheStatistics(long hits,
+                                  long misses,
+                                  long puts,
+                                  long evictions,
+                                  long queryHits,
+                                  long queryMisses) {
+
+    // Memo 엔티티 캐시 영역 이름 (ehcache.xml 의 cache alias)
+    public static final String REGION = "memo";
+    // username 조회 쿼리 캐시 영역 이름
+    public static final String QUERY_REGION = "memo-query";
+
+    public static MemoCacheStatistics snapshot(EntityManagerFactory emf) {
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        CacheRegionStatistics entity = statistics.getDomainDataRegionStatistics(REGION);
+        CacheRegionStatistics query = statistics.getQueryRegionStatistics(QUERY_REGION);
+
+        return new MemoCacheStatistics(
+                entity.getHitCount(),
+                entity.getMissCount(),
+                entity.getPutCount(),
+                evictions(emf, REGION),
+                query == null ? 0 : query.getHitCount(),
+                query == null ? 0 : query.getMissCount());
+    }
+
+    // JCache 구현체가 등록한 CacheStatistics MXBean 에서 축출 횟수 조회
+    // 같은 이름의 캐시가 EntityManagerFactory 마다 있으므로 이 EntityManagerFactory 의 CacheManager 것만 합산
+    private static long evictions(EntityManagerFactory emf, String cacheName) {
+        String cacheManager = cacheManagerName(emf);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            long evictions = 0;
+            for (ObjectName name : server.queryNames(
+                    new ObjectName("javax.cache:type=CacheStatistics,Cache=" + cacheName + ",*"), null)) {
+                if (cacheManager.equals(name.getKeyProperty("CacheManager"))) {
+                    evictions += (Long) server.getAttribute(name, "CacheEvictions");
+                }
+            }
+            return evictions;
+        } catch (JMException ex) {
+            throw new IllegalStateException("JCache 통계를 조회할 수 없습니다: " + cacheName, ex);
+        }
+    }
+
+    // MXBean 이름의 CacheManager 값 (Ehcache 는 CacheManager URI 의 , : = 줄바꿈을 . 으로 바꿔 사용)
+    private static String cacheManagerName(EntityManagerFactory emf) {
+        RegionFactory regionFactory = emf.unwrap(SessionFactoryImplementor.class).getCache().getRegionFactory();
+        if (!(regionFactory instanceof JCacheRegionFactory jcache)) {
+            throw new IllegalStateException("JCache 2차 캐시가 설정되지 않았습니다: " + regionFactory);
+        }
+        return jcache.getCacheManager().getURI().toString().replaceAll("[,:=\\n]", ".");
+    }
+}
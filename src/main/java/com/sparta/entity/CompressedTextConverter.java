@@ -0,0 +1,187 @@
+package com.sparta.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// 문자열을 압축한 바이트 배열로 저장하는 변환기 (Memo.contents)
+// 저장 형식: 첫 바이트가 형식
+//   RAW(0)        : 뒤에 UTF-8 바이트 그대로
+//   DEFLATE(1)    : 뒤에 원래 UTF-8 바이트 수 (varint), 그 뒤에 deflate 로 압축한 바이트 (zlib 헤더 없음)
+// 짧은 문자열은 압축해도 거의 줄지 않고 CPU 만 쓰므로 COMPRESSION_THRESHOLD 바이트 미만이면 압축하지 않고,
+// 압축했는데 줄지 않으면 (이미 압축된 데이터 등) 원래 바이트를 저장
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, byte[]> {
+    static final byte RAW = 0;
+    static final byte DEFLATE = 1;
+
+    // 이 바이트 수 미만이면 압축하지 않음
+    public static final int COMPRESSION_THRESHOLD = 256;
+    // 저장할 수 있는 최대 바이트 수 (형식 바이트 포함, 컬럼 길이)
+    public static final int MAX_STORED_BYTES = 1 << 20;
+    // 압축을 풀었을 때의 최대 UTF-8 바이트 수 (저장할 때도 검사하므로, 읽을 때 이보다 크면 손상된 데이터)
+    public static final int MAX_TEXT_BYTES = 16 << 20;
+    // 압축 수준 : 메모는 자주 저장하므로 압축률보다 속도 (ContentsCompressionBenchmark 참고)
+    static final int LEVEL = Deflater.BEST_SPEED;
+
+    // Deflater/Inflater 는 네이티브 메모리를 잡으므로 매번 만들지 않고 재사용
+    // 스레드마다 두면 작업마다 스레드를 만드는 실행기(가상 스레드 등)에서 end() 되지 않은 채 쌓이므로,
+    // 최대 POOL_SIZE 개까지만 보관하고 넘치는 것은 바로 end() 해서 네이티브 메모리를 돌려줌
+    static final int POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private static final BlockingQueue<Deflater> DEFLATERS = new ArrayBlockingQueue<>(POOL_SIZE);
+    private static final BlockingQueue<Inflater> INFLATERS = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    @Override
+    public byte[] convertToDatabaseColumn(String attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        byte[] bytes = attribute.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_TEXT_BYTES) {
+            throw new IllegalArgumentException("내용이 너무 깁니다: " + bytes.length + " 바이트 (최대 " + MAX_TEXT_BYTES + ")");
+        }
+        if (bytes.length >= COMPRESSION_THRESHOLD) {
+            byte[] compressed = compress(bytes);
+            if (compressed != null) {
+                return compressed;
+            }
+        }
+        return checkSize(raw(bytes));
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] dbData) {
+        if (dbData == null) {
+            return null;
+        }
+        if (dbData.length == 0) {
+            throw new IllegalArgumentException("형식 바이트가 없습니다.");
+        }
+        return switch (dbData[0]) {
+            case RAW -> new String(dbData, 1, dbData.length - 1, StandardCharsets.UTF_8);
+            case DEFLATE -> new String(decompress(dbData), StandardCharsets.UTF_8);
+            default -> throw new IllegalArgumentException("알 수 없는 형식입니다: " + dbData[0]);
+        };
+    }
+
+    private static byte[] raw(byte[] bytes) {
+        byte[] stored = new byte[bytes.length + 1];
+        stored[0] = RAW;
+        System.arraycopy(bytes, 0, stored, 1, bytes.length);
+        return stored;
+    }
+
+    // 압축한 결과가 원래 형식(RAW)보다 작지 않으면 null
+    private static byte[] compress(byte[] bytes) {
+        int header = 1 + varintSize(bytes.length);
+        // RAW 로 저장할 때의 크기 이상이면 포기하므로 그만큼만 출력 공간을 잡음
+        byte[] stored = new byte[bytes.length + 1];
+        if (header >= stored.length) {
+            return null;
+        }
+        Deflater deflater = DEFLATERS.poll();
+        if (deflater == null) {
+            deflater = new Deflater(LEVEL, true);
+        }
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+            int length = header;
+            while (!deflater.finished() && length < stored.length) {
+                length += deflater.deflate(stored, length, stored.length - length);
+            }
+            if (!deflater.finished()) {
+                return null;
+            }
+            stored[0] = DEFLATE;
+            writeVarint(stored, 1, bytes.length);
+            return checkSize(Arrays.copyOf(stored, length));
+        } finally {
+            deflater.reset();
+            if (!DEFLATERS.offer(deflater)) {
+                deflater.end();
+            }
+        }
+    }
+
+    private static byte[] decompress(byte[] stored) {
+        int length = 0;
+        int offset = 1;
+        for (int shift = 0; ; shift += 7) {
+            if (offset >= stored.length || shift > 28) {
+                throw new IllegalArgumentException("원래 길이를 읽을 수 없습니다.");
+            }
+            byte b = stored[offset++];
+            length |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                break;
+            }
+        }
+        // 손상된 데이터로 큰 배열을 할당하지 않도록 할당 전에 검사
+        if (length < 0 || length > MAX_TEXT_BYTES) {
+            throw new IllegalArgumentException("원래 길이가 올바르지 않습니다: " + length + " 바이트 (최대 " + MAX_TEXT_BYTES + ")");
+        }
+        Inflater inflater = INFLATERS.poll();
+        if (inflater == null) {
+            inflater = new Inflater(true);
+        }
+        try {
+            inflater.setInput(stored, offset, stored.length - offset);
+            byte[] bytes = new byte[length];
+            int read = 0;
+            while (read < length) {
+                int n = inflater.inflate(bytes, read, length - read);
+                if (n == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += n;
+            }
+            if (read != length) {
+                throw new IllegalArgumentException("압축을 풀 수 없습니다: " + read + "/" + length + " 바이트");
+            }
+            // 선언한 길이만큼 풀었으면 스트림도 끝나야 함 (남은 데이터가 있으면 원래 길이가 손상되어 내용이 잘린 것)
+            // 마지막 블록의 끝 표시는 아직 읽지 않았을 수 있으므로 한 바이트 더 풀어 봄
+            if (!inflater.finished() && (inflater.inflate(new byte[1]) > 0 || !inflater.finished())) {
+                throw new IllegalArgumentException("압축을 푼 내용이 원래 길이보다 깁니다: " + length + " 바이트");
+            }
+            return bytes;
+        } catch (DataFormatException ex) {
+            throw new IllegalArgumentException("압축을 풀 수 없습니다.", ex);
+        } finally {
+            inflater.reset();
+            if (!INFLATERS.offer(inflater)) {
+                inflater.end();
+            }
+        }
+    }
+
+    private static byte[] checkSize(byte[] stored) {
+        if (stored.length > MAX_STORED_BYTES) {
+            throw new IllegalArgumentException("내용이 너무 깁니다: " + stored.length + " 바이트 (최대 " + MAX_STORED_BYTES + ")");
+        }
+        return stored;
+    }
+
+    private static int varintSize(int value) {
+        int size = 1;
+        while ((value >>>= 7) != 0) {
+            size++;
+        }
+        return size;
+    }
+
+    private static void writeVarint(byte[] target, int offset, int value) {
+        while ((value & ~0x7F) != 0) {
+            target[offset++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        target[offset] = (byte) value;
+    }
+}
@@ -1,25 +1,116 @@
 package com.sparta.entity;
 
+import jakarta.persistence.Basic;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedQuery;
+import jakarta.persistence.QueryHint;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.LazyGroup;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.jpa.HibernateHints;
+
+import java.time.LocalDateTime;
 
 @Entity // JPA가 관리할 수 있는 Entity 클래스임을 지정
-@Table(name = "memo") // 이 클래스가 매핑될 테이블의 이름을 "memo"로 지정
+// 이 클래스가 매핑될 테이블의 이름을 "memo"로 지정 (인덱스는 db/migration 의 V2, V3 스크립트와 같은 이름으로 선언)
+@Table(name = "memo",
+        uniqueConstraints = {
+                // username 동등 조회와 접두사 검색(username like 'abc%')에 사용
+                @UniqueConstraint(name = "uk_memo_username", columnNames = "username")
+        },
+        indexes = {
+                // 최신순 목록: 정렬 순서(created_at desc, id desc)대로 저장해 두고, id, username 까지 포함하여 테이블을 읽지 않고 요약을 만듦 (커버링 인덱스)
+                @Index(name = "idx_memo_recent", columnList = "created_at desc, id desc, username"),
+                // 변경분 조회: updated_at 이후에 수정된 메모
+                @Index(name = "idx_memo_updated_at", columnList = "updated_at"),
+                // 내용 접두사 검색 (contents_preview like 'abc%', contents 는 압축되어 있어 검색 불가)
+                @Index(name = "idx_memo_contents_preview", columnList = "contents_preview")
+        })
+@Cacheable // 2차 캐시 대상 엔티티임을 지정
+// READ_WRITE: 수정/삭제 시 캐시 항목을 잠그고 커밋 후 갱신하여 오래된 값을 읽지 않도록 보장
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "memo")
+// username → 식별자 변환 결과를 2차 캐시에 저장 (username 조회 시 SQL 없이 식별자를 찾음)
+@NaturalIdCache(region = "memo-natural-id")
+// username 으로 조회하는 쿼리 (결과를 쿼리 캐시에 저장)
+@NamedQuery(name = Memo.FIND_BY_USERNAME,
+        query = "select m from Memo m where m.username = :username",
+        hints = {
+                @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "memo-query")
+        })
+// contents 까지 같은 SELECT 로 읽는 그래프 (MemoFetchProfile.FULL)
+@NamedEntityGraph(name = Memo.FULL_GRAPH, attributeNodes = @NamedAttributeNode("contents"))
 public class Memo {
+    public static final String FIND_BY_USERNAME = "Memo.findByUsername";
+    public static final String FULL_GRAPH = "Memo.full";
+    // contentsPreview 에 보관하는 contents 앞부분의 글자 수
+    public static final int PREVIEW_LENGTH = 100;
+    // contents 를 따로 조회하는 지연 로딩 그룹 이름
+    public static final String CONTENTS_GROUP = "contents";
+
     @Id // 해당 필드가 테이블의 기본 키임을 지정
+    // 식별자를 시퀀스로 자동 생성 (IDENTITY 와 달리 INSERT 전에 식별자를 알 수 있어 JDBC 배치 사용 가능)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "memo_seq")
+    // allocationSize: 한 번의 시퀀스 조회로 미리 확보하는 식별자 개수
+    // (시퀀스가 없는 MySQL 에서는 하이버네이트가 memo_seq 테이블로 대신 구현)
+    @SequenceGenerator(name = "memo_seq", sequenceName = "memo_seq", allocationSize = 50)
     private Long id;
 
     // nullable: null 허용 여부를 지정 (false일 때 null 값 허용하지 않음)
-    // unique: 중복 허용 여부를 지정 (true일 때 중복 값 허용하지 않음)
-    @Column(name = "username", nullable = false, unique = true)
+    // 중복 허용 여부는 @Table 의 uniqueConstraints 로 지정 (uk_memo_username)
+    // @NaturalId: 식별자와 별개로 엔티티를 유일하게 구분하는 업무 키 (username 변경을 허용하므로 mutable)
+    @NaturalId(mutable = true)
+    @Column(name = "username", nullable = false)
     private String username;
 
     // length: 컬럼의 최대 길이를 지정
-    @Column(name = "contents", nullable = false, length = 500)
+    // 긴 메모도 저장할 수 있도록 일정 크기 이상이면 압축한 바이트로 저장 (VARBINARY/MEDIUMBLOB)
+    // 대부분의 작업은 id, username 만 사용하므로 지연 로딩 (바이트코드 향상 필요, 처음 getContents() 할 때 SELECT)
+    // @LazyGroup: 지연 로딩 필드를 처음 읽을 때 같은 그룹의 필드를 한 번에 조회
+    @Convert(converter = CompressedTextConverter.class)
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup(Memo.CONTENTS_GROUP)
+    @Column(name = "contents", nullable = false, length = CompressedTextConverter.MAX_STORED_BYTES)
     private String contents;
 
+    // contents 의 앞부분 (목록 표시와 접두사 검색용, setContents 가 함께 채움)
+    @Column(name = "contents_preview", nullable = false, length = PREVIEW_LENGTH)
+    private String contentsPreview;
+
+    // @Version: 낙관적 잠금용 버전 (수정할 때마다 1씩 증가)
+    // UPDATE 조건에 읽을 때의 버전을 포함하므로, 그 사이 다른 트랜잭션이 먼저 수정했다면 OptimisticLockException 발생
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    // 처음 저장한 시각 (INSERT 할 때 하이버네이트가 채움)
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // 마지막으로 수정한 시각 (INSERT, UPDATE 할 때마다 하이버네이트가 채움)
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
     // 기본 생성자
     public Memo() {}
 
@@ -48,8 +139,41 @@ public class Memo {
         return contents;
     }
 
-    // contents 필드의 setter 메소드
+    // contents 필드의 setter 메소드 (contentsPreview 도 함께 갱신)
     public void setContents(String contents) {
         this.contents = contents;
+        this.contentsPreview = preview(contents);
+    }
+
+    // contentsPreview 필드의 getter 메소드 (contents 로 정해지므로 setter 는 없음)
+    public String getContentsPreview() {
+        return contentsPreview;
+    }
+
+    // 앞부분 PREVIEW_LENGTH 글자 (서로게이트 쌍을 가르지 않도록 코드 포인트 단위로 자름)
+    static String preview(String contents) {
+        if (contents == null || contents.length() <= PREVIEW_LENGTH) {
+            return contents;
+        }
+        int end = PREVIEW_LENGTH;
+        if (Character.isHighSurrogate(contents.charAt(end - 1))) {
+            end--;
+        }
+        return contents.substring(0, end);
+    }
+
+    // version 필드의 getter 메소드 (하이버네이트가 관리하므로 setter 는 없음)
+    public Long getVersion() {
+        return version;
+    }
+
+    // createdAt 필드의 getter 메소드 (하이버네이트가 관리하므로 setter 는 없음)
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    // updatedAt 필드의 getter 메소드 (하이버네이트가 관리하므로 setter 는 없음)
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
     }
 }
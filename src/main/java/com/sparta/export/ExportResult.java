@@ -0,0 +1,12 @@
+package com.sparta.export;
+
+import java.util.concurrent.TimeUnit;
+
+// 내보내기 결과 (내보낸 행 수, 기록한 바이트 수, 걸린 시간)
+public record ExportResult(long rows, long bytes, long elapsedNanos) {
+
+    // 초당 내보낸 행 수
+    public double rowsPerSecond() {
+        return elapsedNanos == 0 ? 0 : rows * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+}
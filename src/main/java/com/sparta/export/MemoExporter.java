@@ -0,0 +1,122 @@
+package com.sparta.export;
+
+import com.sparta.JpaManager;
+import com.sparta.entity.Memo;
+import com.sparta.json.Json;
+import com.sparta.repository.MemoFetchProfile;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+// memo 테이블 전체를 NDJSON (한 줄에 JSON 객체 하나) 파일로 내보내는 익스포터
+// getResultStream() 은 순방향 커서로 fetchSize 건씩 가져오고 (MySQL 은 useCursorFetch=true 필요),
+// fetchSize 건마다 clear() 로 영속성 컨텍스트를 비우며, 파일에는 버퍼가 찰 때마다 FileChannel 로 기록하므로
+// 테이블 크기와 관계없이 메모리 사용량이 일정함
+public class MemoExporter {
+
+    public static final int DEFAULT_FETCH_SIZE = 1000;
+    // 파일 쓰기 버퍼 크기
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    private final JpaManager jpa;
+    private final int fetchSize;
+
+    public MemoExporter(JpaManager jpa) {
+        this(jpa, DEFAULT_FETCH_SIZE);
+    }
+
+    // fetchSize: 커서에서 한 번에 가져올 행 수 (영속성 컨텍스트를 비우는 간격으로도 사용)
+    public MemoExporter(JpaManager jpa, int fetchSize) {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("fetchSize 는 1 이상이어야 합니다: " + fetchSize);
+        }
+        this.jpa = jpa;
+        this.fetchSize = fetchSize;
+    }
+
+    // 모든 Memo 를 식별자 순서로 file 에 기록 (파일이 있으면 덮어씀)
+    public ExportResult exportTo(Path file) {
+        long start = System.nanoTime();
+
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+            long rows = jpa.runReadOnly(em -> {
+                // 내보내는 Memo 로 2차 캐시를 채우지 않음
+                em.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+
+                // contents 까지 같은 SELECT 로 읽음 (지연 로딩이면 Memo 마다 SELECT 를 한 번 더 실행)
+                try (Stream<Memo> memos = MemoFetchProfile.FULL.apply(em, em.createQuery("select m from Memo m order by m.id", Memo.class))
+                        .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                        .getResultStream()) {
+                    long count = 0;
+                    Iterator<Memo> iterator = memos.iterator();
+                    while (iterator.hasNext()) {
+                        write(channel, buffer, toJson(iterator.next()));
+
+                        if (++count % fetchSize == 0) {
+                            // 이미 기록한 Memo 를 1차 캐시에서 제거
+                            em.clear();
+                        }
+                    }
+                    return count;
+                }
+            });
+
+            drain(channel, buffer);
+            return new ExportResult(rows, channel.size(), System.nanoTime() - start);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer, String line) {
+        byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        try {
+            if (bytes.length > buffer.remaining()) {
+                drain(channel, buffer);
+            }
+            if (bytes.length > buffer.capacity()) {
+                // 버퍼보다 긴 줄은 그대로 기록
+                ByteBuffer large = ByteBuffer.wrap(bytes);
+                while (large.hasRemaining()) {
+                    channel.write(large);
+                }
+            } else {
+                buffer.put(bytes);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    // {"id":1,"username":"...","contents":"..."} + 줄바꿈
+    static String toJson(Memo memo) {
+        StringBuilder sb = new StringBuilder(64);
+        sb.append("{\"id\":").append(memo.getId());
+        sb.append(",\"username\":");
+        Json.appendString(sb, memo.getUsername());
+        sb.append(",\"contents\":");
+        Json.appendString(sb, memo.getContents());
+        return sb.append("}\n").toString();
+    }
+}
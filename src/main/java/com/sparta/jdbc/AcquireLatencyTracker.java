@@ -0,0 +1,52 @@
+package com.sparta.jdbc;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// HikariCP 가 커넥션을 내줄 때마다 호출하는 콜백으로 획득 지연시간을 누적
+// 여러 스레드가 동시에 기록하므로 경합이 적은 LongAdder/LongAccumulator 사용
+final class AcquireLatencyTracker implements IMetricsTracker, MetricsTrackerFactory {
+
+    private final LongAdder acquireCount = new LongAdder();
+    private final LongAdder acquireNanos = new LongAdder();
+    private final LongAccumulator maxAcquireNanos = new LongAccumulator(Math::max, 0L);
+    private final LongAdder timeouts = new LongAdder();
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        return this;
+    }
+
+    @Override
+    public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+        acquireCount.increment();
+        acquireNanos.add(elapsedAcquiredNanos);
+        maxAcquireNanos.accumulate(elapsedAcquiredNanos);
+    }
+
+    @Override
+    public void recordConnectionTimeout() {
+        timeouts.increment();
+    }
+
+    long acquireCount() {
+        return acquireCount.sum();
+    }
+
+    long averageAcquireNanos() {
+        long count = acquireCount.sum();
+        return count == 0 ? 0 : acquireNanos.sum() / count;
+    }
+
+    long maxAcquireNanos() {
+        return maxAcquireNanos.get();
+    }
+
+    long timeouts() {
+        return timeouts.sum();
+    }
+}
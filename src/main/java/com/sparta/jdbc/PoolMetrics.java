@@ -0,0 +1,14 @@
+package com.sparta.jdbc;
+
+// 커넥션 풀 상태 스냅샷
+// active: 사용 중인 커넥션 수, idle: 대기 중인 커넥션 수, waiting: 커넥션을 기다리는 스레드 수
+// acquire*: 커넥션 획득 횟수, 타임아웃 횟수, 평균/최대 획득 지연시간(나노초)
+public record PoolMetrics(int active,
+                          int idle,
+                          int waiting,
+                          int total,
+                          long acquireCount,
+                          long acquireTimeouts,
+                          long averageAcquireNanos,
+                          long maxAcquireNanos) {
+}
@@ -0,0 +1,191 @@
+package com.sparta.jdbc;
+
+import com.sparta.sqllog.AsyncSqlLogger;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.service.UnknownUnwrapTypeException;
+import org.hibernate.service.spi.Configurable;
+import org.hibernate.service.spi.Stoppable;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+// HikariCP 기반 커넥션 풀을 Hibernate 에 연결하는 ConnectionProvider
+// persistence.xml 의 hibernate.connection.provider_class 로 지정하며, 풀 설정은 memo.pool.* 속성으로 받음
+// memo.sql-log.enabled=true 이면 커넥션을 감싸 실행한 SQL 을 AsyncSqlLogger 로 기록
+public class PooledConnectionProvider implements ConnectionProvider, Configurable, Stoppable {
+
+    // 풀의 최대 커넥션 수
+    public static final String MAXIMUM_POOL_SIZE = "memo.pool.maximum-pool-size";
+    // 유지할 최소 유휴 커넥션 수 (기본값: DEFAULT_MINIMUM_IDLE 과 최대 커넥션 수 중 작은 값)
+    // 최대 커넥션 수와 같으면 고정 크기 풀이 되어 idle-timeout 이 적용되지 않음
+    public static final String MINIMUM_IDLE = "memo.pool.minimum-idle";
+    public static final int DEFAULT_MINIMUM_IDLE = 2;
+    // 커넥션을 얻기 위해 기다리는 최대 시간 (밀리초)
+    public static final String CONNECTION_TIMEOUT = "memo.pool.connection-timeout-ms";
+    // 최소 유휴 수를 넘는 커넥션을 정리하기까지의 유휴 시간 (밀리초)
+    public static final String IDLE_TIMEOUT = "memo.pool.idle-timeout-ms";
+    // 커넥션이 이 시간 이상 반납되지 않으면 누수로 보고 경고 로그 출력 (밀리초, 0이면 끔)
+    public static final String LEAK_DETECTION_THRESHOLD = "memo.pool.leak-detection-threshold-ms";
+
+    private HikariDataSource dataSource;
+    private AcquireLatencyTracker tracker;
+    // SQL 로그를 끄면 null
+    private AsyncSqlLogger sqlLogger;
+
+    // EntityManagerFactory 가 사용하는 PooledConnectionProvider 반환
+    public static PooledConnectionProvider from(EntityManagerFactory emf) {
+        ConnectionProvider provider = emf.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(ConnectionProvider.class);
+        if (!(provider instanceof PooledConnectionProvider)) {
+            throw new IllegalStateException("PooledConnectionProvider 가 설정되지 않았습니다: " + provider);
+        }
+        return (PooledConnectionProvider) provider;
+    }
+
+    @Override
+    public void configure(Map<String, Object> settings) {
+        tracker = new AcquireLatencyTracker();
+        dataSource = new HikariDataSource(poolConfig(settings, "memo-pool",
+                setting(settings, "jakarta.persistence.jdbc.url", "hibernate.connection.url"), tracker));
+        sqlLogger = AsyncSqlLogger.fromSettings(settings);
+    }
+
+    // memo.pool.* 설정으로 url 에 접속하는 풀 설정 (RoutingConnectionProvider 가 복제본 풀을 만들 때도 사용)
+    static HikariConfig poolConfig(Map<String, Object> settings, String poolName, String url,
+                                       AcquireLatencyTracker tracker) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(poolName);
+
+        // 접속 정보는 persistence.xml 의 JPA 표준 속성을 그대로 사용
+        String driver = setting(settings, "jakarta.persistence.jdbc.driver", "hibernate.connection.driver_class");
+        if (driver != null) {
+            config.setDriverClassName(driver);
+        }
+        config.setJdbcUrl(url);
+        config.setUsername(setting(settings, "jakarta.persistence.jdbc.user", "hibernate.connection.username"));
+        config.setPassword(setting(settings, "jakarta.persistence.jdbc.password", "hibernate.connection.password"));
+
+        // Hibernate 가 트랜잭션 경계를 직접 관리하므로 autocommit 은 끔
+        config.setAutoCommit(false);
+
+        int maximumPoolSize = intSetting(settings, MAXIMUM_POOL_SIZE, 10);
+        config.setMaximumPoolSize(maximumPoolSize);
+        config.setMinimumIdle(intSetting(settings, MINIMUM_IDLE, Math.min(DEFAULT_MINIMUM_IDLE, maximumPoolSize)));
+        config.setConnectionTimeout(longSetting(settings, CONNECTION_TIMEOUT, 30_000L));
+        config.setIdleTimeout(longSetting(settings, IDLE_TIMEOUT, 600_000L));
+        config.setLeakDetectionThreshold(longSetting(settings, LEAK_DETECTION_THRESHOLD, 0L));
+
+        config.setMetricsTrackerFactory(tracker);
+
+        return config;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(dataSource.getConnection());
+    }
+
+    // SQL 로그를 켰으면 실행한 SQL 을 기록하도록 감쌈
+    Connection wrap(Connection connection) {
+        return sqlLogger == null ? connection : sqlLogger.wrap(connection);
+    }
+
+    @Override
+    public void closeConnection(Connection conn) throws SQLException {
+        // 풀에서 받은 커넥션의 close() 는 실제로 닫지 않고 풀에 반납
+        conn.close();
+    }
+
+    @Override
+    public boolean supportsAggressiveRelease() {
+        return false;
+    }
+
+    // 풀이 만들 수 있는 최대 커넥션 수
+    public int getMaximumPoolSize() {
+        return dataSource.getMaximumPoolSize();
+    }
+
+    // SQL 로거 (memo.sql-log.enabled=false 이면 예외 발생)
+    public AsyncSqlLogger getSqlLogger() {
+        if (sqlLogger == null) {
+            throw new IllegalStateException("SQL 로그가 꺼져 있습니다: " + AsyncSqlLogger.ENABLED + "=false");
+        }
+        return sqlLogger;
+    }
+
+    // 현재 풀 상태와 커넥션 획득 지연시간 스냅샷
+    public PoolMetrics getMetrics() {
+        return metrics(dataSource, tracker);
+    }
+
+    static PoolMetrics metrics(HikariDataSource dataSource, AcquireLatencyTracker tracker) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return new PoolMetrics(
+                pool.getActiveConnections(),
+                pool.getIdleConnections(),
+                pool.getThreadsAwaitingConnection(),
+                pool.getTotalConnections(),
+                tracker.acquireCount(),
+                tracker.timeouts(),
+                tracker.averageAcquireNanos(),
+                tracker.maxAcquireNanos());
+    }
+
+    @Override
+    public void stop() {
+        if (dataSource != null) {
+            dataSource.close();
+        }
+        // 풀을 닫은 뒤 남은 SQL 로그를 모두 기록
+        if (sqlLogger != null) {
+            sqlLogger.close();
+        }
+    }
+
+    @Override
+    public boolean isUnwrappableAs(Class<?> unwrapType) {
+        return unwrapType.isAssignableFrom(getClass())
+                || unwrapType.isAssignableFrom(HikariDataSource.class);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> unwrapType) {
+        if (unwrapType.isAssignableFrom(getClass())) {
+            return (T) this;
+        }
+        if (unwrapType.isAssignableFrom(HikariDataSource.class)) {
+            return (T) dataSource;
+        }
+        throw new UnknownUnwrapTypeException(unwrapType);
+    }
+
+    // 먼저 찾은 속성 값을 반환
+    static String setting(Map<String, Object> settings, String... names) {
+        for (String name : names) {
+            Object value = settings.get(name);
+            if (value != null) {
+                return value.toString();
+            }
+        }
+        return null;
+    }
+
+    private static int intSetting(Map<String, Object> settings, String name, int defaultValue) {
+        Object value = settings.get(name);
+        return value == null ? defaultValue : Integer.parseInt(value.toString());
+    }
+
+    private static long longSetting(Map<String, Object> settings, String name, long defaultValue) {
+        Object value = settings.get(name);
+        return value == null ? defaultValue : Long.parseLong(value.toString());
+    }
+}
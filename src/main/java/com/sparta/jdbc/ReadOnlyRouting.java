@@ -0,0 +1,92 @@
+package com.sparta.jdbc;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 현재 스레드의 작업 단위가 읽기 전용인지 표시 (RoutingConnectionProvider 가 커넥션을 고를 때 확인)
+// 하이버네이트는 트랜잭션을 시작할 때 커넥션을 얻으므로 트랜잭션 전체를 readOnly() 안에서 실행해야 함
+// 함께 현재 호출자(Caller)도 표시 : 호출자가 쓴 직후에는 그 호출자의 읽기만 주 DB 로 보냄 (read-your-writes)
+// 따로 지정하지 않으면 스레드 하나가 호출자 하나이고, 여러 스레드에 걸친 요청은 같은 Caller 로 as() 안에서 실행
+public final class ReadOnlyRouting {
+
+    private static final ThreadLocal<Integer> DEPTH = ThreadLocal.withInitial(() -> 0);
+    private static final ThreadLocal<Caller> THREAD_CALLER = ThreadLocal.withInitial(Caller::new);
+    private static final ThreadLocal<Caller> CALLER = new ThreadLocal<>();
+
+    private ReadOnlyRouting() {}
+
+    // read-your-writes 범위 (요청, 사용자 세션 등), 다른 스레드로 넘겨 as() 로 같은 범위에서 실행할 수 있음
+    public static final class Caller {
+        private static final long NO_WRITE = Long.MIN_VALUE;
+
+        // 이 호출자의 작업 단위가 flush 한 INSERT / UPDATE / DELETE 수 (RoutingWriteListener 가 올림)
+        private final AtomicLong writes = new AtomicLong();
+        // 마지막으로 쓰기 작업 단위가 끝난 시각 (System.nanoTime(), 없으면 NO_WRITE)
+        private final AtomicLong lastWriteNanos = new AtomicLong(NO_WRITE);
+
+        void wrote() {
+            writes.incrementAndGet();
+        }
+
+        long writes() {
+            return writes.get();
+        }
+
+        void markWrite() {
+            long now = System.nanoTime();
+            // 늦게 반납된 커넥션이 더 이른 시각으로 되돌리지 않도록 큰 값을 유지
+            lastWriteNanos.accumulateAndGet(now, (last, current) -> last == NO_WRITE || current - last > 0 ? current : last);
+        }
+
+        // windowNanos 이내에 쓰기 작업 단위가 끝났는지
+        boolean wroteWithin(long windowNanos) {
+            long lastWrite = lastWriteNanos.get();
+            return lastWrite != NO_WRITE && System.nanoTime() - lastWrite < windowNanos;
+        }
+
+        // 쓰기 기록을 지움 (다음 읽기부터 바로 복제본 사용)
+        public void clearWrites() {
+            lastWriteNanos.set(NO_WRITE);
+        }
+    }
+
+    // work 를 읽기 전용 작업 단위로 실행 (중첩 가능)
+    public static <T> T readOnly(Supplier<T> work) {
+        DEPTH.set(DEPTH.get() + 1);
+        try {
+            return work.get();
+        } finally {
+            int depth = DEPTH.get() - 1;
+            if (depth == 0) {
+                DEPTH.remove();
+            } else {
+                DEPTH.set(depth);
+            }
+        }
+    }
+
+    // work 를 caller 의 작업 단위로 실행 (중첩하면 안쪽 caller 사용)
+    public static <T> T as(Caller caller, Supplier<T> work) {
+        Caller previous = CALLER.get();
+        CALLER.set(caller);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                CALLER.remove();
+            } else {
+                CALLER.set(previous);
+            }
+        }
+    }
+
+    public static boolean isReadOnly() {
+        return DEPTH.get() > 0;
+    }
+
+    // as() 로 지정한 호출자, 없으면 현재 스레드의 호출자
+    public static Caller currentCaller() {
+        Caller caller = CALLER.get();
+        return caller != null ? caller : THREAD_CALLER.get();
+    }
+}
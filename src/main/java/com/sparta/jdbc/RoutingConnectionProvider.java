@@ -0,0 +1,246 @@
+package com.sparta.jdbc;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// 읽기/쓰기를 나누는 ConnectionProvider
+// 쓰기(읽기 전용으로 표시하지 않은 작업 단위)는 주 DB 풀, ReadOnlyRouting.readOnly() 안의 작업 단위는 복제본 풀로 보냄
+// 복제본은 memo.routing.balancer 에 따라 차례대로(round-robin) 또는 사용 중인 커넥션이 가장 적은 곳(least-connections)을 고르고,
+// 커넥션을 얻지 못하면 다음 복제본, 모두 실패하면 주 DB 를 사용
+// 복제 지연 때문에 방금 쓴 내용이 복제본에 아직 없을 수 있으므로, 엔티티를 실제로 쓴 작업 단위가 끝난 뒤
+// memo.routing.read-your-writes-ms 동안은 그 호출자(ReadOnlyRouting.Caller)의 읽기만 주 DB 로 보냄
+// (다른 호출자의 읽기는 계속 복제본 사용, 여러 스레드에 걸친 요청은 같은 Caller 로 ReadOnlyRouting.as() 안에서 실행)
+// 주 DB 풀과 SQL 로그는 PooledConnectionProvider 를 그대로 사용하고, 복제본 풀도 같은 memo.pool.* 설정으로 만듦
+// 복제본을 지정하지 않으면 PooledConnectionProvider 와 같음
+public class RoutingConnectionProvider extends PooledConnectionProvider {
+
+    // 복제본 접속 URL 목록 (쉼표로 구분, 접속 계정은 주 DB 와 같음)
+    public static final String REPLICA_URLS = "memo.routing.replica-urls";
+    // 복제본 선택 방식 (round-robin, least-connections)
+    public static final String BALANCER = "memo.routing.balancer";
+    // 쓰기 작업 단위가 끝난 뒤 읽기를 주 DB 로 보내는 시간 (밀리초, 0이면 끔)
+    public static final String READ_YOUR_WRITES = "memo.routing.read-your-writes-ms";
+
+    public enum Balancer {
+        ROUND_ROBIN, LEAST_CONNECTIONS;
+
+        static Balancer of(Object value) {
+            return value == null ? ROUND_ROBIN
+                    : valueOf(value.toString().trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+    }
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final AtomicInteger next = new AtomicInteger();
+    // 내준 커넥션 → 어디서 얻었는지 (반납할 때 사용 중인 커넥션 수와 호출자의 쓰기 시각을 갱신)
+    // SQL 로그용 프록시는 equals() 를 위임하므로 커넥션 자체가 아니라 ConnectionKey 로 찾음
+    private final Map<ConnectionKey, Lease> leases = new ConcurrentHashMap<>();
+    private Balancer balancer;
+    private long readYourWritesNanos;
+
+    private final LongAdder primary = new LongAdder();
+    private final LongAdder sticky = new LongAdder();
+    private final LongAdder failovers = new LongAdder();
+
+    // 복제본 하나의 풀
+    private static final class Replica {
+        final HikariDataSource dataSource;
+        final AcquireLatencyTracker tracker = new AcquireLatencyTracker();
+        final AtomicInteger inUse = new AtomicInteger();
+        final LongAdder served = new LongAdder();
+
+        Replica(Map<String, Object> settings, String poolName, String url) {
+            HikariConfig config = poolConfig(settings, poolName, url, tracker);
+            // 복제본 하나가 내려가 있어도 시작할 수 있도록 처음 접속을 확인하지 않음 (커넥션을 얻을 때 실패하면 다음 복제본 사용)
+            config.setInitializationFailTimeout(-1);
+            this.dataSource = new HikariDataSource(config);
+        }
+    }
+
+    // replica 가 null 이면 주 DB 커넥션, caller 는 쓰기 작업 단위의 호출자 (읽기면 null)
+    // writes 는 커넥션을 얻을 때 호출자의 쓰기 수 (반납할 때 늘었으면 이 작업 단위가 쓴 것)
+    private record Lease(Replica replica, ReadOnlyRouting.Caller caller, long writes) {}
+
+    // 커넥션을 동일성(==)으로 비교하는 키
+    private record ConnectionKey(Connection connection) {
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof ConnectionKey key && key.connection == connection;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(connection);
+        }
+    }
+
+    // EntityManagerFactory 가 사용하는 RoutingConnectionProvider 반환
+    public static RoutingConnectionProvider from(EntityManagerFactory emf) {
+        ConnectionProvider provider = emf.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(ConnectionProvider.class);
+        if (!(provider instanceof RoutingConnectionProvider)) {
+            throw new IllegalStateException("RoutingConnectionProvider 가 설정되지 않았습니다: " + provider);
+        }
+        return (RoutingConnectionProvider) provider;
+    }
+
+    @Override
+    public void configure(Map<String, Object> settings) {
+        super.configure(settings);
+        balancer = Balancer.of(settings.get(BALANCER));
+        Object window = settings.get(READ_YOUR_WRITES);
+        readYourWritesNanos = TimeUnit.MILLISECONDS.toNanos(window == null ? 1000L : Long.parseLong(window.toString()));
+
+        String urls = setting(settings, REPLICA_URLS);
+        if (urls != null) {
+            for (String url : urls.split(",")) {
+                if (!url.isBlank()) {
+                    replicas.add(new Replica(settings, "memo-replica-" + replicas.size(), url.trim()));
+                }
+            }
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (replicas.isEmpty()) {
+            primary.increment();
+            return super.getConnection();
+        }
+
+        boolean readOnly = ReadOnlyRouting.isReadOnly();
+        ReadOnlyRouting.Caller caller = ReadOnlyRouting.currentCaller();
+        if (readOnly) {
+            if (readYourWritesNanos > 0 && caller.wroteWithin(readYourWritesNanos)) {
+                sticky.increment();
+            } else {
+                Connection connection = replicaConnection();
+                if (connection != null) {
+                    return connection;
+                }
+            }
+        }
+
+        primary.increment();
+        Connection connection = super.getConnection();
+        if (readOnly) {
+            connection.setReadOnly(true);
+        }
+        lease(connection, readOnly ? new Lease(null, null, 0) : new Lease(null, caller, caller.writes()));
+        return connection;
+    }
+
+    // balancer 가 고른 복제본부터 차례대로 시도하고, 모두 실패하면 null
+    private Connection replicaConnection() {
+        int start = start();
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            replica.inUse.incrementAndGet();
+            Connection connection = null;
+            try {
+                connection = wrap(replica.dataSource.getConnection());
+                connection.setReadOnly(true);
+                replica.served.increment();
+                lease(connection, new Lease(replica, null, 0));
+                return connection;
+            } catch (SQLException ex) {
+                replica.inUse.decrementAndGet();
+                failovers.increment();
+                closeQuietly(connection);
+            }
+        }
+        return null;
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+                // 이미 실패한 커넥션이므로 무시
+            }
+        }
+    }
+
+    private int start() {
+        int offset = Math.floorMod(next.getAndIncrement(), replicas.size());
+        if (balancer == Balancer.ROUND_ROBIN) {
+            return offset;
+        }
+        // 사용 중인 커넥션이 가장 적은 복제본 (같으면 offset 부터 찾아 한쪽으로 몰리지 않게 함)
+        int best = offset;
+        for (int i = 1; i < replicas.size(); i++) {
+            int candidate = (offset + i) % replicas.size();
+            if (replicas.get(candidate).inUse.get() < replicas.get(best).inUse.get()) {
+                best = candidate;
+            }
+        }
+        return best;
+    }
+
+    private void lease(Connection connection, Lease lease) {
+        leases.put(new ConnectionKey(connection), lease);
+    }
+
+    // 쓰기를 세야 하는지 (복제본이 있고 read-your-writes 를 사용할 때, RoutingIntegrator 가 확인)
+    boolean tracksWrites() {
+        return !replicas.isEmpty() && readYourWritesNanos > 0;
+    }
+
+    @Override
+    public void closeConnection(Connection conn) throws SQLException {
+        Lease lease = leases.remove(new ConnectionKey(conn));
+        if (lease != null) {
+            if (lease.replica() != null) {
+                lease.replica().inUse.decrementAndGet();
+            } else if (lease.caller() != null && lease.caller().writes() != lease.writes()) {
+                // 트랜잭션이 끝난 뒤 반납하므로 지금부터 read-your-writes 시간을 잼
+                lease.caller().markWrite();
+            }
+        }
+        super.closeConnection(conn);
+    }
+
+    public Balancer getBalancer() {
+        return balancer;
+    }
+
+    public int getReplicaCount() {
+        return replicas.size();
+    }
+
+    // index 번째 복제본 풀의 상태
+    public PoolMetrics getReplicaMetrics(int index) {
+        Replica replica = replicas.get(index);
+        return metrics(replica.dataSource, replica.tracker);
+    }
+
+    public RoutingMetrics getRoutingMetrics() {
+        long[] served = replicas.stream().mapToLong(replica -> replica.served.sum()).toArray();
+        return new RoutingMetrics(primary.sum(), Arrays.stream(served).sum(), sticky.sum(), failovers.sum(), served);
+    }
+
+    @Override
+    public void stop() {
+        for (Replica replica : replicas) {
+            replica.dataSource.close();
+        }
+        super.stop();
+    }
+}
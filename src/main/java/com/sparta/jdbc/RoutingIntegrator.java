@@ -0,0 +1,33 @@
+package com.sparta.jdbc;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+// RoutingConnectionProvider 가 복제본과 read-your-writes 를 사용할 때만 RoutingWriteListener 를 저장/수정/삭제 이벤트에 등록
+// META-INF/services/org.hibernate.integrator.spi.Integrator 로 등록
+public class RoutingIntegrator implements Integrator {
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                          SessionFactoryImplementor sessionFactory) {
+        ConnectionProvider provider = sessionFactory.getServiceRegistry().getService(ConnectionProvider.class);
+        if (!(provider instanceof RoutingConnectionProvider routing) || !routing.tracksWrites()) {
+            return;
+        }
+        RoutingWriteListener listener = new RoutingWriteListener();
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, listener);
+        registry.appendListeners(EventType.POST_UPDATE, listener);
+        registry.appendListeners(EventType.POST_DELETE, listener);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.sparta.jdbc;
+
+// 읽기/쓰기 분리 통계
+// primary: 주 DB 로 보낸 커넥션 수 (쓰기, 복제본이 없거나 모두 실패한 읽기 포함)
+// replica: 복제본으로 보낸 커넥션 수, sticky: 쓰기 직후라 주 DB 로 보낸 읽기 수
+// failovers: 복제본에서 커넥션을 얻지 못해 다음 복제본이나 주 DB 로 넘긴 횟수
+// replicaConnections: 복제본별로 내준 커넥션 수 (설정 순서)
+public record RoutingMetrics(long primary,
+                             long replica,
+                             long sticky,
+                             long failovers,
+                             long[] replicaConnections) {
+}
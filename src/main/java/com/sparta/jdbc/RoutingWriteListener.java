@@ -0,0 +1,35 @@
+package com.sparta.jdbc;
+
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+// 엔티티를 INSERT / UPDATE / DELETE 할 때마다 현재 호출자의 쓰기 수를 올림
+// RoutingConnectionProvider 는 주 DB 커넥션을 반납할 때 그동안 쓰기 수가 늘었으면 read-your-writes 시간을 잼
+// (조회만 한 트랜잭션은 호출자를 주 DB 에 붙잡지 않음, JPQL/네이티브 벌크 수정은 이벤트가 없으므로 세지 않음)
+final class RoutingWriteListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        ReadOnlyRouting.currentCaller().wrote();
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        ReadOnlyRouting.currentCaller().wrote();
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        ReadOnlyRouting.currentCaller().wrote();
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+}
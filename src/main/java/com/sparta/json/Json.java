@@ -0,0 +1,34 @@
+package com.sparta.json;
+
+// JSON 한 줄 로그/내보내기 파일을 만들 때 쓰는 문자열 출력 (AsyncSqlLogger, MemoExporter)
+public final class Json {
+
+    private Json() {}
+
+    // value 를 따옴표로 감싸고 특수 문자를 이스케이프해서 붙임 (null 이면 null)
+    public static void appendString(StringBuilder sb, String value) {
+        if (value == null) {
+            sb.append("null");
+            return;
+        }
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        sb.append('"');
+    }
+}
@@ -0,0 +1,19 @@
+package com.sparta.metrics;
+
+import org.HdrHistogram.Histogram;
+
+// 값 분포 요약 (지연시간이면 나노초, 트랜잭션당 개수면 개수)
+public record Distribution(long count, double mean, long p50, long p99, long max) {
+
+    static Distribution of(Histogram histogram) {
+        if (histogram.getTotalCount() == 0) {
+            return new Distribution(0, 0, 0, 0, 0);
+        }
+        return new Distribution(
+                histogram.getTotalCount(),
+                histogram.getMean(),
+                histogram.getValueAtPercentile(50),
+                histogram.getValueAtPercentile(99),
+                histogram.getMaxValue());
+    }
+}
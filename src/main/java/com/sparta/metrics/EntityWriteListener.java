@@ -0,0 +1,58 @@
+package com.sparta.metrics;
+
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// INSERT / UPDATE / DELETE 를 실행할 때마다 그 세션의 SessionMetricsListener 에 알림
+// flushEnd 의 엔티티 수는 dirty 검사한 (영속성 컨텍스트에 있는) 엔티티 수라 조회만 한 엔티티도 포함되므로,
+// 실제로 쓴 엔티티 수는 여기서 셈
+// SessionFactory 마다 하나씩 등록되므로 (MetricsIntegrator) 측정 중인 세션은 정적 맵으로 찾음
+final class EntityWriteListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    // 세션 구현은 equals 를 재정의하지 않으므로 동일성으로 찾음, 세션이 닫히면 (SessionMetricsListener.end) 제거
+    private static final Map<EventSource, SessionMetricsListener> SESSIONS = new ConcurrentHashMap<>();
+
+    static void track(EventSource session, SessionMetricsListener listener) {
+        SESSIONS.put(session, listener);
+    }
+
+    static void untrack(EventSource session) {
+        SESSIONS.remove(session);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        written(event.getSession());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        written(event.getSession());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        written(event.getSession());
+    }
+
+    private static void written(EventSource session) {
+        SessionMetricsListener listener = SESSIONS.get(session);
+        if (listener != null) {
+            listener.entitiesWritten++;
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+}
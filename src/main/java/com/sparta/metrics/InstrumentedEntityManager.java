@@ -0,0 +1,96 @@
+package com.sparta.metrics;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.event.spi.EventSource;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+// EntityManager 호출을 가로채 persist/find/merge/remove/flush 와 트랜잭션 commit 의 지연시간을 기록하는 동적 프록시
+// 하이버네이트 Session 도 구현하므로 (Session) 캐스트나 unwrap(Session.class) 도 이 프록시를 돌려받아 같은 이름의 메소드는 측정됨
+// 그 밖의 메소드 (get, byMultipleIds 등) 는 측정 없이 그대로 위임, SessionImplementor 등 SPI 로 unwrap 하면 원래 세션
+final class InstrumentedEntityManager implements InvocationHandler {
+
+    private final Session delegate;
+    private final PersistenceMetrics metrics;
+    private final SessionMetricsListener listener;
+    private Transaction transaction;
+
+    private InstrumentedEntityManager(EntityManager delegate, PersistenceMetrics metrics) {
+        this.delegate = delegate.unwrap(Session.class);
+        this.metrics = metrics;
+        EventSource session = delegate.unwrap(EventSource.class);
+        this.listener = new SessionMetricsListener(metrics, session);
+        this.delegate.addEventListeners(listener);
+        EntityWriteListener.track(session, listener);
+    }
+
+    static EntityManager wrap(EntityManager delegate, PersistenceMetrics metrics) {
+        return (EntityManager) Proxy.newProxyInstance(
+                Session.class.getClassLoader(),
+                new Class<?>[]{Session.class},
+                new InstrumentedEntityManager(delegate, metrics));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getName().equals("getTransaction")) {
+            return transaction();
+        }
+        if (method.getName().equals("unwrap") && ((Class<?>) args[0]).isInstance(proxy)) {
+            return proxy;
+        }
+
+        Operation operation = Operation.ofEntityManagerMethod(method.getName());
+        if (operation == null) {
+            return delegate(delegate, method, args);
+        }
+
+        long statements = listener.statements;
+        long cacheGets = listener.cacheGets;
+        long start = System.nanoTime();
+        try {
+            return delegate(delegate, method, args);
+        } finally {
+            metrics.record(operation, System.nanoTime() - start);
+            if (operation == Operation.FIND) {
+                // SQL 도 2차 캐시 조회도 없었다면 1차 캐시에서 찾은 것
+                metrics.recordFind(listener.statements == statements && listener.cacheGets == cacheGets);
+            }
+        }
+    }
+
+    private Transaction transaction() {
+        if (transaction == null) {
+            Transaction target = delegate.getTransaction();
+            transaction = (Transaction) Proxy.newProxyInstance(
+                    Transaction.class.getClassLoader(),
+                    new Class<?>[]{Transaction.class},
+                    (proxy, method, args) -> {
+                        if (!method.getName().equals("commit")) {
+                            return delegate(target, method, args);
+                        }
+                        long start = System.nanoTime();
+                        try {
+                            return delegate(target, method, args);
+                        } finally {
+                            metrics.record(Operation.COMMIT, System.nanoTime() - start);
+                        }
+                    });
+        }
+        return transaction;
+    }
+
+    // 위임 대상이 던진 예외를 감싸지 않고 그대로 전달
+    private static Object delegate(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+}
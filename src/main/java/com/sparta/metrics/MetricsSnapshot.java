@@ -0,0 +1,24 @@
+package com.sparta.metrics;
+
+import java.util.Map;
+
+// 영속성 계층 측정값 스냅샷 (생성 이후 누적)
+// latencies: 작업별 지연시간 분포 (나노초)
+// statementsPerTransaction, entitiesFlushedPerTransaction: 트랜잭션 하나에서 실행한 SQL 수,
+//   flush 로 INSERT / UPDATE / DELETE 한 엔티티 수의 분포 (조회만 하고 바꾸지 않은 엔티티는 세지 않음)
+// firstLevelCacheHits/Misses: find() 가 SQL 도, 2차 캐시 조회도 없이 1차 캐시에서 끝났는지 여부
+// prepareStatementCount, secondLevelCacheHits/Misses: 하이버네이트 Statistics 값
+public record MetricsSnapshot(Map<Operation, Distribution> latencies,
+                              Distribution statementsPerTransaction,
+                              Distribution entitiesFlushedPerTransaction,
+                              long firstLevelCacheHits,
+                              long firstLevelCacheMisses,
+                              long prepareStatementCount,
+                              long secondLevelCacheHits,
+                              long secondLevelCacheMisses) {
+
+    public double firstLevelCacheHitRatio() {
+        long total = firstLevelCacheHits + firstLevelCacheMisses;
+        return total == 0 ? 0 : (double) firstLevelCacheHits / total;
+    }
+}
@@ -0,0 +1,23 @@
+package com.sparta.metrics;
+
+// 지연시간을 기록하는 EntityManager 작업
+public enum Operation {
+    PERSIST,
+    FIND,
+    MERGE,
+    REMOVE,
+    FLUSH,
+    COMMIT;
+
+    // EntityManager 메소드 이름 → 작업 (기록 대상이 아니면 null)
+    static Operation ofEntityManagerMethod(String name) {
+        return switch (name) {
+            case "persist" -> PERSIST;
+            case "find" -> FIND;
+            case "merge" -> MERGE;
+            case "remove" -> REMOVE;
+            case "flush" -> FLUSH;
+            default -> null;
+        };
+    }
+}
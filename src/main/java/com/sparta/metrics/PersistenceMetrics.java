@@ -0,0 +1,226 @@
+package com.sparta.metrics;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+// EntityManagerFactory 하나의 영속성 계층 측정값
+// 기록은 여러 스레드에서 잠금 없이 (HdrHistogram Recorder, LongAdder) 하고,
+// snapshot() 을 호출할 때 그동안 기록된 값을 누적 히스토그램에 합쳐 요약
+// JMX 에는 com.sparta:type=PersistenceMetrics,name=<이름> 으로 등록
+public class PersistenceMetrics implements PersistenceMetricsMXBean {
+
+    // persistence.xml 또는 JpaManager 설정에서 측정 사용 여부
+    public static final String ENABLED = "memo.metrics.enabled";
+
+    // 기록할 수 있는 최대값과 유효숫자 (지연시간 1분, 오차 1% 이내)
+    private static final long HIGHEST_TRACKABLE_VALUE = 60_000_000_000L;
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private final Statistics statistics;
+    private final ObjectName objectName;
+
+    private final Map<Operation, Recorder> latencyRecorders = new EnumMap<>(Operation.class);
+    private final Recorder statementRecorder = newRecorder();
+    private final Recorder flushRecorder = newRecorder();
+    private final LongAdder firstLevelCacheHits = new LongAdder();
+    private final LongAdder firstLevelCacheMisses = new LongAdder();
+
+    // snapshot() 에서만 사용 (this 로 동기화)
+    private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+    private final Histogram statements = newHistogram();
+    private final Histogram flushes = newHistogram();
+
+    private PersistenceMetrics(EntityManagerFactory emf, String name) {
+        this.statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        for (Operation operation : Operation.values()) {
+            latencyRecorders.put(operation, newRecorder());
+            latencies.put(operation, newHistogram());
+        }
+        try {
+            this.objectName = new ObjectName("com.sparta:type=PersistenceMetrics,name=" + ObjectName.quote(name));
+        } catch (JMException ex) {
+            throw new IllegalArgumentException("잘못된 이름입니다: " + name, ex);
+        }
+    }
+
+    // emf 의 측정값을 만들고 JMX 에 등록
+    public static PersistenceMetrics register(EntityManagerFactory emf) {
+        // 같은 프로세스에 EntityManagerFactory 가 여러 개일 수 있으므로 팩토리마다 다른 UUID 를 이름으로 사용
+        PersistenceMetrics metrics = new PersistenceMetrics(emf, emf.unwrap(SessionFactoryImplementor.class).getUuid());
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, metrics.objectName);
+        } catch (JMException ex) {
+            throw new IllegalStateException("PersistenceMetrics 를 JMX 에 등록할 수 없습니다", ex);
+        }
+        return metrics;
+    }
+
+    // JMX 등록 해제 (EntityManagerFactory 를 닫을 때 호출)
+    public void unregister() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+        } catch (JMException ex) {
+            throw new IllegalStateException("PersistenceMetrics 의 JMX 등록을 해제할 수 없습니다", ex);
+        }
+    }
+
+    public ObjectName getObjectName() {
+        return objectName;
+    }
+
+    // em 의 작업을 측정하는 EntityManager 반환 (em 을 직접 사용하면 측정되지 않음)
+    public EntityManager instrument(EntityManager em) {
+        return InstrumentedEntityManager.wrap(em, this);
+    }
+
+    void record(Operation operation, long nanos) {
+        latencyRecorders.get(operation).recordValue(Math.min(nanos, HIGHEST_TRACKABLE_VALUE));
+    }
+
+    void recordFind(boolean firstLevelCacheHit) {
+        (firstLevelCacheHit ? firstLevelCacheHits : firstLevelCacheMisses).increment();
+    }
+
+    void recordTransaction(long statementCount, long entitiesWritten) {
+        statementRecorder.recordValue(Math.min(statementCount, HIGHEST_TRACKABLE_VALUE));
+        flushRecorder.recordValue(Math.min(entitiesWritten, HIGHEST_TRACKABLE_VALUE));
+    }
+
+    // 생성(또는 reset()) 이후 누적된 측정값
+    public synchronized MetricsSnapshot snapshot() {
+        Map<Operation, Distribution> summaries = new EnumMap<>(Operation.class);
+        latencyRecorders.forEach((operation, recorder) -> {
+            Histogram total = latencies.get(operation);
+            accumulate(recorder, total);
+            summaries.put(operation, Distribution.of(total));
+        });
+        accumulate(statementRecorder, statements);
+        accumulate(flushRecorder, flushes);
+
+        return new MetricsSnapshot(
+                summaries,
+                Distribution.of(statements),
+                Distribution.of(flushes),
+                firstLevelCacheHits.sum(),
+                firstLevelCacheMisses.sum(),
+                statistics.getPrepareStatementCount(),
+                statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount());
+    }
+
+    private static void accumulate(Recorder recorder, Histogram total) {
+        total.add(recorder.getIntervalHistogram());
+    }
+
+    @Override
+    public synchronized void reset() {
+        latencyRecorders.values().forEach(Recorder::reset);
+        latencies.values().forEach(Histogram::reset);
+        statementRecorder.reset();
+        flushRecorder.reset();
+        statements.reset();
+        flushes.reset();
+        firstLevelCacheHits.reset();
+        firstLevelCacheMisses.reset();
+    }
+
+    @Override
+    public Map<String, Long> getOperationCounts() {
+        return byOperation(Distribution::count);
+    }
+
+    @Override
+    public Map<String, Double> getLatencyP50Micros() {
+        return byOperationMicros(Distribution::p50);
+    }
+
+    @Override
+    public Map<String, Double> getLatencyP99Micros() {
+        return byOperationMicros(Distribution::p99);
+    }
+
+    @Override
+    public Map<String, Double> getLatencyMaxMicros() {
+        return byOperationMicros(Distribution::max);
+    }
+
+    @Override
+    public long getTransactionCount() {
+        return snapshot().statementsPerTransaction().count();
+    }
+
+    @Override
+    public double getStatementsPerTransactionMean() {
+        return snapshot().statementsPerTransaction().mean();
+    }
+
+    @Override
+    public long getStatementsPerTransactionP99() {
+        return snapshot().statementsPerTransaction().p99();
+    }
+
+    @Override
+    public double getEntitiesFlushedPerTransactionMean() {
+        return snapshot().entitiesFlushedPerTransaction().mean();
+    }
+
+    @Override
+    public long getEntitiesFlushedPerTransactionP99() {
+        return snapshot().entitiesFlushedPerTransaction().p99();
+    }
+
+    @Override
+    public double getFirstLevelCacheHitRatio() {
+        return snapshot().firstLevelCacheHitRatio();
+    }
+
+    @Override
+    public long getPrepareStatementCount() {
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Override
+    public long getSecondLevelCacheHitCount() {
+        return statistics.getSecondLevelCacheHitCount();
+    }
+
+    private Map<String, Long> byOperation(ToLongFunction<Distribution> value) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        snapshot().latencies().forEach((operation, distribution) ->
+                result.put(operation.name(), value.applyAsLong(distribution)));
+        return result;
+    }
+
+    private Map<String, Double> byOperationMicros(ToLongFunction<Distribution> nanos) {
+        Map<String, Double> result = new LinkedHashMap<>();
+        snapshot().latencies().forEach((operation, distribution) ->
+                result.put(operation.name(), nanos.applyAsLong(distribution) / 1_000.0));
+        return result;
+    }
+
+    private static Recorder newRecorder() {
+        return new Recorder(HIGHEST_TRACKABLE_VALUE, SIGNIFICANT_DIGITS);
+    }
+
+    private static Histogram newHistogram() {
+        return new Histogram(HIGHEST_TRACKABLE_VALUE, SIGNIFICANT_DIGITS);
+    }
+}
@@ -0,0 +1,35 @@
+package com.sparta.metrics;
+
+import java.util.Map;
+
+// JMX 로 노출하는 영속성 계층 측정값 (jconsole 등에서 com.sparta:type=PersistenceMetrics 로 조회)
+// 지연시간은 마이크로초, 작업별 값은 작업 이름(PERSIST, FIND, ...)을 키로 사용
+public interface PersistenceMetricsMXBean {
+
+    Map<String, Long> getOperationCounts();
+
+    Map<String, Double> getLatencyP50Micros();
+
+    Map<String, Double> getLatencyP99Micros();
+
+    Map<String, Double> getLatencyMaxMicros();
+
+    long getTransactionCount();
+
+    double getStatementsPerTransactionMean();
+
+    long getStatementsPerTransactionP99();
+
+    double getEntitiesFlushedPerTransactionMean();
+
+    long getEntitiesFlushedPerTransactionP99();
+
+    double getFirstLevelCacheHitRatio();
+
+    long getPrepareStatementCount();
+
+    long getSecondLevelCacheHitCount();
+
+    // 누적한 측정값을 모두 비움
+    void reset();
+}
@@ -0,0 +1,48 @@
+package com.sparta.metrics;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.event.spi.EventSource;
+
+// 세션 하나에서 발생하는 SQL 준비, 2차 캐시 조회, 엔티티 쓰기를 세어 트랜잭션이 끝날 때 PersistenceMetrics 에 기록
+// 쓴 엔티티 수는 EntityWriteListener 가 INSERT / UPDATE / DELETE 마다 올림
+// 세션(EntityManager)은 한 스레드에서만 사용하므로 일반 필드로 충분
+final class SessionMetricsListener extends BaseSessionEventListener {
+
+    private final transient PersistenceMetrics metrics;
+    private final transient EventSource session;
+
+    // 세션 생성 이후 누적 값 (find() 전후 비교용)
+    long statements;
+    long cacheGets;
+    // 이번 트랜잭션에서 INSERT / UPDATE / DELETE 한 엔티티 수
+    long entitiesWritten;
+
+    private long statementsAtTransactionStart;
+
+    SessionMetricsListener(PersistenceMetrics metrics, EventSource session) {
+        this.metrics = metrics;
+        this.session = session;
+    }
+
+    @Override
+    public void jdbcPrepareStatementStart() {
+        statements++;
+    }
+
+    @Override
+    public void cacheGetEnd(boolean hit) {
+        cacheGets++;
+    }
+
+    @Override
+    public void transactionCompletion(boolean successful) {
+        metrics.recordTransaction(statements - statementsAtTransactionStart, entitiesWritten);
+        statementsAtTransactionStart = statements;
+        entitiesWritten = 0;
+    }
+
+    @Override
+    public void end() {
+        EntityWriteListener.untrack(session);
+    }
+}
@@ -0,0 +1,39 @@
+package com.sparta.paging;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 페이지 이어받기 토큰
+// "정렬 기준:마지막 값" 을 URL 에 그대로 쓸 수 있는 Base64 로 인코딩하므로, 클라이언트는 내용을 해석하지 않고 그대로 돌려주기만 함
+public final class ContinuationToken {
+
+    private static final char SEPARATOR = ':';
+
+    private ContinuationToken() {}
+
+    public static String encode(MemoPager.Order order, String lastValue) {
+        String raw = order.name() + SEPARATOR + lastValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 식별자 순서 페이지에서 식별자가 lastId 인 Memo 다음부터 읽는 토큰
+    public static String afterId(long lastId) {
+        return encode(MemoPager.Order.ID, String.valueOf(lastId));
+    }
+
+    // 토큰에서 마지막 값을 꺼냄 (형식이 잘못됐거나 다른 정렬 기준의 토큰이면 IllegalArgumentException)
+    public static String decode(MemoPager.Order order, String token) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("잘못된 페이지 토큰입니다: " + token, ex);
+        }
+
+        int separator = raw.indexOf(SEPARATOR);
+        if (separator < 0 || !raw.substring(0, separator).equals(order.name())) {
+            throw new IllegalArgumentException(order + " 순서의 페이지 토큰이 아닙니다: " + token);
+        }
+        return raw.substring(separator + 1);
+    }
+}
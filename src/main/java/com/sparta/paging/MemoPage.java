@@ -0,0 +1,14 @@
+package com.sparta.paging;
+
+import com.sparta.repository.MemoSummary;
+
+import java.util.List;
+
+// Memo 목록의 한 페이지
+// nextToken: 다음 페이지를 요청할 때 넘겨줄 토큰 (마지막 페이지이면 null)
+public record MemoPage(List<MemoSummary> items, String nextToken) {
+
+    public boolean hasNext() {
+        return nextToken != null;
+    }
+}
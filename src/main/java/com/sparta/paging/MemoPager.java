@@ -0,0 +1,127 @@
+package com.sparta.paging;
+
+import com.sparta.JpaManager;
+import com.sparta.repository.MemoRepository;
+import com.sparta.repository.MemoSummary;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Memo 목록 keyset(seek) 페이지 조회기
+// OFFSET 은 앞 페이지의 행을 모두 읽고 버리므로 뒤 페이지일수록 느려지지만,
+// keyset 은 "마지막으로 본 값보다 큰 행" 부터 인덱스를 타고 pageSize 건만 읽으므로 몇 번째 페이지든 속도가 같음
+// 페이지는 MemoRepository 의 요약 조회 (findSummaries, findSummariesAfterUsername) 로 읽음
+// prefetch 를 켜면 한 페이지를 돌려준 직후 다음 페이지를 백그라운드에서 미리 읽어둠
+public class MemoPager implements AutoCloseable {
+
+    // 정렬 기준 (둘 다 유일한 값이어야 페이지 경계에서 행이 빠지거나 중복되지 않음)
+    public enum Order {
+        ID,
+        USERNAME
+    }
+
+    public static final int DEFAULT_PAGE_SIZE = 100;
+
+    private final JpaManager jpa;
+    private final Order order;
+    private final int pageSize;
+    // prefetch 를 끄면 null
+    private final ExecutorService prefetcher;
+    // 미리 읽어둔 다음 페이지 (가장 최근 페이지의 다음 페이지 하나만 보관)
+    private final AtomicReference<Prefetched> prefetched = new AtomicReference<>();
+
+    private record Prefetched(String token, CompletableFuture<MemoPage> page) {}
+
+    public MemoPager(JpaManager jpa) {
+        this(jpa, Order.ID, DEFAULT_PAGE_SIZE, false);
+    }
+
+    public MemoPager(JpaManager jpa, Order order, int pageSize, boolean prefetch) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("pageSize 는 1 이상이어야 합니다: " + pageSize);
+        }
+        this.jpa = jpa;
+        this.order = order;
+        this.pageSize = pageSize;
+        this.prefetcher = prefetch ? Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "memo-pager-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    // 첫 페이지
+    public MemoPage first() {
+        return next(null);
+    }
+
+    // token 다음 페이지 (token 이 null 이면 첫 페이지)
+    public MemoPage next(String token) {
+        Prefetched ready = prefetched.getAndSet(null);
+        MemoPage page = ready != null && ready.token().equals(token)
+                ? join(ready.page())
+                : load(token);
+
+        if (prefetcher != null && page.hasNext()) {
+            String nextToken = page.nextToken();
+            prefetched.set(new Prefetched(nextToken, CompletableFuture.supplyAsync(() -> load(nextToken), prefetcher)));
+        }
+        return page;
+    }
+
+    // 미리 읽기가 실패했으면 CompletionException 대신 원래 예외를 던짐
+    private static MemoPage join(CompletableFuture<MemoPage> page) {
+        try {
+            return page.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private MemoPage load(String token) {
+        String after = token == null ? null : ContinuationToken.decode(order, token);
+        // 토큰 형식은 조회 전에 검사
+        long afterId = order == Order.ID && after != null ? parseId(after, token) : 0;
+
+        // 다음 페이지가 있는지 알기 위해 한 건 더 읽음
+        List<MemoSummary> rows = jpa.runReadOnly(em -> {
+            MemoRepository repository = new MemoRepository(em);
+            return order == Order.ID
+                    ? repository.findSummaries(afterId, pageSize + 1)
+                    : repository.findSummariesAfterUsername(after, pageSize + 1);
+        });
+
+        if (rows.size() <= pageSize) {
+            return new MemoPage(List.copyOf(rows), null);
+        }
+        List<MemoSummary> items = List.copyOf(rows.subList(0, pageSize));
+        MemoSummary last = items.get(pageSize - 1);
+        String lastValue = order == Order.ID ? String.valueOf(last.id()) : last.username();
+        return new MemoPage(items, ContinuationToken.encode(order, lastValue));
+    }
+
+    private static Long parseId(String value, String token) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("잘못된 페이지 토큰입니다: " + token, ex);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (prefetcher != null) {
+            prefetcher.shutdownNow();
+        }
+    }
+}
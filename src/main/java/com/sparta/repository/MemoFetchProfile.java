@@ -0,0 +1,42 @@
+package com.sparta.repository;
+
+import com.sparta.entity.Memo;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.Hibernate;
+import org.hibernate.jpa.SpecHints;
+
+import java.util.Map;
+
+// Memo 를 조회할 때 함께 읽을 필드 범위
+// contents 는 지연 로딩 그룹(Memo.CONTENTS_GROUP)이라 SUMMARY 로 읽은 Memo 는 getContents() 를 처음 호출할 때 SELECT 를 한 번 더 실행
+// (영속성 컨텍스트가 닫힌 뒤에 호출하면 LazyInitializationException)
+public enum MemoFetchProfile {
+    // 식별자, username, 앞부분(contentsPreview), 버전, 시각 (contents 제외)
+    SUMMARY,
+    // SUMMARY + contents (Memo.FULL_GRAPH 로 같은 SELECT 에서 읽음)
+    FULL;
+
+    // em.find 에 넘길 힌트
+    public Map<String, Object> hints(EntityManager em) {
+        return this == FULL
+                ? Map.of(SpecHints.HINT_SPEC_LOAD_GRAPH, em.getEntityGraph(Memo.FULL_GRAPH))
+                : Map.of();
+    }
+
+    // query 가 조회하는 Memo 에 이 범위를 적용 (Memo 를 반환하는 쿼리에만 의미가 있음)
+    public <T> TypedQuery<T> apply(EntityManager em, TypedQuery<T> query) {
+        if (this == FULL) {
+            query.setHint(SpecHints.HINT_SPEC_LOAD_GRAPH, em.getEntityGraph(Memo.FULL_GRAPH));
+        }
+        return query;
+    }
+
+    // 1차/2차 캐시에서 가져와 그래프가 적용되지 않은 Memo 도 이 범위까지 읽음
+    Memo initialize(Memo memo) {
+        if (this == FULL && memo != null && !Hibernate.isPropertyInitialized(memo, "contents")) {
+            memo.getContents();
+        }
+        return memo;
+    }
+}
@@ -0,0 +1,201 @@
+package com.sparta.repository;
+
+import com.sparta.entity.Memo;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import org.hibernate.MultiIdentifierLoadAccess;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.graph.RootGraph;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+
+// Memo 조회/저장 모음
+// 트랜잭션과 EntityManager 의 생명주기는 호출하는 쪽(JpaManager.runInTransaction 등)에서 관리
+public class MemoRepository {
+
+    // findAll 이 IN 절 하나에 넣는 식별자 최대 개수
+    // MySQL 의 PreparedStatement 자리표시자 한도(65535)보다 훨씬 작게 둠
+    // (IN 목록이 길수록 SQL 생성과 파싱 비용이 커져서, H2 에서 1000개씩보다 200~500개씩 나눌 때 빨랐음)
+    public static final int DEFAULT_MULTI_GET_CHUNK_SIZE = 500;
+
+    private final EntityManager em;
+
+    public MemoRepository(EntityManager em) {
+        this.em = em;
+    }
+
+    // 식별자로 조회 (1차 캐시 → 2차 캐시 → DB 순서로 확인, contents 는 지연 로딩)
+    public Optional<Memo> findById(Long id) {
+        return findById(id, MemoFetchProfile.SUMMARY);
+    }
+
+    // 식별자로 조회하고 profile 범위까지 읽음
+    public Optional<Memo> findById(Long id, MemoFetchProfile profile) {
+        return Optional.ofNullable(profile.initialize(em.find(Memo.class, id, profile.hints(em))));
+    }
+
+    // 여러 식별자를 한꺼번에 조회 (em.find 를 반복하면 1차 캐시에 없는 식별자마다 SELECT 를 한 번씩 실행)
+    public MultiGetResult findAll(Collection<Long> ids) {
+        return findAll(ids, DEFAULT_MULTI_GET_CHUNK_SIZE);
+    }
+
+    public MultiGetResult findAll(Collection<Long> ids, int chunkSize) {
+        return findAll(ids, chunkSize, MemoFetchProfile.SUMMARY);
+    }
+
+    // 1차 캐시 → 2차 캐시 순서로 먼저 찾고, 나머지만 chunkSize 개씩 IN 으로 조회
+    // (방언에 IN 절 개수 제한이 있으면 그보다 작게 나눔)
+    // 이 영속성 컨텍스트에서 삭제한 Memo 는 없는 것으로 봄
+    public MultiGetResult findAll(Collection<Long> ids, int chunkSize, MemoFetchProfile profile) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize 는 1 이상이어야 합니다: " + chunkSize);
+        }
+        List<Long> distinct = List.copyOf(new LinkedHashSet<>(ids));
+        if (distinct.isEmpty()) {
+            return new MultiGetResult(List.of(), List.of());
+        }
+
+        Session session = em.unwrap(Session.class);
+        int limit = session.getSessionFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect().getInExpressionCountLimit();
+        MultiIdentifierLoadAccess<Memo> access = session.byMultipleIds(Memo.class);
+        if (profile == MemoFetchProfile.FULL) {
+            @SuppressWarnings("unchecked")
+            RootGraph<Memo> graph = (RootGraph<Memo>) session.getEntityGraph(Memo.FULL_GRAPH);
+            access.with(graph, GraphSemantic.LOAD);
+        }
+        List<Memo> loaded = access
+                .enableSessionCheck(true)
+                // 지정하지 않으면 2차 캐시를 확인하지 않음
+                .with(session.getCacheMode())
+                .enableOrderedReturn(true)
+                .enableReturnOfDeletedEntities(false)
+                .withBatchSize(limit > 0 ? Math.min(chunkSize, limit) : chunkSize)
+                .multiLoad(distinct);
+
+        // 요청 순서대로 반환되고, 없는 식별자 자리는 null
+        List<Memo> memos = new ArrayList<>(loaded.size());
+        List<Long> missing = new ArrayList<>();
+        for (int i = 0; i < distinct.size(); i++) {
+            Memo memo = profile.initialize(loaded.get(i));
+            if (memo == null) {
+                missing.add(distinct.get(i));
+            } else {
+                memos.add(memo);
+            }
+        }
+        return new MultiGetResult(memos, missing);
+    }
+
+    // username(natural id)으로 조회
+    // username → 식별자 변환은 natural id 캐시에서, 엔티티는 1차/2차 캐시에서 찾으므로 캐시에 있으면 SQL 이 실행되지 않음
+    public Optional<Memo> findByUsername(String username) {
+        return em.unwrap(Session.class)
+                .bySimpleNaturalId(Memo.class)
+                .loadOptional(username);
+    }
+
+    // username 으로 JPQL 조회 (같은 username 의 조회 결과는 쿼리 캐시에서 재사용)
+    public Optional<Memo> queryByUsername(String username) {
+        return em.createNamedQuery(Memo.FIND_BY_USERNAME, Memo.class)
+                .setParameter("username", username)
+                .getResultList()
+                .stream()
+                .findFirst();
+    }
+
+    // 식별자가 afterId 보다 큰 Memo 요약을 식별자 순서로 최대 limit 건 조회 (첫 페이지는 afterId = 0)
+    // JPQL 생성자 표현식으로 id, username 컬럼만 읽어 MemoSummary 로 바로 생성
+    public List<MemoSummary> findSummaries(long afterId, int limit) {
+        return em.createQuery("select new com.sparta.repository.MemoSummary(m.id, m.username)"
+                        + " from Memo m where m.id > :afterId order by m.id", MemoSummary.class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // username 이 afterUsername 보다 큰 Memo 요약을 username 순서로 최대 limit 건 조회 (첫 페이지는 afterUsername = null)
+    // uk_memo_username 인덱스를 afterUsername 다음부터 읽음 (keyset 페이지 조회)
+    public List<MemoSummary> findSummariesAfterUsername(String afterUsername, int limit) {
+        if (afterUsername == null) {
+            return em.createQuery("select new com.sparta.repository.MemoSummary(m.id, m.username)"
+                            + " from Memo m order by m.username", MemoSummary.class)
+                    .setMaxResults(limit)
+                    .getResultList();
+        }
+        return em.createQuery("select new com.sparta.repository.MemoSummary(m.id, m.username)"
+                        + " from Memo m where m.username > :afterUsername order by m.username", MemoSummary.class)
+                .setParameter("afterUsername", afterUsername)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // findSummaries 와 같은 결과를 Tuple 쿼리로 조회
+    // 조회할 컬럼을 런타임에 고르는 등 생성자 표현식을 쓰기 어려운 경우에 사용
+    public List<MemoSummary> findSummariesAsTuples(long afterId, int limit) {
+        return em.createQuery("select m.id as id, m.username as username"
+                        + " from Memo m where m.id > :afterId order by m.id", Tuple.class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultStream()
+                .map(tuple -> new MemoSummary(tuple.get("id", Long.class), tuple.get("username", String.class)))
+                .toList();
+    }
+
+    // username 이 prefix 로 시작하는 Memo 요약을 username 순서로 최대 limit 건 조회
+    // uk_memo_username 인덱스의 범위 검색 (인덱스에 id 도 들어 있어 테이블을 읽지 않음)
+    public List<MemoSummary> findSummariesByUsernamePrefix(String prefix, int limit) {
+        return em.createQuery("select new com.sparta.repository.MemoSummary(m.id, m.username)"
+                        + " from Memo m where m.username like :prefix escape '!' order by m.username", MemoSummary.class)
+                .setParameter("prefix", likePrefix(prefix))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // 최근에 저장한 순서로 Memo 요약을 최대 limit 건 조회
+    // idx_memo_recent(created_at desc, id desc, username) 를 순서대로 읽어 정렬 없이 앞의 limit 건만 읽음
+    public List<MemoSummary> findRecentSummaries(int limit) {
+        return em.createQuery("select new com.sparta.repository.MemoSummary(m.id, m.username)"
+                        + " from Memo m order by m.createdAt desc, m.id desc", MemoSummary.class)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // since 이후에 수정된 Memo 를 수정 시각 순서로 최대 limit 건 조회 (idx_memo_updated_at 범위 검색)
+    public List<Memo> findUpdatedSince(LocalDateTime since, int limit) {
+        return findUpdatedSince(since, limit, MemoFetchProfile.SUMMARY);
+    }
+
+    public List<Memo> findUpdatedSince(LocalDateTime since, int limit, MemoFetchProfile profile) {
+        return profile.apply(em, em.createQuery("select m from Memo m where m.updatedAt > :since order by m.updatedAt", Memo.class))
+                .setParameter("since", since)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // 내용이 prefix 로 시작하는 Memo 요약을 내용 순서로 최대 limit 건 조회 (idx_memo_contents_preview 범위 검색)
+    // contents 는 압축되어 있으므로 앞부분(contentsPreview)으로 검색하며, prefix 는 Memo.PREVIEW_LENGTH 글자까지
+    public List<MemoSummary> findSummariesByContentsPrefix(String prefix, int limit) {
+        if (prefix.length() > Memo.PREVIEW_LENGTH) {
+            throw new IllegalArgumentException("접두사는 " + Memo.PREVIEW_LENGTH + "글자까지 검색할 수 있습니다.");
+        }
+        return em.createQuery("select new com.sparta.repository.MemoSummary(m.id, m.username)"
+                        + " from Memo m where m.contentsPreview like :prefix escape '!' order by m.contentsPreview", MemoSummary.class)
+                .setParameter("prefix", likePrefix(prefix))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // LIKE 패턴의 특수문자(%, _)를 이스케이프하고 뒤에 % 를 붙임 (앞부분이 고정되어야 인덱스 범위 검색 가능)
+    // MySQL 문자열에서는 \ 가 이스케이프 문자라서 데이터베이스마다 뜻이 같은 ! 를 이스케이프 문자로 사용
+    private static String likePrefix(String prefix) {
+        return prefix.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+    }
+}
@@ -0,0 +1,59 @@
+package com.sparta.repository;
+
+import com.sparta.entity.Memo;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.SpecHints;
+
+import java.util.function.Consumer;
+
+// memo 테이블 전체를 한 건씩 읽어 전달하는 스캐너
+// StatelessSession 은 1차 캐시, 2차 캐시, 변경 감지가 없으므로 전달한 Memo 는 어디에도 붙잡혀 있지 않고,
+// 순방향 커서로 fetchSize 건씩 가져오므로 테이블 크기와 관계없이 메모리 사용량이 일정함
+public class MemoScanner {
+
+    public static final int DEFAULT_FETCH_SIZE = 1000;
+
+    private final SessionFactory sessionFactory;
+    private final int fetchSize;
+
+    public MemoScanner(EntityManagerFactory emf) {
+        this(emf, DEFAULT_FETCH_SIZE);
+    }
+
+    public MemoScanner(EntityManagerFactory emf, int fetchSize) {
+        this.sessionFactory = emf.unwrap(SessionFactory.class);
+        this.fetchSize = fetchSize;
+    }
+
+    // 모든 Memo 를 식별자 순서로 consumer 에 전달하고 전달한 건수 반환
+    public long scan(Consumer<Memo> consumer) {
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            Transaction tx = session.beginTransaction();
+
+            try (ScrollableResults<Memo> results = session
+                    .createQuery("select m from Memo m order by m.id", Memo.class)
+                    // StatelessSession 은 지연 로딩을 할 수 없으므로 contents 까지 같은 SELECT 로 읽음
+                    .setHint(SpecHints.HINT_SPEC_LOAD_GRAPH, sessionFactory.unwrap(SessionFactoryImplementor.class).findEntityGraphByName(Memo.FULL_GRAPH))
+                    .setFetchSize(fetchSize)
+                    .setReadOnly(true)
+                    .scroll(ScrollMode.FORWARD_ONLY)) {
+                long count = 0;
+                while (results.next()) {
+                    consumer.accept(results.get());
+                    count++;
+                }
+                tx.commit();
+                return count;
+            } catch (RuntimeException ex) {
+                tx.rollback();
+                throw ex;
+            }
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.sparta.repository;
+
+// 목록 화면용 Memo 요약 (식별자와 username 만 포함)
+// 엔티티가 아니므로 영속성 컨텍스트에 등록되지 않고 변경 감지용 스냅샷도 만들어지지 않음
+public record MemoSummary(Long id, String username) {
+}
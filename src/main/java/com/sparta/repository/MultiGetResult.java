@@ -0,0 +1,11 @@
+package com.sparta.repository;
+
+import com.sparta.entity.Memo;
+
+import java.util.List;
+
+// MemoRepository.findAll 결과
+// memos: 찾은 Memo (요청한 식별자 순서, 같은 식별자를 여러 번 요청해도 한 번만)
+// missing: 없는 식별자 (요청한 순서)
+public record MultiGetResult(List<Memo> memos, List<Long> missing) {
+}
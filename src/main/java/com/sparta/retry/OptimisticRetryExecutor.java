@@ -0,0 +1,110 @@
+package com.sparta.retry;
+
+import com.sparta.JpaManager;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import org.hibernate.StaleStateException;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// 낙관적 잠금 충돌 시 트랜잭션을 처음부터 다시 실행하는 실행기
+// 비관적 잠금(PESSIMISTIC_WRITE)처럼 행을 잠근 채 기다리지 않고, 충돌한 쪽만 잠시 쉬었다가 최신 값을 다시 읽어 재시도
+// 대기 시간은 시도할 때마다 두 배로 늘리되 maxDelay 를 넘지 않고, 0 ~ 대기 시간 사이에서 무작위로 골라
+// 동시에 충돌한 스레드들이 같은 순간에 다시 몰리지 않게 함 (full jitter)
+public class OptimisticRetryExecutor {
+
+    public static final int DEFAULT_MAX_ATTEMPTS = 5;
+    public static final long DEFAULT_BASE_DELAY_MS = 5;
+    public static final long DEFAULT_MAX_DELAY_MS = 200;
+
+    private final JpaManager jpa;
+    private final int maxAttempts;
+    private final long baseDelayNanos;
+    private final long maxDelayNanos;
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder attempts = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    public OptimisticRetryExecutor(JpaManager jpa) {
+        this(jpa, DEFAULT_MAX_ATTEMPTS, DEFAULT_BASE_DELAY_MS, DEFAULT_MAX_DELAY_MS);
+    }
+
+    // maxAttempts: 첫 시도를 포함한 최대 시도 횟수
+    // baseDelayMs, maxDelayMs: 첫 재시도 전 최대 대기 시간과 대기 시간의 상한 (밀리초)
+    public OptimisticRetryExecutor(JpaManager jpa, int maxAttempts, long baseDelayMs, long maxDelayMs) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts 는 1 이상이어야 합니다: " + maxAttempts);
+        }
+        if (baseDelayMs < 0 || maxDelayMs < baseDelayMs) {
+            throw new IllegalArgumentException("0 <= baseDelayMs <= maxDelayMs 이어야 합니다: " + baseDelayMs + ", " + maxDelayMs);
+        }
+        this.jpa = jpa;
+        this.maxAttempts = maxAttempts;
+        this.baseDelayNanos = TimeUnit.MILLISECONDS.toNanos(baseDelayMs);
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMs);
+    }
+
+    // work 를 트랜잭션 안에서 실행하고, 낙관적 잠금 충돌이면 새 트랜잭션에서 다시 실행
+    // work 는 여러 번 실행될 수 있으므로 필요한 엔티티를 매번 em 으로 다시 읽어야 함
+    // maxAttempts 번 모두 충돌하면 마지막 예외를 그대로 던짐
+    public <T> T execute(Function<EntityManager, T> work) {
+        executions.increment();
+
+        for (int attempt = 1; ; attempt++) {
+            attempts.increment();
+            try {
+                return jpa.runInTransaction(work);
+            } catch (RuntimeException ex) {
+                if (!isConflict(ex)) {
+                    throw ex;
+                }
+                conflicts.increment();
+                if (attempt >= maxAttempts) {
+                    failures.increment();
+                    throw ex;
+                }
+                if (!backoff(attempt)) {
+                    // 대기 중 인터럽트되면 재시도하지 않고 중단 (인터럽트 상태는 유지)
+                    failures.increment();
+                    throw ex;
+                }
+                retries.increment();
+            }
+        }
+    }
+
+    // 커밋 시점의 충돌은 RollbackException 에 감싸여 오므로 원인까지 확인
+    private static boolean isConflict(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof OptimisticLockException || cause instanceof StaleStateException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // attempt 번째 시도가 충돌한 뒤 0 ~ min(maxDelay, baseDelay * 2^(attempt-1)) 사이 무작위 시간만큼 대기
+    private boolean backoff(int attempt) {
+        long ceiling = Math.min(maxDelayNanos, baseDelayNanos << Math.min(attempt - 1, 30));
+        if (ceiling <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+            return true;
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public RetryMetrics getMetrics() {
+        return new RetryMetrics(executions.sum(), attempts.sum(), conflicts.sum(), retries.sum(), failures.sum());
+    }
+}
@@ -0,0 +1,11 @@
+package com.sparta.retry;
+
+// 재시도 실행기 통계 스냅샷
+// executions: 실행 요청 수, attempts: 트랜잭션 실행 횟수(재시도 포함), conflicts: 낙관적 잠금 충돌 횟수,
+// retries: 충돌 후 다시 시도한 횟수, failures: 최대 시도 횟수를 넘겨 포기한 횟수
+public record RetryMetrics(long executions,
+                           long attempts,
+                           long conflicts,
+                           long retries,
+                           long failures) {
+}
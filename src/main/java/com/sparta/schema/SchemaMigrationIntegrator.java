@@ -0,0 +1,35 @@
+package com.sparta.schema;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+import java.util.Map;
+
+// EntityManagerFactory 가 만들어질 때 memo.schema.migration 설정에 따라 마이그레이션 적용 또는 검증
+// 하이버네이트의 스키마 처리(hibernate.hbm2ddl.auto=validate)보다 먼저 실행되므로
+// 마이그레이션이 적용된 스키마를 기준으로 엔티티 매핑을 검증함
+// 커넥션 풀 크기에 영향을 주지 않도록 마이그레이션은 풀과 별도로 접속하여 수행
+// META-INF/services/org.hibernate.integrator.spi.Integrator 로 등록
+public class SchemaMigrationIntegrator implements Integrator {
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                          SessionFactoryImplementor sessionFactory) {
+        // SessionFactory.getProperties() 는 비밀번호를 가리므로 원래 설정 값을 사용
+        Map<String, Object> settings = sessionFactory.getServiceRegistry()
+                .getService(ConfigurationService.class)
+                .getSettings();
+        SchemaMigrator.Mode mode = SchemaMigrator.Mode.of(settings.get(SchemaMigrator.MODE));
+        if (mode != SchemaMigrator.Mode.NONE) {
+            SchemaMigrator.fromSettings(settings).run(mode);
+        }
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+}
@@ -0,0 +1,113 @@
+package com.sparta.schema;
+
+import com.sparta.JpaManager;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.output.ValidateResult;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.util.Locale;
+import java.util.Map;
+
+// memo 스키마 버전 관리 (Flyway)
+// 마이그레이션 스크립트는 db/migration/<데이터베이스 종류>/V<버전>__<설명>.sql 에 데이터베이스 종류별로 둠 (h2, mysql)
+// 적용한 버전은 flyway_schema_history 테이블에 기록되므로, 이미 적용된 스크립트는 다시 실행하지 않음
+public final class SchemaMigrator {
+
+    // EntityManagerFactory 시작 시 스키마 처리 방식 (none, validate, migrate)
+    public static final String MODE = "memo.schema.migration";
+
+    public enum Mode {
+        // 아무것도 하지 않음
+        NONE,
+        // 적용되지 않았거나 변경된 마이그레이션이 있으면 시작 실패 (운영: 마이그레이션은 별도로 실행)
+        VALIDATE,
+        // 적용되지 않은 마이그레이션을 적용 (개발, 테스트)
+        MIGRATE;
+
+        public static Mode of(Object value) {
+            return value == null ? NONE : valueOf(value.toString().trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private final Flyway flyway;
+
+    public SchemaMigrator(String url, String user, String password) {
+        this.flyway = Flyway.configure()
+                .dataSource(url, user, password)
+                .locations("classpath:db/migration/" + vendor(url))
+                .load();
+    }
+
+    // persistence.xml 의 JPA 표준 접속 속성으로 생성
+    public static SchemaMigrator fromSettings(Map<String, ?> settings) {
+        return new SchemaMigrator(
+                setting(settings, "jakarta.persistence.jdbc.url", "hibernate.connection.url"),
+                setting(settings, "jakarta.persistence.jdbc.user", "hibernate.connection.username"),
+                setting(settings, "jakarta.persistence.jdbc.password", "hibernate.connection.password"));
+    }
+
+    public void run(Mode mode) {
+        switch (mode) {
+            case MIGRATE -> migrate();
+            case VALIDATE -> validate();
+            case NONE -> {
+            }
+        }
+    }
+
+    // 적용되지 않은 마이그레이션을 순서대로 적용하고 적용한 개수 반환
+    public int migrate() {
+        return flyway.migrate().migrationsExecuted;
+    }
+
+    // 데이터베이스가 스크립트와 같은 버전인지 확인 (다르면 예외 발생)
+    public void validate() {
+        ValidateResult result = flyway.validateWithResult();
+        if (!result.validationSuccessful) {
+            throw new IllegalStateException("memo 스키마가 마이그레이션 스크립트와 다릅니다: "
+                    + result.getAllErrorMessages());
+        }
+    }
+
+    // 현재 적용된 스키마 버전 (아무것도 적용되지 않았으면 null)
+    public String currentVersion() {
+        MigrationInfo current = flyway.info().current();
+        return current == null ? null : current.getVersion().getVersion();
+    }
+
+    // 운영 배포용 마이그레이션 실행기: persistence.xml 의 접속 정보로 마이그레이션을 적용한 뒤
+    // 하이버네이트 검증(hibernate.hbm2ddl.auto=validate)까지 통과하는지 확인
+    // gradle migrateSchema
+    public static void main(String[] args) {
+        try (JpaManager jpa = new JpaManager(Map.of(MODE, Mode.MIGRATE.name()))) {
+            Map<String, Object> settings = jpa.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getServiceRegistry()
+                    .getService(ConfigurationService.class)
+                    .getSettings();
+            SchemaMigrator migrator = fromSettings(settings);
+            System.out.println("memo 스키마 버전: " + migrator.currentVersion());
+        }
+    }
+
+    // JDBC URL 의 데이터베이스 종류 (jdbc:mysql://... → mysql)
+    public static String vendor(String url) {
+        if (url == null || !url.startsWith("jdbc:") || url.indexOf(':', 5) < 0) {
+            throw new IllegalArgumentException("JDBC URL 이 아닙니다: " + url);
+        }
+        return url.substring(5, url.indexOf(':', 5)).toLowerCase(Locale.ROOT);
+    }
+
+    // 먼저 찾은 속성 값을 반환
+    private static String setting(Map<String, ?> settings, String... names) {
+        for (String name : names) {
+            Object value = settings.get(name);
+            if (value != null) {
+                return value.toString();
+            }
+        }
+        return null;
+    }
+}
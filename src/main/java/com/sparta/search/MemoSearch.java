@@ -0,0 +1,140 @@
+package com.sparta.search;
+
+import com.sparta.JpaManager;
+import com.sparta.entity.Memo;
+import com.sparta.repository.MemoFetchProfile;
+import com.sparta.repository.MemoRepository;
+import com.sparta.repository.MemoScanner;
+import org.hibernate.SessionFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Memo.contents 단어 검색 (LIKE '%단어%' 전체 스캔 대신 메모리의 역색인 사용)
+// 처음 만들 때와 rebuild() 할 때 memo 테이블 전체를 읽어 색인을 만들고,
+// 그 뒤의 변경은 커밋될 때 MemoSearchListener 가 반영함 (롤백된 변경은 반영하지 않음)
+// 다른 프로세스의 변경과 JPQL 일괄 수정은 색인에 반영되지 않으므로
+// 후보를 DB 에서 다시 읽어 실제 내용에 단어가 모두 있는 Memo 만 돌려주고,
+// 다른 프로세스도 memo 를 수정하면 주기적으로 rebuild() 하여 빠진 결과를 채움
+public class MemoSearch implements AutoCloseable {
+
+    private final JpaManager jpa;
+    private final MemoSearchListener listener;
+    private final Object rebuildLock = new Object();
+
+    private volatile MemoSearchIndex index = new MemoSearchIndex();
+    // rebuild() 중에만 사용: 새로 만드는 색인과, 그 동안 삭제된 식별자
+    private volatile MemoSearchIndex building;
+    private volatile Set<Long> removedWhileBuilding;
+
+    public MemoSearch(JpaManager jpa) {
+        this.jpa = jpa;
+        this.listener = MemoSearchIntegrator.listenerOf(jpa.getEntityManagerFactory().unwrap(SessionFactory.class));
+        synchronized (listener) {
+            if (listener.attached() != null) {
+                throw new IllegalStateException("이미 MemoSearch 가 연결된 EntityManagerFactory 입니다");
+            }
+            listener.attach(this);
+        }
+        rebuild();
+    }
+
+    // memo 테이블 전체를 읽어 색인을 새로 만든 뒤 교체하고 색인한 Memo 수 반환
+    // 만드는 동안에도 기존 색인으로 검색할 수 있고, 그 사이의 변경은 두 색인에 모두 반영함
+    public long rebuild() {
+        synchronized (rebuildLock) {
+            MemoSearchIndex next = new MemoSearchIndex();
+            Set<Long> removed = ConcurrentHashMap.newKeySet();
+            removedWhileBuilding = removed;
+            building = next;
+            try {
+                // 스캔보다 먼저 반영된 새 버전은 put() 의 버전 비교로 유지됨
+                long count = new MemoScanner(jpa.getEntityManagerFactory())
+                        .scan(memo -> next.put(memo.getId(), memo.getVersion(), memo.getContents()));
+                // 스캔이 이미 읽은 뒤에 삭제된 Memo
+                for (Long id : removed) {
+                    next.remove(id);
+                }
+                index = next;
+                return count;
+            } finally {
+                building = null;
+                removedWhileBuilding = null;
+            }
+        }
+    }
+
+    // rebuild() 중이면 새 색인에도 반영 (교체 직전·직후에도 빠지지 않도록 새 색인을 먼저 확인)
+    void put(long id, Long version, String contents) {
+        MemoSearchIndex next = building;
+        MemoSearchIndex current = index;
+        current.put(id, version, contents);
+        if (next != null && next != current) {
+            next.put(id, version, contents);
+        }
+    }
+
+    void remove(long id) {
+        Set<Long> removed = removedWhileBuilding;
+        MemoSearchIndex next = building;
+        MemoSearchIndex current = index;
+        current.remove(id);
+        if (next != null && next != current) {
+            next.remove(id);
+        }
+        if (removed != null) {
+            removed.add(id);
+        }
+    }
+
+    // query 의 단어가 모두 contents 에 나오는 Memo 식별자 (오름차순, DB 로 다시 확인하지 않음)
+    public long[] searchIds(String query) {
+        return index.search(query);
+    }
+
+    // query 의 단어가 모두 contents 에 나오는 Memo 를 식별자 순서로 최대 limit 개 반환 (읽기 전용)
+    public List<Memo> search(String query, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit 은 1 이상이어야 합니다: " + limit);
+        }
+        long[] candidates = index.search(query);
+        if (candidates.length == 0) {
+            return List.of();
+        }
+        return jpa.runReadOnly(em -> {
+            MemoRepository repository = new MemoRepository(em);
+            List<Memo> result = new ArrayList<>(Math.min(limit, candidates.length));
+            // 후보를 limit 개씩 한 번에 읽고, 확인에서 빠진 만큼 다음 후보를 더 읽음
+            for (int from = 0; from < candidates.length && result.size() < limit; from += limit) {
+                List<Long> ids = Arrays.stream(candidates, from, Math.min(from + limit, candidates.length))
+                        .boxed()
+                        .toList();
+                for (Memo memo : repository.findAll(ids, limit, MemoFetchProfile.FULL).memos()) {
+                    if (MemoSearchIndex.matches(memo.getContents(), query)) {
+                        result.add(memo);
+                        if (result.size() == limit) {
+                            break;
+                        }
+                    }
+                }
+            }
+            return result;
+        });
+    }
+
+    // 현재 색인
+    public MemoSearchIndex index() {
+        return index;
+    }
+
+    // 리스너 연결 해제 (이후 변경은 색인에 반영되지 않음)
+    @Override
+    public void close() {
+        synchronized (listener) {
+            listener.detach(this);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.sparta.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Memo.contents 의 역색인 (단어 → 그 단어가 나오는 메모 식별자 목록)
+// 단어는 글자/숫자가 이어진 구간을 소문자로 바꾼 것 ("Hello, 메모 123" → hello, 메모, 123)
+// 메모를 고치거나 지울 때 이전 단어를 찾을 수 있도록 메모별 단어 목록과 버전도 함께 보관
+// 조회는 여러 스레드가 동시에, 수정은 한 번에 하나씩
+public class MemoSearchIndex {
+
+    private static final long[] NONE = new long[0];
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 메모 하나의 색인 상태
+    private record Document(long version, String[] terms) {}
+
+    // 메모를 추가하거나 내용을 바꿈 (이미 더 새로운 버전이 색인되어 있으면 무시)
+    // version: Memo.version (없으면 null)
+    public void put(long id, Long version, String contents) {
+        long newVersion = version == null ? -1 : version;
+        String[] terms = tokenize(contents);
+
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.get(id);
+            if (previous != null) {
+                if (previous.version() > newVersion) {
+                    return;
+                }
+                removeTerms(id, previous.terms());
+            }
+            for (String term : terms) {
+                postings.computeIfAbsent(term, key -> new PostingList()).add(id);
+            }
+            documents.put(id, new Document(newVersion, terms));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.remove(id);
+            if (previous != null) {
+                removeTerms(id, previous.terms());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeTerms(long id, String[] terms) {
+        for (String term : terms) {
+            PostingList list = postings.get(term);
+            if (list != null && list.remove(id) && list.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    // query 의 단어가 모두 나오는 메모의 식별자 (오름차순)
+    public long[] search(String query) {
+        String[] terms = tokenize(query);
+        if (terms.length == 0) {
+            return NONE;
+        }
+
+        lock.readLock().lock();
+        try {
+            PostingList[] lists = new PostingList[terms.length];
+            for (int i = 0; i < terms.length; i++) {
+                lists[i] = postings.get(terms[i]);
+                if (lists[i] == null) {
+                    return NONE;
+                }
+            }
+            return lists.length == 1 ? lists[0].toArray() : PostingList.intersect(lists);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 색인된 메모 수
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 서로 다른 단어 수
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 중복을 뺀 단어 목록 (나온 순서대로)
+    public static String[] tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return new String[0];
+        }
+        Set<String> terms = new LinkedHashSet<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                terms.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return terms.toArray(new String[0]);
+    }
+
+    // text 에 query 의 단어가 모두 나오는지 (색인 결과를 실제 내용으로 다시 확인할 때 사용)
+    public static boolean matches(String text, String query) {
+        List<String> terms = new ArrayList<>(List.of(tokenize(text)));
+        return terms.containsAll(List.of(tokenize(query)));
+    }
+}
@@ -0,0 +1,47 @@
+package com.sparta.search;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// SessionFactory 마다 MemoSearchListener 를 하나 만들어 커밋 후 저장/수정/삭제 이벤트에 등록
+// MemoSearch 가 연결할 수 있도록 SessionFactory 가 닫힐 때까지 SessionFactory → 리스너를 보관
+// META-INF/services/org.hibernate.integrator.spi.Integrator 로 등록
+public class MemoSearchIntegrator implements Integrator {
+
+    // SessionFactory 구현은 equals 를 재정의하지 않으므로 동일성으로 찾음
+    private static final Map<SessionFactory, MemoSearchListener> LISTENERS = new ConcurrentHashMap<>();
+
+    // sessionFactory 에 등록한 리스너
+    static MemoSearchListener listenerOf(SessionFactory sessionFactory) {
+        MemoSearchListener listener = LISTENERS.get(sessionFactory);
+        if (listener == null) {
+            throw new IllegalStateException("MemoSearchIntegrator 가 등록되지 않았습니다");
+        }
+        return listener;
+    }
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                          SessionFactoryImplementor sessionFactory) {
+        MemoSearchListener listener = new MemoSearchListener();
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, listener);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, listener);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, listener);
+        LISTENERS.put(sessionFactory, listener);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        LISTENERS.remove(sessionFactory);
+    }
+}
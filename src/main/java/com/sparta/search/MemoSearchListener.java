@@ -0,0 +1,81 @@
+package com.sparta.search;
+
+import com.sparta.entity.Memo;
+import org.hibernate.Hibernate;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+
+// Memo 의 저장/수정/삭제를 검색 색인에 반영하는 하이버네이트 이벤트 리스너
+// MemoSearchIntegrator 가 SessionFactory 마다 인스턴스를 하나 등록하고, MemoSearch 가 그 인스턴스를 찾아 연결함
+// 연결된 MemoSearch 가 없으면 아무것도 하지 않음
+// 커밋 후(post-commit) 이벤트만 받으므로 flush 했더라도 롤백된 변경은 색인에 반영되지 않음
+public class MemoSearchListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener {
+
+    private volatile MemoSearch search;
+
+    void attach(MemoSearch search) {
+        this.search = search;
+    }
+
+    void detach(MemoSearch search) {
+        if (this.search == search) {
+            this.search = null;
+        }
+    }
+
+    MemoSearch attached() {
+        return search;
+    }
+
+    // 연결된 MemoSearch 가 있을 때 Memo 의 변경만 커밋 후 처리를 등록
+    // (커밋 후 처리가 필요한 작업은 커밋할 때까지 ActionQueue 에 남아 있으므로, 색인이 없으면 등록하지 않음)
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return search != null && persister.getMappedClass() == Memo.class;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        index(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        index(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        MemoSearch target = search;
+        if (target != null && event.getEntity() instanceof Memo memo) {
+            target.remove(memo.getId());
+        }
+    }
+
+    private void index(Object entity) {
+        MemoSearch target = search;
+        // contents 를 읽지 않은 (지연 로딩 전인) Memo 는 contents 가 바뀌지 않았으므로 색인도 그대로 둠
+        if (target != null && entity instanceof Memo memo && Hibernate.isPropertyInitialized(memo, "contents")) {
+            target.put(memo.getId(), memo.getVersion(), memo.getContents());
+        }
+    }
+
+    // 롤백된 변경은 색인에 반영하지 않음
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+}
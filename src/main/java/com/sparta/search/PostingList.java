@@ -0,0 +1,80 @@
+package com.sparta.search;
+
+import java.util.Arrays;
+
+// 한 단어가 나오는 메모 식별자 목록 (오름차순으로 정렬된 long 배열, 식별자마다 객체를 만들지 않음)
+// 새 메모의 식별자는 보통 가장 크므로 추가는 대부분 배열 끝에 붙음
+final class PostingList {
+
+    private long[] ids = new long[4];
+    private int size;
+
+    // 이미 있으면 false
+    boolean add(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0) {
+            return false;
+        }
+        index = -index - 1;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        System.arraycopy(ids, index, ids, index + 1, size - index);
+        ids[index] = id;
+        size++;
+        return true;
+    }
+
+    // 없으면 false
+    boolean remove(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index < 0) {
+            return false;
+        }
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+        return true;
+    }
+
+    boolean contains(long id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    long[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    // 모든 목록에 들어 있는 식별자 (가장 짧은 목록을 기준으로 나머지 목록에서 이진 탐색)
+    static long[] intersect(PostingList... lists) {
+        PostingList shortest = lists[0];
+        for (PostingList list : lists) {
+            if (list.size < shortest.size) {
+                shortest = list;
+            }
+        }
+        long[] result = new long[shortest.size];
+        int count = 0;
+        for (int i = 0; i < shortest.size; i++) {
+            long id = shortest.ids[i];
+            boolean all = true;
+            for (PostingList list : lists) {
+                if (list != shortest && !list.contains(id)) {
+                    all = false;
+                    break;
+                }
+            }
+            if (all) {
+                result[count++] = id;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+}
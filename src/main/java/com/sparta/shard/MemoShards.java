@@ -0,0 +1,211 @@
+package com.sparta.shard;
+
+import com.sparta.JpaManager;
+import com.sparta.entity.Memo;
+import com.sparta.repository.MemoFetchProfile;
+import com.sparta.repository.MemoRepository;
+import com.sparta.repository.MemoSummary;
+import com.sparta.schema.SchemaMigrator;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.hibernate.cfg.AvailableSettings;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+// memo 테이블을 여러 데이터베이스(샤드)에 나눠 저장
+// 샤드마다 'memo' 퍼시스턴스 유닛의 접속 URL 만 바꾼 JpaManager 를 하나씩 만들고, ShardResolver 로 샤드를 고름
+// 저장과 username/식별자 조회는 샤드 하나에서, 목록 조회는 모든 샤드에 동시에 보낸 뒤 정렬 순서대로 합침 (scatter-gather)
+// 2차 캐시는 끔 (JCache 캐시 이름이 프로세스 전체에서 공유되므로 샤드마다 따로 둘 수 없음)
+// 샤드마다 ShardGuard 를 붙여 username 해시와 다른 샤드에 저장되지 않게 하고, 샤드가 바뀌는 username 변경은 rename() 으로 옮김
+public class MemoShards implements AutoCloseable {
+
+    private final List<JpaManager> shards = new ArrayList<>();
+    private final ShardResolver resolver;
+    private final ExecutorService threads;
+
+    // urls: 샤드 접속 URL (순서가 샤드 번호이므로 바꾸면 안 됨)
+    // properties: 모든 샤드에 공통으로 덮어쓸 설정 (접속 계정 등)
+    public MemoShards(List<String> urls, Map<String, ?> properties) {
+        this.resolver = new ShardResolver(urls.size());
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.threads = Executors.newFixedThreadPool(urls.size(), runnable -> {
+            Thread thread = new Thread(runnable, "memo-shard-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (int shard = 0; shard < urls.size(); shard++) {
+                Map<String, Object> shardProperties = new HashMap<>(properties);
+                shardProperties.put("jakarta.persistence.jdbc.url", urls.get(shard));
+                shardProperties.put("hibernate.cache.use_second_level_cache", "false");
+                shardProperties.put("hibernate.cache.use_query_cache", "false");
+                shardProperties.put(AvailableSettings.INTERCEPTOR, new ShardGuard(resolver, shard));
+                JpaManager jpa = new JpaManager(shardProperties);
+                shards.add(jpa);
+                reserveIds(jpa, urls.get(shard), ShardResolver.firstId(shard));
+            }
+        } catch (RuntimeException ex) {
+            close();
+            throw ex;
+        }
+    }
+
+    // 샤드의 memo_seq 가 자기 식별자 범위부터 발급하도록 옮김 (이미 옮겼으면 그대로)
+    private static void reserveIds(JpaManager jpa, String url, long firstId) {
+        if (firstId == 1) {
+            return;
+        }
+        String vendor = SchemaMigrator.vendor(url);
+        jpa.runInTransaction(em -> {
+            if (vendor.equals("mysql")) {
+                // 시퀀스가 없는 MySQL 에서는 하이버네이트가 memo_seq 테이블로 대신 구현
+                return em.createNativeQuery("update memo_seq set next_val = ?1 where next_val < ?1")
+                        .setParameter(1, firstId)
+                        .executeUpdate();
+            }
+            long next = ((Number) em.createNativeQuery("select next value for memo_seq").getSingleResult()).longValue();
+            return next < firstId
+                    ? em.createNativeQuery("alter sequence memo_seq restart with " + firstId).executeUpdate()
+                    : 0;
+        });
+    }
+
+    public ShardResolver resolver() {
+        return resolver;
+    }
+
+    public int shardCount() {
+        return shards.size();
+    }
+
+    public JpaManager shard(int shard) {
+        return shards.get(shard);
+    }
+
+    // username 으로 고른 샤드에 저장하고 식별자 반환
+    public Long persist(Memo memo) {
+        return shards.get(resolver.shardOf(memo.getUsername())).runInTransaction(em -> {
+            em.persist(memo);
+            return memo.getId();
+        });
+    }
+
+    // id 인 Memo 의 username 을 바꾸고 바꾼 Memo 의 식별자 반환 (Memo 가 없으면 빈 값)
+    // 새 username 도 같은 샤드면 그 자리에서 수정하고, 다른 샤드면 새 샤드에 새 식별자로 저장한 뒤 원래 샤드에서 삭제
+    // (식별자가 샤드를 나타내므로 옮기면 식별자가 바뀌고 created_at 도 새로 기록됨)
+    // 두 데이터베이스에 걸친 작업이라 원자적이지 않음 : 원래 행을 잠근 채 새 샤드에 먼저 저장하므로 잃어버리지는 않지만,
+    // 새 샤드에 저장한 뒤 원래 샤드의 커밋이 실패하면 양쪽에 남음
+    public Optional<Long> rename(long id, String username) {
+        int from = resolver.shardOf(id);
+        int to = resolver.shardOf(username);
+        return shards.get(from).runInTransaction(em -> {
+            Memo memo = em.find(Memo.class, id, LockModeType.PESSIMISTIC_WRITE);
+            if (memo == null) {
+                return Optional.empty();
+            }
+            if (from == to) {
+                memo.setUsername(username);
+                return Optional.of(memo.getId());
+            }
+            Memo moved = new Memo();
+            moved.setUsername(username);
+            moved.setContents(memo.getContents());
+            Long movedId = shards.get(to).runInTransaction(target -> {
+                target.persist(moved);
+                return moved.getId();
+            });
+            em.remove(memo);
+            return Optional.of(movedId);
+        });
+    }
+
+    // 작업 단위가 끝난 뒤에 반환하므로 contents 는 읽을 수 없음 (필요하면 MemoFetchProfile.FULL)
+    public Optional<Memo> find(long id) {
+        return find(id, MemoFetchProfile.SUMMARY);
+    }
+
+    public Optional<Memo> find(long id, MemoFetchProfile profile) {
+        return shards.get(resolver.shardOf(id)).runReadOnly(em -> new MemoRepository(em).findById(id, profile));
+    }
+
+    public Optional<Memo> findByUsername(String username) {
+        return shards.get(resolver.shardOf(username)).runReadOnly(em -> new MemoRepository(em).findByUsername(username));
+    }
+
+    // username 이 prefix 로 시작하는 Memo 요약을 username 순서로 최대 limit 건 (모든 샤드 조회)
+    public List<MemoSummary> findSummariesByUsernamePrefix(String prefix, int limit) {
+        return gather(em -> new MemoRepository(em).findSummariesByUsernamePrefix(prefix, limit),
+                Comparator.comparing(MemoSummary::username), limit);
+    }
+
+    // since 이후에 수정된 Memo 를 수정 시각 순서로 최대 limit 건 (모든 샤드 조회)
+    public List<Memo> findUpdatedSince(LocalDateTime since, int limit) {
+        return gather(em -> new MemoRepository(em).findUpdatedSince(since, limit),
+                Comparator.comparing(Memo::getUpdatedAt).thenComparing(Memo::getId), limit);
+    }
+
+    // 모든 샤드에서 query 를 읽기 전용으로 동시에 실행하고 샤드 순서대로 결과 반환
+    // 하나라도 실패하면 그 예외를 던짐
+    public <T> List<T> scatter(Function<EntityManager, T> query) {
+        List<CompletableFuture<T>> futures = new ArrayList<>(shards.size());
+        for (JpaManager shard : shards) {
+            futures.add(CompletableFuture.supplyAsync(() -> shard.runReadOnly(query), threads));
+        }
+        try {
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    // 샤드마다 order 순서로 정렬된 결과를 돌려주는 query 를 모든 샤드에 보내고,
+    // 샤드별 결과의 앞부분끼리 비교하며 합쳐 (k-way merge) 전체에서 order 순서로 앞의 limit 건 반환
+    // query 는 샤드마다 limit 건까지만 읽으면 충분함
+    public <T> List<T> gather(Function<EntityManager, List<T>> query, Comparator<? super T> order, int limit) {
+        List<List<T>> results = scatter(query);
+
+        // 각 샤드 결과에서 다음에 꺼낼 위치 {샤드, 위치}
+        PriorityQueue<int[]> heads = new PriorityQueue<>(Math.max(1, results.size()),
+                (a, b) -> order.compare(results.get(a[0]).get(a[1]), results.get(b[0]).get(b[1])));
+        for (int shard = 0; shard < results.size(); shard++) {
+            if (!results.get(shard).isEmpty()) {
+                heads.add(new int[]{shard, 0});
+            }
+        }
+
+        List<T> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heads.isEmpty()) {
+            int[] head = heads.poll();
+            List<T> result = results.get(head[0]);
+            merged.add(result.get(head[1]));
+            if (++head[1] < result.size()) {
+                heads.add(head);
+            }
+        }
+        return merged;
+    }
+
+    @Override
+    public void close() {
+        threads.shutdown();
+        for (JpaManager shard : shards) {
+            shard.close();
+        }
+    }
+}
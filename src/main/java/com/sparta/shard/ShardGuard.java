@@ -0,0 +1,45 @@
+package com.sparta.shard;
+
+import com.sparta.entity.Memo;
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+// 샤드 하나의 세션에 붙이는 인터셉터
+// username 해시로 이 샤드가 아닌 Memo 를 저장하거나, username 을 다른 샤드의 값으로 바꾸면 예외 발생
+// (그대로 두면 username 조회가 다른 샤드를 찾아 Memo 를 찾지 못함, 샤드를 옮기려면 MemoShards.rename)
+final class ShardGuard implements Interceptor {
+
+    private final ShardResolver resolver;
+    private final int shard;
+
+    ShardGuard(ShardResolver resolver, int shard) {
+        this.resolver = resolver;
+        this.shard = shard;
+    }
+
+    @Override
+    public boolean onSave(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        check(entity, state, propertyNames);
+        return false;
+    }
+
+    @Override
+    public boolean onFlushDirty(Object entity, Object id, Object[] currentState, Object[] previousState,
+                                String[] propertyNames, Type[] types) {
+        check(entity, currentState, propertyNames);
+        return false;
+    }
+
+    private void check(Object entity, Object[] state, String[] propertyNames) {
+        if (!(entity instanceof Memo)) {
+            return;
+        }
+        for (int i = 0; i < propertyNames.length; i++) {
+            if (propertyNames[i].equals("username") && state[i] instanceof String username
+                    && resolver.shardOf(username) != shard) {
+                throw new IllegalStateException("username '" + username + "' 은 샤드 " + resolver.shardOf(username)
+                        + " 에 저장해야 합니다 (현재 샤드 " + shard + ", 샤드를 옮기려면 MemoShards.rename)");
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.sparta.shard;
+
+// Memo 가 저장될 샤드 결정
+// 새 Memo 는 username 해시로 샤드를 고르고, 샤드마다 식별자 범위를 나눠 두어 (샤드 번호 << ID_SHIFT 부터)
+// 식별자만으로도 샤드를 알 수 있게 함 (식별자는 INSERT 전에 샤드의 시퀀스에서 받으므로 식별자 해시로는 샤드를 미리 고를 수 없음)
+// 샤드 수를 바꾸면 username 해시 결과가 달라지므로 기존 데이터를 옮겨야 함
+public final class ShardResolver {
+
+    // 샤드 하나가 쓸 수 있는 식별자 수 2^48, 샤드는 최대 2^15 개
+    public static final int ID_SHIFT = 48;
+    public static final int MAX_SHARDS = 1 << (63 - ID_SHIFT);
+
+    private final int shardCount;
+
+    public ShardResolver(int shardCount) {
+        if (shardCount < 1 || shardCount > MAX_SHARDS) {
+            throw new IllegalArgumentException("샤드 수는 1 이상 " + MAX_SHARDS + " 이하여야 합니다: " + shardCount);
+        }
+        this.shardCount = shardCount;
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    // username 으로 저장할 샤드 (String.hashCode 는 JVM 과 관계없이 같은 값이므로 프로세스가 달라도 같은 샤드)
+    public int shardOf(String username) {
+        int hash = username.hashCode();
+        // 비슷한 username 이 한 샤드로 몰리지 않도록 비트를 섞음
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        return Math.floorMod(hash, shardCount);
+    }
+
+    // 식별자가 속한 샤드
+    public int shardOf(long id) {
+        long shard = id >>> ID_SHIFT;
+        if (id < 1 || shard >= shardCount) {
+            throw new IllegalArgumentException("어느 샤드의 식별자도 아닙니다: " + id);
+        }
+        return (int) shard;
+    }
+
+    // shard 가 처음으로 발급하는 식별자
+    public static long firstId(int shard) {
+        return ((long) shard << ID_SHIFT) + 1;
+    }
+}
@@ -0,0 +1,219 @@
+package com.sparta.sqllog;
+
+import com.sparta.json.Json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// 실행한 SQL, 바인딩 파라미터, 실행 시간을 JSON 한 줄씩 파일에 기록하는 비동기 로거
+// SQL 을 실행한 스레드는 링 버퍼에 넣기만 하고, 파일 쓰기는 로그 스레드 하나가 모아서 처리
+// (hibernate.show_sql 처럼 실행 스레드가 System.out 잠금을 기다리며 줄을 서지 않음)
+// sampleRate 비율만큼만 기록하되, slowThreshold 이상 걸린 SQL 은 항상 기록
+// 바인딩 파라미터에는 메모 내용 같은 사용자 데이터가 들어 있으므로 memo.sql-log.parameters=true 일 때만 기록
+public class AsyncSqlLogger implements AutoCloseable {
+
+    // SQL 로그 사용 여부
+    public static final String ENABLED = "memo.sql-log.enabled";
+    // 로그 파일 경로 (같은 경로를 쓰는 로거끼리는 파일 하나를 함께 씀)
+    public static final String FILE = "memo.sql-log.file";
+    // 기록할 비율 (0.0 ~ 1.0)
+    public static final String SAMPLE_RATE = "memo.sql-log.sample-rate";
+    // 이 시간 이상 걸린 SQL 은 느린 쿼리로 표시하고 항상 기록 (밀리초)
+    public static final String SLOW_THRESHOLD = "memo.sql-log.slow-threshold-ms";
+    // 바인딩 파라미터 기록 여부 (기본값 false)
+    public static final String PARAMETERS = "memo.sql-log.parameters";
+    // 링 버퍼 크기 (가득 차면 새 로그는 버림)
+    public static final String BUFFER_SIZE = "memo.sql-log.buffer-size";
+    // 로그 파일 하나의 최대 크기 (바이트)
+    public static final String MAX_FILE_SIZE = "memo.sql-log.max-file-bytes";
+    // 보관할 이전 로그 파일 수
+    public static final String MAX_FILES = "memo.sql-log.max-files";
+
+    private final double sampleRate;
+    private final boolean logParameters;
+    private final long slowThresholdNanos;
+    private final SqlEventRingBuffer buffer;
+    private final RollingFileWriter writer;
+    private final Thread drainer;
+    private volatile boolean running = true;
+
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder sampledOut = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    // 로그 스레드에서만 증가
+    private volatile long written;
+
+    public AsyncSqlLogger(Path file, double sampleRate, boolean logParameters, long slowThresholdMs, int bufferSize,
+                          long maxFileBytes, int maxFiles) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("sampleRate 는 0 이상 1 이하여야 합니다: " + sampleRate);
+        }
+        this.sampleRate = sampleRate;
+        this.logParameters = logParameters;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+        this.buffer = new SqlEventRingBuffer(bufferSize);
+        try {
+            this.writer = RollingFileWriter.open(file, maxFileBytes, maxFiles);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("SQL 로그 파일을 열 수 없습니다: " + file, ex);
+        }
+        this.drainer = new Thread(this::drain, "memo-sql-log");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    // memo.sql-log.* 설정으로 로거 생성 (memo.sql-log.enabled 가 true 가 아니면 null)
+    public static AsyncSqlLogger fromSettings(Map<String, Object> settings) {
+        if (!Boolean.parseBoolean(String.valueOf(settings.get(ENABLED)))) {
+            return null;
+        }
+        return new AsyncSqlLogger(
+                Path.of(String.valueOf(settings.getOrDefault(FILE, "logs/sql.log"))),
+                Double.parseDouble(String.valueOf(settings.getOrDefault(SAMPLE_RATE, "1.0"))),
+                Boolean.parseBoolean(String.valueOf(settings.getOrDefault(PARAMETERS, "false"))),
+                Long.parseLong(String.valueOf(settings.getOrDefault(SLOW_THRESHOLD, "100"))),
+                Integer.parseInt(String.valueOf(settings.getOrDefault(BUFFER_SIZE, "8192"))),
+                Long.parseLong(String.valueOf(settings.getOrDefault(MAX_FILE_SIZE, "10485760"))),
+                Integer.parseInt(String.valueOf(settings.getOrDefault(MAX_FILES, "5"))));
+    }
+
+    // connection 에서 만든 Statement 의 실행을 기록하는 Connection 반환
+    public Connection wrap(Connection connection) {
+        return LoggingStatements.wrap(connection, this);
+    }
+
+    // false 면 LoggingStatements 가 파라미터를 모으지 않음
+    boolean logsParameters() {
+        return logParameters;
+    }
+
+    // SQL 실행 스레드에서 호출
+    // rows: 행마다의 바인딩 파라미터 (배치가 아니면 한 행, 파라미터를 기록하지 않으면 빈 행 하나)
+    void record(String sql, Object[][] rows, int batchSize, long elapsedNanos) {
+        executed.increment();
+        boolean slow = elapsedNanos >= slowThresholdNanos;
+        if (!slow && (sampleRate == 0 || (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate))) {
+            sampledOut.increment();
+            return;
+        }
+        SqlEvent event = new SqlEvent(System.currentTimeMillis(), Thread.currentThread().getName(),
+                sql, rows, batchSize, elapsedNanos, slow);
+        if (!buffer.offer(event)) {
+            dropped.increment();
+        }
+    }
+
+    // 로그 스레드 : 버퍼가 빌 때까지 기록하고, 비면 파일에 내보낸 뒤 잠시 대기
+    private void drain() {
+        StringBuilder line = new StringBuilder(256);
+        while (true) {
+            SqlEvent event = buffer.poll();
+            try {
+                if (event == null) {
+                    writer.flush();
+                    if (!running) {
+                        // close() 이후 남은 로그까지 모두 기록했으면 종료
+                        if ((event = buffer.poll()) == null) {
+                            return;
+                        }
+                    } else {
+                        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+                        continue;
+                    }
+                }
+                line.setLength(0);
+                writer.write(toJson(event, line));
+                written++;
+            } catch (IOException ex) {
+                // 파일을 쓸 수 없으면 이번 로그는 버리고 계속 진행 (SQL 실행에는 영향을 주지 않음)
+                dropped.increment();
+            }
+        }
+    }
+
+    // {"ts":"...","thread":"...","elapsedUs":12.3,"slow":false,"batch":1,"sql":"...","params":[...]}
+    // 배치면 params 는 행마다의 파라미터 목록 [[...],[...]], 파라미터를 기록하지 않으면 []
+    static String toJson(SqlEvent event, StringBuilder sb) {
+        sb.append("{\"ts\":\"").append(Instant.ofEpochMilli(event.epochMillis())).append('"');
+        sb.append(",\"thread\":");
+        Json.appendString(sb, event.thread());
+        sb.append(",\"elapsedUs\":").append(event.elapsedNanos() / 1_000.0);
+        sb.append(",\"slow\":").append(event.slow());
+        sb.append(",\"batch\":").append(event.batchSize());
+        sb.append(",\"sql\":");
+        Json.appendString(sb, event.sql());
+        sb.append(",\"params\":");
+        Object[][] rows = event.rows();
+        if (rows.length == 1) {
+            appendRow(sb, rows[0]);
+        } else {
+            sb.append('[');
+            for (int i = 0; i < rows.length; i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                appendRow(sb, rows[i]);
+            }
+            sb.append(']');
+        }
+        return sb.append("}\n").toString();
+    }
+
+    // 행 하나의 파라미터 [값, ...]
+    private static void appendRow(StringBuilder sb, Object[] row) {
+        sb.append('[');
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            appendValue(sb, row[i]);
+        }
+        sb.append(']');
+    }
+
+    // 바이너리/스트림 파라미터는 내용 대신 크기나 종류만 기록 (toString() 은 [B@1a2b3c 처럼 의미 없는 값)
+    private static void appendValue(StringBuilder sb, Object value) {
+        if (value == null || value instanceof Number || value instanceof Boolean) {
+            sb.append(value);
+        } else if (value instanceof byte[] bytes) {
+            Json.appendString(sb, "<" + bytes.length + " bytes>");
+        } else if (value instanceof InputStream || value instanceof Reader || value instanceof Blob || value instanceof Clob) {
+            Json.appendString(sb, "<" + value.getClass().getSimpleName() + ">");
+        } else {
+            Json.appendString(sb, value.toString());
+        }
+    }
+
+    public SqlLogMetrics getMetrics() {
+        return new SqlLogMetrics(executed.sum(), sampledOut.sum(), dropped.sum(), written);
+    }
+
+    // 남은 로그를 모두 기록하고 파일을 닫음
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            writer.close();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
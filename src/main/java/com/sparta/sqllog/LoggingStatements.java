@@ -0,0 +1,133 @@
+package com.sparta.sqllog;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Connection / Statement 동적 프록시
+// Connection 에서 만든 Statement 를 감싸 set*() 로 바인딩한 파라미터를 모아두고, execute*() 의 실행 시간을 재어 로거에 넘김
+// 배치는 addBatch() 마다 그 행의 파라미터를 복사해 두어 모든 행을 기록 (로거가 파라미터를 기록하지 않으면 모으지 않음)
+final class LoggingStatements {
+
+    private LoggingStatements() {}
+
+    static Connection wrap(Connection connection, AsyncSqlLogger logger) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    return switch (method.getName()) {
+                        case "prepareStatement" -> wrapStatement(PreparedStatement.class, result, (String) args[0], logger);
+                        case "prepareCall" -> wrapStatement(CallableStatement.class, result, (String) args[0], logger);
+                        case "createStatement" -> wrapStatement(Statement.class, result, null, logger);
+                        default -> result;
+                    };
+                });
+    }
+
+    private static Object wrapStatement(Class<? extends Statement> type, Object statement, String sql, AsyncSqlLogger logger) {
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                new StatementHandler((Statement) statement, sql, logger));
+    }
+
+    // 위임 대상이 던진 예외를 감싸지 않고 그대로 전달
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    // Statement 는 한 스레드에서만 사용하므로 일반 필드로 충분
+    private static final class StatementHandler implements InvocationHandler {
+
+        private static final Object[] NO_PARAMETERS = new Object[0];
+        private static final Object[][] NO_ROWS = {NO_PARAMETERS};
+
+        private final Statement target;
+        // PreparedStatement 면 준비한 SQL, Statement 면 null (execute*(sql) 의 인자를 사용)
+        private final String sql;
+        private final AsyncSqlLogger logger;
+        private Object[] parameters = NO_PARAMETERS;
+        private int parameterCount;
+        private int batchSize;
+        // addBatch() 한 행들의 파라미터 (파라미터를 기록할 때만)
+        private final List<Object[]> batchRows = new ArrayList<>();
+
+        StatementHandler(Statement target, String sql, AsyncSqlLogger logger) {
+            this.target = target;
+            this.sql = sql;
+            this.logger = logger;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index
+                    && logger.logsParameters()) {
+                // setString(1, "a"), setNull(2, Types.VARCHAR) 등 : 위치 기반 파라미터 기록
+                bind(index, name.equals("setNull") ? null : args[1]);
+                return LoggingStatements.invoke(target, method, args);
+            }
+
+            switch (name) {
+                case "clearParameters" -> {
+                    Arrays.fill(parameters, null);
+                    parameterCount = 0;
+                }
+                case "addBatch" -> {
+                    batchSize++;
+                    // PreparedStatement.addBatch() : 지금 바인딩된 파라미터가 한 행
+                    if (args == null && logger.logsParameters()) {
+                        batchRows.add(Arrays.copyOf(parameters, parameterCount));
+                    }
+                }
+                case "clearBatch" -> {
+                    batchSize = 0;
+                    batchRows.clear();
+                }
+                case "execute", "executeQuery", "executeUpdate", "executeLargeUpdate" -> {
+                    return timed(method, args, 1,
+                            parameterCount == 0 ? NO_ROWS : new Object[][]{Arrays.copyOf(parameters, parameterCount)});
+                }
+                case "executeBatch", "executeLargeBatch" -> {
+                    int size = batchSize;
+                    Object[][] rows = batchRows.isEmpty() ? NO_ROWS : batchRows.toArray(new Object[0][]);
+                    batchSize = 0;
+                    batchRows.clear();
+                    return timed(method, args, size, rows);
+                }
+                default -> {
+                }
+            }
+            return LoggingStatements.invoke(target, method, args);
+        }
+
+        private void bind(int index, Object value) {
+            if (index > parameters.length) {
+                parameters = Arrays.copyOf(parameters, Math.max(index, parameters.length * 2));
+            }
+            parameters[index - 1] = value;
+            parameterCount = Math.max(parameterCount, index);
+        }
+
+        private Object timed(Method method, Object[] args, int size, Object[][] rows) throws Throwable {
+            long start = System.nanoTime();
+            try {
+                return LoggingStatements.invoke(target, method, args);
+            } finally {
+                String executed = args != null && args.length > 0 && args[0] instanceof String text ? text : sql;
+                logger.record(executed, rows, size, System.nanoTime() - start);
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.sparta.sqllog;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+// 크기가 maxBytes 를 넘으면 file → file.1 → file.2 ... 로 밀어내고 새 파일에 쓰는 로그 파일 (최대 maxFiles 개 보관)
+// EntityManagerFactory 마다 (샤드, 복제본 설정 등) 로거가 있어도 같은 경로는 open() 으로 하나만 열어 함께 쓰고
+// (따로 열면 각자 덧붙이고 각자 밀어내므로 줄이 섞이고 보관 개수가 깨짐), 마지막으로 close() 할 때 닫음
+// 여러 로그 스레드가 쓰므로 줄 단위로 잠금, 크기 설정은 처음 연 로거의 값을 사용
+final class RollingFileWriter implements AutoCloseable {
+
+    // 절대 경로 → 열려 있는 파일
+    private static final Map<Path, RollingFileWriter> OPEN = new HashMap<>();
+
+    private final Path file;
+    private final long maxBytes;
+    private final int maxFiles;
+    private Writer out;
+    private long size;
+    // open() 한 로거 수 (OPEN 으로 잠금)
+    private int references;
+
+    private RollingFileWriter(Path file, long maxBytes, int maxFiles) throws IOException {
+        this.file = file;
+        this.maxBytes = maxBytes;
+        this.maxFiles = maxFiles;
+        Files.createDirectories(this.file.getParent());
+        open();
+    }
+
+    // file 을 쓰는 RollingFileWriter (이미 열려 있으면 같은 인스턴스)
+    static RollingFileWriter open(Path file, long maxBytes, int maxFiles) throws IOException {
+        Path key = file.toAbsolutePath().normalize();
+        synchronized (OPEN) {
+            RollingFileWriter writer = OPEN.get(key);
+            if (writer == null) {
+                writer = new RollingFileWriter(key, maxBytes, maxFiles);
+                OPEN.put(key, writer);
+            }
+            writer.references++;
+            return writer;
+        }
+    }
+
+    private void open() throws IOException {
+        out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+        size = Files.size(file);
+    }
+
+    synchronized void write(String line) throws IOException {
+        // 로그는 대부분 ASCII 이므로 문자 수로 크기를 어림
+        if (size > 0 && size + line.length() > maxBytes) {
+            roll();
+        }
+        out.write(line);
+        size += line.length();
+    }
+
+    private void roll() throws IOException {
+        out.close();
+        for (int i = maxFiles - 1; i >= 1; i--) {
+            Path source = rolled(i);
+            if (Files.exists(source)) {
+                Files.move(source, rolled(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        if (maxFiles >= 1) {
+            Files.move(file, rolled(1), StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.delete(file);
+        }
+        open();
+    }
+
+    private Path rolled(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+
+    synchronized void flush() throws IOException {
+        out.flush();
+    }
+
+    // open() 한 로거가 모두 닫으면 파일을 닫음
+    @Override
+    public void close() throws IOException {
+        synchronized (OPEN) {
+            if (--references > 0) {
+                return;
+            }
+            OPEN.remove(file);
+        }
+        synchronized (this) {
+            out.close();
+        }
+    }
+}
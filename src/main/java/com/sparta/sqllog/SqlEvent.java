@@ -0,0 +1,13 @@
+package com.sparta.sqllog;
+
+// 실행한 SQL 한 건
+// rows: 행마다 바인딩한 파라미터 (배치가 아니면 한 행), batchSize: 배치로 보낸 행 수 (배치가 아니면 1)
+// slow: 느린 쿼리 기준 이상 걸렸는지 여부 (느린 쿼리는 샘플링과 관계없이 항상 기록)
+public record SqlEvent(long epochMillis,
+                       String thread,
+                       String sql,
+                       Object[][] rows,
+                       int batchSize,
+                       long elapsedNanos,
+                       boolean slow) {
+}
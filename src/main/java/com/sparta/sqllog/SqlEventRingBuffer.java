@@ -0,0 +1,68 @@
+package com.sparta.sqllog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// 크기가 고정된 잠금 없는 링 버퍼 (여러 생산자, 소비자 하나)
+// 칸마다 순번을 두어 생산자는 CAS 로 칸을 예약하고, 소비자는 순번으로 채워진 칸인지 확인 (Vyukov bounded queue)
+// 가득 차면 기다리지 않고 offer() 가 false 를 반환하므로 SQL 을 실행하는 스레드가 로그 때문에 멈추지 않음
+final class SqlEventRingBuffer {
+
+    private final int mask;
+    private final AtomicReferenceArray<SqlEvent> slots;
+    // 칸 i 의 순번: 생산자가 채울 차례면 위치, 소비자가 꺼낼 차례면 위치 + 1
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    // 소비자 스레드만 사용
+    private long head;
+
+    // capacity: 2의 거듭제곱으로 올림
+    SqlEventRingBuffer(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("capacity 는 2 이상이어야 합니다: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = size - 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    boolean offer(SqlEvent event) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.lazySet(index, event);
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // 소비자가 아직 꺼내지 않은 칸 : 가득 참
+                return false;
+            } else {
+                // 다른 생산자가 먼저 예약함
+                position = tail.get();
+            }
+        }
+    }
+
+    // 소비자 스레드에서만 호출 (비어 있으면 null)
+    SqlEvent poll() {
+        int index = (int) (head & mask);
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+        SqlEvent event = slots.get(index);
+        slots.lazySet(index, null);
+        sequences.lazySet(index, head + mask + 1);
+        head++;
+        return event;
+    }
+}
@@ -0,0 +1,9 @@
+package com.sparta.sqllog;
+
+// SQL 로그 통계 스냅샷
+// executed: 실행된 SQL 수, sampledOut: 샘플링에서 빠진 수, dropped: 버퍼가 가득 차 버린 수, written: 파일에 기록한 수
+public record SqlLogMetrics(long executed,
+                            long sampledOut,
+                            long dropped,
+                            long written) {
+}
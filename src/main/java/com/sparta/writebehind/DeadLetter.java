@@ -0,0 +1,10 @@
+package com.sparta.writebehind;
+
+import com.sparta.entity.Memo;
+
+import java.util.function.Consumer;
+
+// 정해진 횟수만큼 반영에 실패해 버퍼에서 꺼낸 변경
+// id: Memo 식별자, change: 반영하지 못한 변경 (같은 Memo 의 변경을 이어 붙인 것), cause: 마지막 실패 원인
+public record DeadLetter(Long id, Consumer<Memo> change, RuntimeException cause) {
+}
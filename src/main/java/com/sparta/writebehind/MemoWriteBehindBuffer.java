@@ -0,0 +1,331 @@
+package com.sparta.writebehind;
+
+import com.sparta.JpaManager;
+import com.sparta.entity.Memo;
+import org.hibernate.Session;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+// Memo 쓰기 지연(write-behind) 버퍼
+// 변경을 바로 반영하지 않고 식별자별로 모아두었다가, flushInterval 마다 또는 대기 중인 Memo 가 flushThreshold 개가 되면
+// 한 트랜잭션에서 한꺼번에 반영하므로 같은 Memo 를 여러 번 바꿔도 UPDATE 는 한 번만 실행됨
+// 대기 중인 변경은 ConcurrentHashMap 에 보관 (버킷 단위로 잠그므로 서로 다른 Memo 의 변경은 경합하지 않음)
+// 대기 중인 Memo 가 maxPending 개이면 새 Memo 의 변경은 반영될 때까지 기다리고 (backpressure),
+// close() 는 진행 중인 update() 가 끝나기를 기다린 뒤 남은 변경을 모두 반영하고 반환
+// 반영에 maxAttempts 번 실패한 Memo 의 변경은 버퍼에서 꺼내 dead letter 로 보관 (drainDeadLetters)
+public class MemoWriteBehindBuffer implements AutoCloseable {
+
+    public static final int DEFAULT_MAX_PENDING = 10_000;
+    public static final int DEFAULT_FLUSH_THRESHOLD = 500;
+    public static final long DEFAULT_FLUSH_INTERVAL_MS = 100;
+    public static final int DEFAULT_MAX_ATTEMPTS = 5;
+
+    // 아직 반영하지 않은 변경과 그 변경이 반영에 실패한 횟수
+    private record Pending(Consumer<Memo> change, int failures) {
+        Pending andThen(Consumer<Memo> next) {
+            return new Pending(change.andThen(next), failures);
+        }
+    }
+
+    private final JpaManager jpa;
+    private final int flushThreshold;
+    private final int maxAttempts;
+    // 식별자 → 아직 반영하지 않은 변경 (같은 식별자의 변경은 받은 순서대로 이어 붙임)
+    private final ConcurrentHashMap<Long, Pending> pending = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<DeadLetter> deadLetters = new ConcurrentLinkedQueue<>();
+    // 대기 중인 Memo 한 개당 허가 하나
+    private final Semaphore capacity;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // update() 는 읽기 잠금, close() 는 쓰기 잠금 (close() 가 진행 중인 update() 를 기다린 뒤 마지막으로 반영)
+    private final ReentrantReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private final ScheduledExecutorService flusher;
+    // 임계치 반영 작업이 이미 예약되어 있으면 true (update() 마다 예약하지 않도록)
+    private final AtomicBoolean flushQueued = new AtomicBoolean();
+    private volatile boolean closed;
+
+    private final LongAdder updates = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder flushedRows = new LongAdder();
+    private final LongAdder failedFlushes = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+
+    public MemoWriteBehindBuffer(JpaManager jpa) {
+        this(jpa, DEFAULT_MAX_PENDING, DEFAULT_FLUSH_THRESHOLD, DEFAULT_FLUSH_INTERVAL_MS);
+    }
+
+    public MemoWriteBehindBuffer(JpaManager jpa, int maxPending, int flushThreshold, long flushIntervalMs) {
+        this(jpa, maxPending, flushThreshold, flushIntervalMs, DEFAULT_MAX_ATTEMPTS);
+    }
+
+    // maxPending: 반영을 기다릴 수 있는 최대 Memo 수
+    // flushThreshold: 대기 중인 Memo 가 이만큼 쌓이면 주기를 기다리지 않고 반영 (maxPending 보다 크면 주기적으로만 반영)
+    // flushIntervalMs: 주기적으로 반영하는 간격 (밀리초)
+    // maxAttempts: 한 Memo 의 변경을 반영하려고 시도하는 최대 횟수 (넘으면 dead letter)
+    public MemoWriteBehindBuffer(JpaManager jpa, int maxPending, int flushThreshold, long flushIntervalMs, int maxAttempts) {
+        if (maxPending < 1 || flushThreshold < 1 || maxAttempts < 1) {
+            throw new IllegalArgumentException("maxPending, flushThreshold, maxAttempts 는 1 이상이어야 합니다: "
+                    + maxPending + ", " + flushThreshold + ", " + maxAttempts);
+        }
+        this.jpa = jpa;
+        this.flushThreshold = flushThreshold;
+        this.maxAttempts = maxAttempts;
+        this.capacity = new Semaphore(maxPending);
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "memo-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    // id 인 Memo 에 change 를 나중에 적용 (반영 시점에 Memo 가 없으면 버림)
+    // 버퍼가 가득 차 있으면 자리가 날 때까지 기다림
+    public void update(Long id, Consumer<Memo> change) {
+        closeLock.readLock().lock();
+        try {
+            checkOpen();
+            updates.increment();
+
+            // 이미 대기 중인 Memo 면 기존 변경 뒤에 이어 붙임
+            if (pending.computeIfPresent(id, (key, existing) -> existing.andThen(change)) != null) {
+                coalesced.increment();
+                return;
+            }
+
+            try {
+                capacity.acquire();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("버퍼에 자리가 나기를 기다리는 중 인터럽트되었습니다", ex);
+            }
+            // 기다리는 사이 close() 가 시작됨
+            if (closed) {
+                capacity.release();
+                checkOpen();
+            }
+            boolean[] added = {false};
+            pending.compute(id, (key, existing) -> {
+                added[0] = existing == null;
+                return existing == null ? new Pending(change, 0) : existing.andThen(change);
+            });
+            if (!added[0]) {
+                // 기다리는 사이 다른 스레드가 먼저 같은 Memo 를 추가함
+                capacity.release();
+                coalesced.increment();
+            } else if (pending.size() >= flushThreshold) {
+                scheduleFlush();
+            }
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("이미 닫힌 버퍼입니다");
+        }
+    }
+
+    // 예약된 임계치 반영이 없을 때만 예약 (반영을 시작하면 다시 예약할 수 있음)
+    private void scheduleFlush() {
+        if (!flushQueued.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            flusher.execute(() -> {
+                flushQueued.set(false);
+                flushQuietly();
+            });
+        } catch (RejectedExecutionException ex) {
+            // 닫히는 중이면 close() 가 남은 변경을 반영함
+            flushQueued.set(false);
+        }
+    }
+
+    // contents 를 바꾸는 변경 (같은 Memo 에 여러 번 호출하면 마지막 값이 반영됨)
+    public void setContents(Long id, String contents) {
+        update(id, memo -> memo.setContents(contents));
+    }
+
+    // 반영을 기다리는 Memo 수
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    // 대기 중인 변경을 지금 한 트랜잭션에서 반영하고 반영한 Memo 수 반환
+    // 한 트랜잭션으로 실패하면 Memo 마다 따로 반영해 실패한 변경만 골라내고,
+    // 실패한 변경은 버퍼에 되돌리거나 (maxAttempts 번째 실패면) dead letter 로 옮긴 뒤 마지막 실패 원인을 던짐
+    public int flush() {
+        flushLock.lock();
+        try {
+            Map<Long, Pending> batch = new LinkedHashMap<>();
+            for (Long id : new ArrayList<>(pending.keySet())) {
+                Pending change = pending.remove(id);
+                if (change != null) {
+                    batch.put(id, change);
+                }
+            }
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            try {
+                apply(batch);
+            } catch (RuntimeException ex) {
+                failedFlushes.increment();
+                return flushEach(batch);
+            }
+
+            flushes.increment();
+            flushedRows.add(batch.size());
+            capacity.release(batch.size());
+            return batch.size();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void apply(Map<Long, Pending> batch) {
+        jpa.runInTransaction(em -> {
+            // 식별자 순서로 조회해 UPDATE 를 배치로 보냄
+            List<Long> ids = new ArrayList<>(batch.keySet());
+            List<Memo> memos = em.unwrap(Session.class)
+                    .byMultipleIds(Memo.class)
+                    .multiLoad(ids);
+            for (int i = 0; i < ids.size(); i++) {
+                if (memos.get(i) != null) {
+                    batch.get(ids.get(i)).change().accept(memos.get(i));
+                }
+            }
+            return null;
+        });
+    }
+
+    // Memo 마다 한 트랜잭션으로 반영 (한 Memo 의 변경이 계속 실패해도 나머지는 반영되도록)
+    private int flushEach(Map<Long, Pending> batch) {
+        int flushed = 0;
+        RuntimeException failure = null;
+        for (Map.Entry<Long, Pending> entry : batch.entrySet()) {
+            try {
+                apply(Map.of(entry.getKey(), entry.getValue()));
+                flushes.increment();
+                flushedRows.increment();
+                capacity.release();
+                flushed++;
+            } catch (RuntimeException ex) {
+                failure = ex;
+                restore(entry.getKey(), entry.getValue(), ex);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return flushed;
+    }
+
+    // 반영에 실패한 변경을 그 사이 들어온 같은 Memo 의 변경 앞에 되돌려 놓음
+    // maxAttempts 번 실패했으면 되돌리지 않고 dead letter 로 옮김 (그 사이 들어온 변경은 그대로 둠)
+    private void restore(Long id, Pending failed, RuntimeException cause) {
+        int failures = failed.failures() + 1;
+        if (failures >= maxAttempts) {
+            deadLetters.add(new DeadLetter(id, failed.change(), cause));
+            deadLettered.increment();
+            capacity.release();
+            return;
+        }
+        boolean[] merged = {false};
+        pending.compute(id, (key, newer) -> {
+            merged[0] = newer != null;
+            return newer == null
+                    ? new Pending(failed.change(), failures)
+                    : new Pending(failed.change().andThen(newer.change()), failures);
+        });
+        if (merged[0]) {
+            // 새 변경이 이미 자리를 차지하고 있으므로 이 변경의 자리는 반납
+            capacity.release();
+        }
+    }
+
+    // dead letter 를 꺼내 반환 (다시 시도하려면 update() 로 다시 넣음)
+    public List<DeadLetter> drainDeadLetters() {
+        List<DeadLetter> drained = new ArrayList<>();
+        DeadLetter letter;
+        while ((letter = deadLetters.poll()) != null) {
+            drained.add(letter);
+        }
+        return drained;
+    }
+
+    // 주기적/임계치 반영용 (실패한 변경은 버퍼에 남아 다음 반영 때 다시 시도)
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException ignored) {
+            // failedFlushes 로 집계
+        }
+    }
+
+    public WriteBehindMetrics getMetrics() {
+        return new WriteBehindMetrics(updates.sum(), coalesced.sum(), flushes.sum(), flushedRows.sum(),
+                failedFlushes.sum(), deadLettered.sum());
+    }
+
+    // 새 변경을 받지 않고, 진행 중인 update() 가 끝나기를 기다린 뒤 주기적 반영을 멈추고 남은 변경을 모두 반영
+    // 반영에 실패한 변경은 반영되거나 maxAttempts 번 실패해 dead letter 로 옮겨질 때까지 다시 시도하므로
+    // 반환하거나 예외를 던질 때 버퍼는 비어 있음 (실패가 있었으면 마지막 실패 원인을 던지고, 변경은 drainDeadLetters 로 꺼냄)
+    @Override
+    public void close() {
+        closed = true;
+        // 자리가 나기를 기다리는 update() 가 있으면 반영해서 자리를 만들어 줌
+        try {
+            while (!closeLock.writeLock().tryLock(10, TimeUnit.MILLISECONDS)) {
+                flushQuietly();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            closeLock.writeLock().lock();
+        }
+        try {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            drain();
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+    }
+
+    // 버퍼가 빌 때까지 반영 (실패한 변경은 시도할 때마다 실패 횟수가 늘어 maxAttempts 번째에 dead letter 가 되므로 끝남)
+    private void drain() {
+        RuntimeException failure = null;
+        while (!pending.isEmpty()) {
+            try {
+                flush();
+            } catch (RuntimeException ex) {
+                failure = ex;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
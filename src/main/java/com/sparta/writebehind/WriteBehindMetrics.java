@@ -0,0 +1,13 @@
+package com.sparta.writebehind;
+
+// 쓰기 지연 버퍼 통계 스냅샷
+// updates: 받은 변경 수, coalesced: 이미 대기 중인 같은 Memo 의 변경에 합쳐진 수,
+// flushes: 반영한 트랜잭션 수, flushedRows: 반영한 Memo 수, failedFlushes: 실패해 버퍼로 되돌린 트랜잭션 수,
+// deadLetters: 반영을 포기하고 버퍼에서 꺼낸 Memo 수
+public record WriteBehindMetrics(long updates,
+                                 long coalesced,
+                                 long flushes,
+                                 long flushedRows,
+                                 long failedFlushes,
+                                 long deadLetters) {
+}
@@ -0,0 +1,12 @@
+-- memo 테이블과 식별자 시퀀스 (Memo 엔티티 매핑과 같은 구조)
+create table memo (
+    id       bigint       not null,
+    contents varchar(500) not null,
+    username varchar(255) not null,
+    version  bigint       not null,
+    primary key (id),
+    constraint uk_memo_username unique (username)
+);
+
+-- pooled-lo 식별자 생성기가 50 단위로 블록을 확보 (@SequenceGenerator allocationSize 와 같아야 함)
+create sequence memo_seq start with 1 increment by 50;
@@ -0,0 +1,10 @@
+-- 생성/수정 시각 컬럼 (이미 있는 행은 마이그레이션 시각으로 채움)
+alter table memo add column created_at timestamp(6) default current_timestamp(6) not null;
+alter table memo add column updated_at timestamp(6) default current_timestamp(6) not null;
+
+-- 최신순 목록: 조회하는 정렬 순서대로 저장 (id, username 까지 포함하는 커버링 인덱스)
+create index idx_memo_recent on memo (created_at desc, id desc, username);
+-- 변경분 조회
+create index idx_memo_updated_at on memo (updated_at);
+-- 내용 접두사 검색
+create index idx_memo_contents on memo (contents);
@@ -0,0 +1,16 @@
+-- 긴 메모를 저장할 수 있도록 contents 를 압축 가능한 바이너리로 바꿈 (형식은 CompressedTextConverter)
+-- 압축된 contents 로는 검색할 수 없으므로 목록/접두사 검색용 앞부분 100자를 contents_preview 에 따로 보관
+
+alter table memo add column contents_preview varchar(100);
+update memo set contents_preview = left(contents, 100);
+alter table memo alter column contents_preview set not null;
+
+drop index idx_memo_contents;
+create index idx_memo_contents_preview on memo (contents_preview);
+
+-- 이미 있는 행은 압축하지 않은 형식으로 변환 (머리 바이트 0 + UTF-8)
+alter table memo add column contents_data varbinary(1048576);
+update memo set contents_data = X'00' || cast(contents as varbinary);
+alter table memo drop column contents;
+alter table memo alter column contents_data rename to contents;
+alter table memo alter column contents set not null;
@@ -0,0 +1,16 @@
+-- memo 테이블과 식별자 시퀀스 (Memo 엔티티 매핑과 같은 구조)
+create table memo (
+    id       bigint       not null,
+    contents varchar(500) not null,
+    username varchar(255) not null,
+    version  bigint       not null,
+    primary key (id),
+    constraint uk_memo_username unique (username)
+) engine=InnoDB;
+
+-- MySQL 에는 시퀀스가 없으므로 하이버네이트가 테이블로 시퀀스를 흉내 냄 (다음 값을 한 행에 보관)
+create table memo_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into memo_seq values (1);
@@ -0,0 +1,11 @@
+-- 생성/수정 시각 컬럼과 인덱스를 한 번의 ALTER 로 추가 (테이블 재구성 한 번)
+-- 이미 있는 행의 시각은 마이그레이션 시각으로 채움
+alter table memo
+    add column created_at datetime(6) not null default current_timestamp(6),
+    add column updated_at datetime(6) not null default current_timestamp(6),
+    -- 최신순 목록: 조회하는 정렬 순서대로 저장 (id, username 까지 포함하는 커버링 인덱스)
+    add index idx_memo_recent (created_at desc, id desc, username),
+    -- 변경분 조회
+    add index idx_memo_updated_at (updated_at),
+    -- 내용 접두사 검색 (utf8mb4 500자 = 2000바이트로 InnoDB 인덱스 키 한도 3072바이트 이내)
+    add index idx_memo_contents (contents);
@@ -0,0 +1,17 @@
+-- 긴 메모를 저장할 수 있도록 contents 를 압축 가능한 바이너리로 바꿈 (형식은 CompressedTextConverter)
+-- 압축된 contents 로는 검색할 수 없으므로 목록/접두사 검색용 앞부분 100자를 contents_preview 에 따로 보관
+alter table memo
+    add column contents_preview varchar(100) not null default '',
+    add column contents_data mediumblob;
+
+-- 이미 있는 행은 압축하지 않은 형식으로 변환 (머리 바이트 0 + UTF-8)
+update memo set contents_preview = left(contents, 100),
+                contents_data = concat(x'00', convert(contents using utf8mb4));
+
+-- 나머지 변경은 한 번의 ALTER 로 (테이블 재구성 한 번)
+alter table memo
+    drop index idx_memo_contents,
+    drop column contents,
+    change column contents_data contents mediumblob not null,
+    alter column contents_preview drop default,
+    add index idx_memo_contents_preview (contents_preview);
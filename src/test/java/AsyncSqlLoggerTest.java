@@ -0,0 +1,167 @@
+import com.sparta.JpaManager;
+import com.sparta.entity.Memo;
+import com.sparta.jdbc.PooledConnectionProvider;
+import com.sparta.sqllog.AsyncSqlLogger;
+import com.sparta.sqllog.SqlLogMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncSqlLoggerTest {
+
+    @TempDir
+    Path dir;
+
+    private Map<String, Object> properties(Path file) {
+        Map<String, Object> properties = TestDatabase.h2Properties();
+        properties.put(AsyncSqlLogger.ENABLED, "true");
+        properties.put(AsyncSqlLogger.FILE, file.toString());
+        properties.put(AsyncSqlLogger.SAMPLE_RATE, "1.0");
+        properties.put(AsyncSqlLogger.PARAMETERS, "true");
+        return properties;
+    }
+
+    private void persistMemos(JpaManager jpa, int count) {
+        jpa.runInTransaction(em -> {
+            for (int i = 1; i <= count; i++) {
+                Memo memo = new Memo();
+                memo.setUsername("user-" + i);
+                memo.setContents("SQL 로그 " + i);
+                em.persist(memo);
+            }
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("실행한 SQL 과 바인딩 파라미터를 JSON 한 줄씩 기록하고, 닫을 때 남은 로그를 모두 기록")
+    void test1() throws IOException {
+        Path file = dir.resolve("sql.log");
+        SqlLogMetrics metrics;
+
+        try (JpaManager jpa = new JpaManager(properties(file))) {
+            persistMemos(jpa, 1);
+            jpa.runInTransaction(em -> em.createQuery("select count(m) from Memo m", Long.class).getSingleResult());
+            metrics = PooledConnectionProvider.from(jpa.getEntityManagerFactory()).getSqlLogger().getMetrics();
+        }
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertTrue(lines.stream().allMatch(line -> line.startsWith("{\"ts\":") && line.endsWith("]}")));
+        assertTrue(lines.stream().anyMatch(line -> line.contains("insert into memo")
+                && line.contains("\"user-1\"") && line.contains("\"SQL 로그 1\"")));
+        assertTrue(lines.stream().anyMatch(line -> line.contains("\"sql\":\"select count") && line.contains("from memo")));
+        assertEquals(0, metrics.sampledOut());
+        assertEquals(0, metrics.dropped());
+    }
+
+    @Test
+    @DisplayName("샘플링 비율이 0 이면 느린 쿼리만 기록")
+    void test2() throws IOException {
+        Path file = dir.resolve("sql.log");
+        Map<String, Object> properties = properties(file);
+        properties.put(AsyncSqlLogger.SAMPLE_RATE, "0");
+        properties.put(AsyncSqlLogger.SLOW_THRESHOLD, "60000");
+
+        try (JpaManager jpa = new JpaManager(properties)) {
+            persistMemos(jpa, 3);
+            SqlLogMetrics metrics = PooledConnectionProvider.from(jpa.getEntityManagerFactory()).getSqlLogger().getMetrics();
+            assertTrue(metrics.executed() > 0);
+            assertEquals(metrics.executed(), metrics.sampledOut());
+        }
+        assertEquals(0, Files.size(file));
+    }
+
+    @Test
+    @DisplayName("로그 파일이 최대 크기를 넘으면 이전 파일로 넘기고 정해진 개수만 보관")
+    void test3() throws IOException {
+        Path file = dir.resolve("sql.log");
+        Map<String, Object> properties = properties(file);
+        properties.put(AsyncSqlLogger.MAX_FILE_SIZE, "1000");
+        properties.put(AsyncSqlLogger.MAX_FILES, "2");
+
+        try (JpaManager jpa = new JpaManager(properties)) {
+            for (int i = 0; i < 20; i++) {
+                jpa.runInTransaction(em -> em.find(Memo.class, 1L));
+            }
+        }
+
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(List.of("sql.log", "sql.log.1", "sql.log.2"),
+                    files.map(path -> path.getFileName().toString()).sorted().toList());
+        }
+        assertTrue(Files.size(file) <= 1000);
+    }
+
+    @Test
+    @DisplayName("배치는 모든 행의 파라미터를 기록하고, 바이트 배열은 크기만, 파라미터 기록을 끄면 SQL 만 기록")
+    void test4() throws IOException {
+        Path file = dir.resolve("sql.log");
+        try (JpaManager jpa = new JpaManager(properties(file))) {
+            persistMemos(jpa, 3);
+        }
+        String insert = Files.readAllLines(file, StandardCharsets.UTF_8).stream()
+                .filter(line -> line.contains("insert into memo"))
+                .findFirst().orElseThrow();
+        assertTrue(insert.contains("\"batch\":3"), insert);
+        assertTrue(insert.contains("\"user-1\"") && insert.contains("\"user-2\"") && insert.contains("\"user-3\""), insert);
+        // contents 는 압축 형식의 byte[] 로 바인딩됨
+        assertTrue(insert.matches(".*\"<\\d+ bytes>\".*"), insert);
+        assertFalse(insert.contains("[B@"), insert);
+
+        Path hidden = dir.resolve("hidden.log");
+        Map<String, Object> properties = properties(hidden);
+        properties.remove(AsyncSqlLogger.PARAMETERS);
+        try (JpaManager jpa = new JpaManager(properties)) {
+            persistMemos(jpa, 1);
+        }
+        List<String> lines = Files.readAllLines(hidden, StandardCharsets.UTF_8);
+        assertTrue(lines.stream().anyMatch(line -> line.contains("insert into memo")));
+        assertTrue(lines.stream().allMatch(line -> line.endsWith("\"params\":[]}")), lines.toString());
+        assertTrue(lines.stream().noneMatch(line -> line.contains("user-1")));
+    }
+
+    @Test
+    @DisplayName("같은 파일을 쓰는 EntityManagerFactory 들은 파일 하나를 함께 쓰고, 하나를 닫아도 나머지는 계속 기록")
+    void test5() throws IOException {
+        Path file = dir.resolve("sql.log");
+        Map<String, Object> properties = properties(file);
+        properties.put(AsyncSqlLogger.MAX_FILE_SIZE, "2000");
+        properties.put(AsyncSqlLogger.MAX_FILES, "2");
+
+        try (JpaManager first = new JpaManager(properties)) {
+            try (JpaManager second = new JpaManager(properties(dir.resolve(".").resolve("sql.log")))) {
+                for (int i = 0; i < 10; i++) {
+                    first.runInTransaction(em -> em.find(Memo.class, 1L));
+                    second.runInTransaction(em -> em.find(Memo.class, 2L));
+                }
+            }
+            // 먼저 닫힌 쪽이 파일을 닫지 않음
+            for (int i = 0; i < 10; i++) {
+                first.runInTransaction(em -> em.find(Memo.class, 3L));
+            }
+            SqlLogMetrics metrics = PooledConnectionProvider.from(first.getEntityManagerFactory()).getSqlLogger().getMetrics();
+            assertEquals(0, metrics.dropped());
+        }
+
+        // 한 곳에서만 밀어내므로 보관 개수를 지키고, 줄이 섞이지 않음
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(List.of("sql.log", "sql.log.1", "sql.log.2"),
+                    files.map(path -> path.getFileName().toString()).sorted().toList());
+        }
+        for (String name : List.of("sql.log", "sql.log.1", "sql.log.2")) {
+            assertTrue(Files.size(dir.resolve(name)) <= 2000, name);
+            assertTrue(Files.readAllLines(dir.resolve(name), StandardCharsets.UTF_8).stream()
+                    .allMatch(line -> line.startsWith("{\"ts\":") && line.endsWith("]}")));
+        }
+    }
+}
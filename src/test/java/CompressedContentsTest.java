@@ -0,0 +1,152 @@
+import com.sparta.JpaManager;
+import com.sparta.entity.CompressedTextConverter;
+import com.sparta.entity.Memo;
+import com.sparta.repository.MemoFetchProfile;
+import com.sparta.repository.MemoRepository;
+import com.sparta.repository.MemoSummary;
+import com.sparta.schema.SchemaMigrator;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompressedContentsTest {
+    final CompressedTextConverter converter = new CompressedTextConverter();
+
+    private static String longText(int length) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; sb.length() < length; i++) {
+            sb.append("긴 메모 ").append(i % 50).append(" long note. ");
+        }
+        return sb.substring(0, length);
+    }
+
+    // 압축이 잘 되지 않는 문자열 (무작위 한자)
+    private static String randomText(int length) {
+        Random random = new Random(24);
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < length) {
+            sb.appendCodePoint(0x4E00 + random.nextInt(0x5000));
+        }
+        return sb.toString();
+    }
+
+    @Test
+    @DisplayName("변환기 : 임계값 미만은 그대로, 이상은 압축해서 저장")
+    void test1() {
+        String small = "짧은 메모";
+        byte[] stored = converter.convertToDatabaseColumn(small);
+        assertEquals(0, stored[0]);
+        assertEquals(small.getBytes(StandardCharsets.UTF_8).length + 1, stored.length);
+        assertEquals(small, converter.convertToEntityAttribute(stored));
+
+        String text = longText(10_000);
+        stored = converter.convertToDatabaseColumn(text);
+        assertEquals(1, stored[0]);
+        assertTrue(stored.length * 4 < text.getBytes(StandardCharsets.UTF_8).length, "압축 후 " + stored.length + " 바이트");
+        assertEquals(text, converter.convertToEntityAttribute(stored));
+
+        // 압축이 잘 되지 않아도 그대로 저장할 때보다 커지지는 않음
+        String random = randomText(1_000);
+        stored = converter.convertToDatabaseColumn(random);
+        assertTrue(stored.length <= random.getBytes(StandardCharsets.UTF_8).length + 1);
+        assertEquals(random, converter.convertToEntityAttribute(stored));
+
+        assertEquals("", converter.convertToEntityAttribute(converter.convertToDatabaseColumn("")));
+        assertNull(converter.convertToDatabaseColumn(null));
+    }
+
+    @Test
+    @DisplayName("변환기 : 잘못된 형식이나 최대 크기를 넘는 내용은 예외")
+    void test2() {
+        assertThrows(IllegalArgumentException.class, () -> converter.convertToEntityAttribute(new byte[]{9, 1, 2}));
+        byte[] stored = converter.convertToDatabaseColumn(longText(10_000));
+        assertThrows(IllegalArgumentException.class,
+                () -> converter.convertToEntityAttribute(Arrays.copyOf(stored, stored.length / 2)));
+        // 원래 길이가 손상된 데이터 : 음수(0xFFFFFFFF) 또는 최대 크기를 넘는 길이는 배열을 할당하기 전에 거부
+        assertThrows(IllegalArgumentException.class, () -> converter.convertToEntityAttribute(
+                new byte[]{1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F, 0}));
+        assertThrows(IllegalArgumentException.class, () -> converter.convertToEntityAttribute(
+                new byte[]{1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 0}));
+        // 원래 길이를 실제보다 짧게 적은 데이터 (10000 → 9999) 는 잘라서 읽지 않고 거부
+        byte[] shorter = converter.convertToDatabaseColumn("a".repeat(10_000));
+        assertEquals(1, shorter[0], "DEFLATE 형식");
+        shorter[1] = (byte) ((9_999 & 0x7F) | 0x80);
+        shorter[2] = (byte) (9_999 >>> 7);
+        assertThrows(IllegalArgumentException.class, () -> converter.convertToEntityAttribute(shorter));
+        // 압축해도 MAX_STORED_BYTES 를 넘는 크기 (한자 한 글자 = 3 바이트)
+        assertThrows(IllegalArgumentException.class,
+                () -> converter.convertToDatabaseColumn(randomText(CompressedTextConverter.MAX_STORED_BYTES)));
+    }
+
+    @Test
+    @DisplayName("긴 메모를 압축해서 저장하고 그대로 읽음, 앞부분으로 접두사 검색")
+    void test3() {
+        try (JpaManager jpa = new JpaManager(TestDatabase.h2Properties())) {
+            String text = longText(50_000);
+            Long id = jpa.runInTransaction(em -> {
+                Memo memo = new Memo();
+                memo.setUsername("long");
+                memo.setContents(text);
+                em.persist(memo);
+                return memo.getId();
+            });
+            jpa.getEntityManagerFactory().getCache().evictAll();
+
+            Memo memo = jpa.runReadOnly(em -> new MemoRepository(em).findById(id, MemoFetchProfile.FULL).orElseThrow());
+            assertEquals(text, memo.getContents());
+            assertEquals(text.substring(0, Memo.PREVIEW_LENGTH), memo.getContentsPreview());
+
+            long stored = jpa.runReadOnly(em -> ((Number) em.createNativeQuery("select octet_length(contents) from memo")
+                    .getSingleResult()).longValue());
+            assertTrue(stored * 4 < text.getBytes(StandardCharsets.UTF_8).length, "저장 크기 " + stored + " 바이트");
+
+            List<MemoSummary> found = jpa.runReadOnly(em -> new MemoRepository(em).findSummariesByContentsPrefix("긴 메모 0", 10));
+            assertEquals(List.of(id), found.stream().map(MemoSummary::id).toList());
+            assertThrows(IllegalArgumentException.class, () -> jpa.runReadOnly(em -> new MemoRepository(em)
+                    .findSummariesByContentsPrefix(text.substring(0, Memo.PREVIEW_LENGTH + 1), 10)));
+        }
+    }
+
+    @Test
+    @DisplayName("V3 마이그레이션 : 이미 있던 문자열 contents 를 읽을 수 있는 형식으로 변환")
+    void test4() throws SQLException {
+        String name = "compress-" + UUID.randomUUID();
+        String url = TestDatabase.url(name);
+        Flyway.configure().dataSource(url, "sa", "")
+                .locations("classpath:db/migration/" + SchemaMigrator.vendor(url))
+                .target("2")
+                .load()
+                .migrate();
+        String text = "마이그레이션 전에 저장한 메모 " + "가".repeat(150);
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             PreparedStatement insert = connection.prepareStatement(
+                     "insert into memo (id, username, contents, version) values (1, 'before', ?, 0)")) {
+            insert.setString(1, text.substring(0, 120));
+            insert.executeUpdate();
+        }
+
+        new SchemaMigrator(url, "sa", "").migrate();
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             ResultSet rs = connection.createStatement().executeQuery("select contents_preview from memo")) {
+            assertTrue(rs.next());
+            assertEquals(text.substring(0, Memo.PREVIEW_LENGTH), rs.getString(1));
+        }
+
+        try (JpaManager jpa = new JpaManager(TestDatabase.h2Properties(name))) {
+            assertEquals(text.substring(0, 120), jpa.runReadOnly(em -> em.find(Memo.class, 1L).getContents()));
+        }
+    }
+}
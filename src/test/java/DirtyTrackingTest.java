@@ -0,0 +1,83 @@
+import com.sparta.JpaManager;
+import com.sparta.entity.Memo;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DirtyTrackingTest {
+    JpaManager jpa;
+    Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        jpa = new JpaManager(TestDatabase.h2Properties());
+        statistics = jpa.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jpa.close();
+    }
+
+    @Test
+    @DisplayName("바이트코드 향상된 Memo 는 변경된 필드를 직접 기록")
+    void test1() {
+        // 빌드 시 향상된 클래스인지 확인
+        assertTrue(SelfDirtinessTracker.class.isAssignableFrom(Memo.class));
+
+        Long id = jpa.runInTransaction(em -> {
+            Memo memo = new Memo();
+            memo.setUsername("Robbie");
+            memo.setContents("변경 감지");
+            em.persist(memo);
+            return memo.getId();
+        });
+
+        jpa.runInTransaction(em -> {
+            Memo memo = em.find(Memo.class, id);
+            SelfDirtinessTracker tracker = (SelfDirtinessTracker) memo;
+            assertFalse(tracker.$$_hibernate_hasDirtyAttributes());
+
+            // setter 호출 시점에 변경된 필드 이름이 기록됨 (setContents 는 contentsPreview 도 함께 바꿈)
+            memo.setContents("변경 감지 확인");
+            assertEquals(Set.of("contents", "contentsPreview"), Set.of(tracker.$$_hibernate_getDirtyAttributes()));
+            return null;
+        });
+
+        assertEquals("변경 감지 확인", jpa.runInTransaction(em -> em.find(Memo.class, id)).getContents());
+    }
+
+    @Test
+    @DisplayName("변경된 Memo 만 UPDATE")
+    void test2() {
+        jpa.runInTransaction(em -> {
+            for (int i = 0; i < 100; i++) {
+                Memo memo = new Memo();
+                memo.setUsername("user-" + i);
+                memo.setContents("변경 감지 " + i);
+                em.persist(memo);
+            }
+            return null;
+        });
+        statistics.clear();
+
+        jpa.runInTransaction(em -> {
+            var memos = em.createQuery("select m from Memo m order by m.id", Memo.class).getResultList();
+            memos.get(0).setContents("수정");
+            memos.get(50).setContents("수정");
+            // 같은 값을 다시 넣으면 변경으로 보지 않음
+            memos.get(99).setContents(memos.get(99).getContents());
+            return null;
+        });
+
+        assertEquals(2, statistics.getEntityUpdateCount());
+    }
+}
@@ -1,22 +1,29 @@
 import com.sparta.entity.Memo;
 import jakarta.persistence.EntityManager;
-import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.EntityTransaction;
-import jakarta.persistence.Persistence;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
 
+import java.util.List;
+
+// 테스트마다 분리된 내장 데이터베이스를 사용하고 끝나면 롤백하므로 순서와 상관없이 병렬로 실행 가능
+@ExtendWith(MemoTestFixture.class)
+@Execution(ExecutionMode.CONCURRENT)
 public class EntityStateTest {
-    EntityManagerFactory emf;
     EntityManager em;
+    // 미리 저장한 메모의 식별자 (저장한 순서대로)
+    List<Long> ids;
 
     @BeforeEach
-    void setUp() {
-        // "memo"라는 이름의 Persistence Unit을 사용하여 EntityManagerFactory를 생성
-        emf = Persistence.createEntityManagerFactory("memo");
-        // EntityManagerFactory를 통해 EntityManager를 생성
-        em = emf.createEntityManager();
+    void setUp(EntityManager em) {
+        // 테스트 픽스처가 발급한 EntityManager (내장 데이터베이스를 사용하며 테스트가 끝나면 롤백됨)
+        this.em = em;
+        // 조회, 수정, 삭제 테스트에서 사용할 메모 4건을 미리 저장
+        ids = MemoTestFixture.insertMemos(em, 4);
     }
 
     // 비영속과 영속 상태
@@ -32,7 +39,6 @@ public class EntityStateTest {
         try {
             // 새로운 Memo 엔티티 생성 (비영속 상태)
             Memo memo = new Memo();
-            memo.setId(1L);
             memo.setUsername("Robbie");
             memo.setContents("비영속과 영속 상태");
 
@@ -50,9 +56,6 @@ public class EntityStateTest {
             // EntityManager 닫기
             em.close();
         }
-
-        // EntityManagerFactory 닫기
-        emf.close();
     }
 
     // 준영속 상태 : detach()
@@ -66,8 +69,8 @@ public class EntityStateTest {
         et.begin();
 
         try {
-            // Id가 1인 Memo 엔티티 조회 (영속 상태)
-            Memo memo = em.find(Memo.class, 1);
+            // 첫 번째 Memo 엔티티 조회 (영속 상태)
+            Memo memo = em.find(Memo.class, ids.get(0));
             System.out.println("memo.getId() = " + memo.getId());
             System.out.println("memo.getUsername() = " + memo.getUsername());
             System.out.println("memo.getContents() = " + memo.getContents());
@@ -99,9 +102,6 @@ public class EntityStateTest {
             // EntityManager 닫기
             em.close();
         }
-
-        // EntityManagerFactory 닫기
-        emf.close();
     }
 
     // 준영속 상태 : clear()
@@ -115,10 +115,10 @@ public class EntityStateTest {
         et.begin();
 
         try {
-            // Id가 1인 Memo 엔티티 조회 (영속 상태)
-            Memo memo1 = em.find(Memo.class, 1);
-            // Id가 2인 Memo 엔티티 조회 (영속 상태)
-            Memo memo2 = em.find(Memo.class, 2);
+            // 첫 번째 Memo 엔티티 조회 (영속 상태)
+            Memo memo1 = em.find(Memo.class, ids.get(0));
+            // 두 번째 Memo 엔티티 조회 (영속 상태)
+            Memo memo2 = em.find(Memo.class, ids.get(1));
 
             // 엔티티들이 영속성 컨텍스트에 포함되어 있는지 확인
             System.out.println("em.contains(memo1) = " + em.contains(memo1));
@@ -131,9 +131,9 @@ public class EntityStateTest {
             System.out.println("em.contains(memo1) = " + em.contains(memo1));
             System.out.println("em.contains(memo2) = " + em.contains(memo2));
 
-            // Id가 1인 Memo 엔티티 다시 조회 (영속 상태로 전환)
+            // 첫 번째 Memo 엔티티 다시 조회 (영속 상태로 전환)
             System.out.println("memo#1 Entity 다시 조회");
-            Memo memo = em.find(Memo.class, 1);
+            Memo memo = em.find(Memo.class, ids.get(0));
             System.out.println("em.contains(memo) = " + em.contains(memo));
             // 다시 조회한 엔티티 수정 시도
             System.out.println("\n memo Entity 수정 시도");
@@ -153,9 +153,6 @@ public class EntityStateTest {
             // EntityManager 닫기
             em.close();
         }
-
-        // EntityManagerFactory 닫기
-        emf.close();
     }
 
     // 준영속 상태 : close()
@@ -169,10 +166,10 @@ public class EntityStateTest {
         et.begin();
 
         try {
-            // Id가 1인 Memo 엔티티 조회 (영속 상태)
-            Memo memo1 = em.find(Memo.class, 1);
-            // Id가 2인 Memo 엔티티 조회 (영속 상태)
-            Memo memo2 = em.find(Memo.class, 2);
+            // 첫 번째 Memo 엔티티 조회 (영속 상태)
+            Memo memo1 = em.find(Memo.class, ids.get(0));
+            // 두 번째 Memo 엔티티 조회 (영속 상태)
+            Memo memo2 = em.find(Memo.class, ids.get(1));
 
             // 엔티티들이 영속성 컨텍스트에 포함되어 있는지 확인
             System.out.println("em.contains(memo1) = " + em.contains(memo1));
@@ -183,7 +180,7 @@ public class EntityStateTest {
             em.close();
 
             // EntityManager가 닫힌 후에는 엔티티를 다시 조회할 수 없음 (예외 발생)
-            Memo memo = em.find(Memo.class, 2); // Session/EntityManager is closed 메시지와 함께 오류 발생
+            Memo memo = em.find(Memo.class, ids.get(1)); // Session/EntityManager is closed 메시지와 함께 오류 발생
             System.out.println("memo.getId() = " + memo.getId());
 
         } catch (Exception ex) {
@@ -194,9 +191,6 @@ public class EntityStateTest {
             // EntityManager 닫기
             em.close();
         }
-
-        // EntityManagerFactory 닫기
-        emf.close();
     }
 
     // merge() : 저장
@@ -212,7 +206,6 @@ public class EntityStateTest {
         try {
             // 새로운 Memo 엔티티 생성 (비영속 상태)
             Memo memo = new Memo();
-            memo.setId(3L);
             memo.setUsername("merge()");
             memo.setContents("merge() 저장");
 
@@ -237,9 +230,6 @@ public class EntityStateTest {
             // EntityManager 닫기
             em.close();
         }
-
-        // EntityManagerFactory 닫기
-        emf.close();
     }
 
     // merge() : 수정
@@ -253,8 +243,8 @@ public class EntityStateTest {
         et.begin();
 
         try {
-            // Id가 3인 Memo 엔티티 조회 (영속 상태)
-            Memo memo = em.find(Memo.class, 3);
+            // 세 번째 Memo 엔티티 조회 (영속 상태)
+            Memo memo = em.find(Memo.class, ids.get(2));
             System.out.println("memo.getId() = " + memo.getId());
             System.out.println("memo.getUsername() = " + memo.getUsername());
             System.out.println("memo.getContents() = " + memo.getContents());
@@ -294,8 +284,5 @@ public class EntityStateTest {
             // EntityManager 닫기
             em.close();
         }
-
-        // EntityManagerFactory 닫기
-        emf.close();
     }
 }
\ No newline at end of file
@@ -0,0 +1,84 @@
+import com.sparta.JpaManager;
+import com.sparta.entity.Memo;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JpaManagerTest {
+    JpaManager jpa;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트마다 분리된 H2 데이터베이스를 사용하는 JpaManager 생성
+        jpa = new JpaManager(TestDatabase.h2Properties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jpa.close();
+    }
+
+    private Memo newMemo(String username) {
+        Memo memo = new Memo();
+        memo.setUsername(username);
+        memo.setContents("JpaManager 테스트");
+        return memo;
+    }
+
+    @Test
+    @DisplayName("runInTransaction : 커밋")
+    void test1() {
+        // 트랜잭션 안에서 저장하고 결과 반환
+        Long id = jpa.runInTransaction(em -> {
+            Memo memo = newMemo("Robbie");
+            em.persist(memo);
+            return memo.getId();
+        });
+
+        // 다른 EntityManager 에서 조회하면 커밋된 데이터가 보여야 함
+        Memo found = jpa.runInTransaction(em -> em.find(Memo.class, id));
+        assertNotNull(found);
+        assertEquals("Robbie", found.getUsername());
+    }
+
+    @Test
+    @DisplayName("runInTransaction : 예외 발생 시 롤백")
+    void test2() {
+        // 저장 후 예외가 발생하면 트랜잭션이 롤백되고 예외는 그대로 전달됨
+        Memo memo = newMemo("Robbie");
+        assertThrows(IllegalStateException.class, () -> jpa.runInTransaction(em -> {
+            em.persist(memo);
+            em.flush();
+            throw new IllegalStateException("롤백 테스트");
+        }));
+
+        assertNull(jpa.runInTransaction(em -> em.find(Memo.class, memo.getId())));
+    }
+
+    @Test
+    @DisplayName("runInTransaction : 작업 후 EntityManager 종료")
+    void test3() {
+        EntityManager em = jpa.runInTransaction(e -> e);
+        assertFalse(em.isOpen());
+    }
+
+    @Test
+    @DisplayName("전역 인스턴스는 프로세스에서 하나만 존재")
+    void test4() {
+        try {
+            JpaManager initialized = JpaManager.initialize(TestDatabase.h2Properties());
+
+            assertSame(initialized, JpaManager.getInstance());
+            assertSame(JpaManager.getInstance().getEntityManagerFactory(),
+                    JpaManager.getInstance().getEntityManagerFactory());
+            // 이미 초기화된 뒤에는 다시 초기화할 수 없음
+            assertThrows(IllegalStateException.class, () -> JpaManager.initialize(TestDatabase.h2Properties()));
+        } finally {
+            JpaManager.shutdown();
+        }
+    }
+}
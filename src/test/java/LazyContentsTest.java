@@ -0,0 +1,173 @@
+import com.sparta.JpaManager;
+import com.sparta.entity.Memo;
+import com.sparta.export.MemoExporter;
+import com.sparta.repository.MemoFetchProfile;
+import com.sparta.repository.MemoRepository;
+import com.sparta.repository.MemoScanner;
+import org.hibernate.Hibernate;
+import org.hibernate.LazyInitializationException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LazyContentsTest {
+    // contents 컬럼 (contents_preview 는 제외)
+    static final Pattern CONTENTS_COLUMN = Pattern.compile("\\.contents(?!_)\\b");
+
+    JpaManager jpa;
+    // 실행한 SELECT 문
+    final List<String> selects = new CopyOnWriteArrayList<>();
+    // 실행한 UPDATE 문
+    final List<String> updates = new CopyOnWriteArrayList<>();
+    List<Long> ids;
+
+    @TempDir
+    Path dir;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, Object> properties = TestDatabase.h2Properties();
+        properties.put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+            if (sql.startsWith("select")) {
+                selects.add(sql);
+            } else if (sql.startsWith("update")) {
+                updates.add(sql);
+            }
+            return sql;
+        });
+        jpa = new JpaManager(properties);
+        ids = jpa.runInTransaction(em -> {
+            List<Long> result = new ArrayList<>();
+            for (int i = 1; i <= 5; i++) {
+                Memo memo = new Memo();
+                memo.setUsername("user-" + i);
+                memo.setContents("지연 로딩 " + i);
+                em.persist(memo);
+                result.add(memo.getId());
+            }
+            return result;
+        });
+        // 저장하면서 채워진 2차 캐시를 비워 DB 에서 읽게 함
+        jpa.getEntityManagerFactory().getCache().evictAll();
+        selects.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jpa.close();
+    }
+
+    private long contentsSelects() {
+        return selects.stream().filter(sql -> CONTENTS_COLUMN.matcher(sql).find()).count();
+    }
+
+    @Test
+    @DisplayName("em.find 는 contents 를 조회하지 않고, 처음 getContents() 할 때 contents 만 조회")
+    void test1() {
+        Long id = ids.get(0);
+        Memo detached = jpa.runReadOnly(em -> {
+            Memo memo = em.find(Memo.class, id);
+            assertEquals("user-1", memo.getUsername());
+            assertEquals("지연 로딩 1", memo.getContentsPreview());
+            assertFalse(Hibernate.isPropertyInitialized(memo, "contents"));
+            assertEquals(1, selects.size());
+            assertEquals(0, contentsSelects());
+
+            assertEquals("지연 로딩 1", memo.getContents());
+            assertEquals(2, selects.size());
+            assertTrue(selects.get(1).startsWith("select m1_0.contents from memo"), selects.get(1));
+            return em.find(Memo.class, ids.get(1));
+        });
+
+        // 작업 단위가 끝난 뒤에는 읽을 수 없음
+        assertThrows(LazyInitializationException.class, detached::getContents);
+    }
+
+    @Test
+    @DisplayName("FULL : contents 까지 SELECT 한 번에 조회 (find, 다건 조회, 쿼리)")
+    void test2() {
+        Memo memo = jpa.runReadOnly(em -> new MemoRepository(em).findById(ids.get(0), MemoFetchProfile.FULL).orElseThrow());
+        assertEquals(1, selects.size());
+        assertEquals(1, contentsSelects());
+        assertEquals("지연 로딩 1", memo.getContents());
+
+        selects.clear();
+        List<Memo> memos = jpa.runReadOnly(em -> new MemoRepository(em).findAll(ids, 500, MemoFetchProfile.FULL).memos());
+        assertEquals(1, selects.size());
+        assertEquals(1, contentsSelects());
+        assertEquals("지연 로딩 5", memos.get(4).getContents());
+
+        selects.clear();
+        LocalDateTime since = LocalDateTime.now().minusMinutes(1);
+        assertFalse(Hibernate.isPropertyInitialized(jpa.runReadOnly(em -> new MemoRepository(em)
+                .findUpdatedSince(since, 10, MemoFetchProfile.SUMMARY)).get(0), "contents"));
+        assertEquals(0, contentsSelects());
+        assertEquals("지연 로딩 2", jpa.runReadOnly(em -> new MemoRepository(em)
+                .findUpdatedSince(since, 10, MemoFetchProfile.FULL)).get(1).getContents());
+        assertEquals(2, selects.size());
+        assertEquals(1, contentsSelects());
+    }
+
+    @Test
+    @DisplayName("FULL : 이미 contents 없이 읽어 둔 Memo 도 contents 까지 읽음")
+    void test3() {
+        jpa.runReadOnly(em -> {
+            MemoRepository repository = new MemoRepository(em);
+            Memo summary = repository.findById(ids.get(0)).orElseThrow();
+            assertFalse(Hibernate.isPropertyInitialized(summary, "contents"));
+
+            Memo full = repository.findById(ids.get(0), MemoFetchProfile.FULL).orElseThrow();
+            assertSame(summary, full);
+            assertTrue(Hibernate.isPropertyInitialized(full, "contents"));
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("username 만 수정하면 contents 를 조회하지도, UPDATE 하지도 않음")
+    void test4() {
+        jpa.runInTransaction(em -> {
+            em.find(Memo.class, ids.get(0)).setUsername("renamed");
+            return null;
+        });
+        assertEquals(0, contentsSelects());
+        assertEquals(1, updates.size());
+        assertFalse(Pattern.compile("\\bcontents=").matcher(updates.get(0)).find(), updates.get(0));
+
+        jpa.getEntityManagerFactory().getCache().evictAll();
+        Memo memo = jpa.runReadOnly(em -> new MemoRepository(em).findById(ids.get(0), MemoFetchProfile.FULL).orElseThrow());
+        assertEquals("renamed", memo.getUsername());
+        assertEquals("지연 로딩 1", memo.getContents());
+    }
+
+    @Test
+    @DisplayName("전체 스캔과 내보내기는 contents 까지 SELECT 한 번에 조회")
+    void test5() {
+        // StatelessSession 의 SQL 은 StatementInspector 를 거치지 않으므로 전달받은 Memo 로 확인
+        List<String> contents = new ArrayList<>();
+        assertEquals(5, new MemoScanner(jpa.getEntityManagerFactory()).scan(memo -> {
+            assertTrue(Hibernate.isPropertyInitialized(memo, "contents"));
+            contents.add(memo.getContents());
+        }));
+        assertEquals("지연 로딩 5", contents.get(4));
+
+        selects.clear();
+        assertEquals(5, new MemoExporter(jpa).exportTo(dir.resolve("memos.jsonl")).rows());
+        assertEquals(1, selects.size());
+        assertEquals(1, contentsSelects());
+    }
+}
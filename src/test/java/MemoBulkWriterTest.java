@@ -0,0 +1,82 @@
+import com.sparta.JpaManager;
+import com.sparta.bulk.BulkWriteResult;
+import com.sparta.bulk.MemoBulkWriter;
+import com.sparta.entity.Memo;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MemoBulkWriterTest {
+    JpaManager jpa;
+    Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, Object> properties = TestDatabase.h2Properties();
+        properties.put("hibernate.generate_statistics", "true");
+        jpa = new JpaManager(properties);
+        statistics = jpa.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jpa.close();
+    }
+
+    private Stream<Memo> memos(long count) {
+        return LongStream.rangeClosed(1, count).mapToObj(i -> {
+            Memo memo = new Memo();
+            memo.setUsername("bulk-" + i);
+            memo.setContents("대량 저장 " + i);
+            return memo;
+        });
+    }
+
+    private long countMemos() {
+        return jpa.runInTransaction(em ->
+                em.createQuery("select count(m) from Memo m", Long.class).getSingleResult());
+    }
+
+    @Test
+    @DisplayName("모든 Memo 를 저장하고 처리량 보고")
+    void test1() {
+        BulkWriteResult result = new MemoBulkWriter(jpa).writeAll(memos(1_000));
+        System.out.println("rowsPerSecond = " + result.rowsPerSecond());
+
+        assertEquals(1_000, result.rows());
+        assertTrue(result.rowsPerSecond() > 0);
+        assertEquals(1_000, countMemos());
+    }
+
+    @Test
+    @DisplayName("INSERT 를 JDBC 배치로 묶어서 전송")
+    void test2() {
+        statistics.clear();
+
+        new MemoBulkWriter(jpa, 100).writeAll(memos(1_000));
+
+        // 1000건의 INSERT 가 100건 단위 배치 10번으로 전송됨 (시퀀스 조회 20번 별도)
+        assertEquals(1_000, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() <= 40,
+                "PreparedStatement 수: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("실패하면 전체 롤백")
+    void test3() {
+        // 같은 username 이 중복되어 unique 제약 조건 위반
+        Stream<Memo> duplicated = Stream.concat(memos(10), memos(1));
+
+        assertThrows(RuntimeException.class, () -> new MemoBulkWriter(jpa).writeAll(duplicated));
+        assertEquals(0, countMemos());
+    }
+}
@@ -0,0 +1,78 @@
+import com.sparta.JpaManager;
+import com.sparta.entity.Memo;
+import com.sparta.export.ExportResult;
+import com.sparta.export.MemoExporter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MemoExporterTest {
+    JpaManager jpa;
+
+    @TempDir
+    Path dir;
+
+    @BeforeEach
+    void setUp() {
+        jpa = new JpaManager(TestDatabase.h2Properties());
+        jpa.runInTransaction(em -> {
+            for (int i = 1; i <= 25; i++) {
+                Memo memo = new Memo();
+                memo.setUsername("user-" + i);
+                memo.setContents("내보내기 " + i);
+                em.persist(memo);
+            }
+            return null;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        jpa.close();
+    }
+
+    @Test
+    @DisplayName("NDJSON 내보내기 : 모든 Memo 를 식별자 순서로 한 줄씩 기록")
+    void test1() throws IOException {
+        Path file = dir.resolve("memo.ndjson");
+
+        // fetchSize 보다 많은 건수를 내보내도 중간에 clear() 된 뒤 계속 읽음
+        ExportResult result = new MemoExporter(jpa, 10).exportTo(file);
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(25, result.rows());
+        assertEquals(Files.size(file), result.bytes());
+        assertEquals(25, lines.size());
+        assertTrue(lines.get(0).matches("\\{\"id\":\\d+,\"username\":\"user-1\",\"contents\":\"내보내기 1\"}"));
+        assertTrue(lines.get(24).contains("\"username\":\"user-25\""));
+    }
+
+    @Test
+    @DisplayName("NDJSON 내보내기 : 따옴표, 역슬래시, 줄바꿈은 이스케이프되어 한 줄을 유지")
+    void test2() throws IOException {
+        jpa.runInTransaction(em -> {
+            Memo memo = new Memo();
+            memo.setUsername("quote");
+            memo.setContents("\"인용\" \\ 첫 줄\n둘째 줄");
+            em.persist(memo);
+            return null;
+        });
+        Path file = dir.resolve("memo.ndjson");
+
+        new MemoExporter(jpa).exportTo(file);
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(26, lines.size());
+        assertTrue(lines.get(25).endsWith("\"contents\":\"\\\"인용\\\" \\\\ 첫 줄\\n둘째 줄\"}"));
+    }
+}
@@ -0,0 +1,122 @@
+import com.sparta.JpaManager;
+import com.sparta.entity.Memo;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MemoIdGenerationTest {
+    // 시퀀스 조회 SQL 실행 횟수
+    final AtomicInteger sequenceCalls = new AtomicInteger();
+    JpaManager jpa;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, Object> properties = TestDatabase.h2Properties();
+        // 실행되는 SQL 중 시퀀스 조회만 집계
+        properties.put("hibernate.session_factory.statement_inspector", (StatementInspector) sql -> {
+            if (sql.contains("memo_seq")) {
+                sequenceCalls.incrementAndGet();
+            }
+            return sql;
+        });
+        jpa = new JpaManager(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jpa.close();
+    }
+
+    private Memo newMemo(String username) {
+        Memo memo = new Memo();
+        memo.setUsername(username);
+        memo.setContents("식별자 자동 생성");
+        return memo;
+    }
+
+    @Test
+    @DisplayName("식별자를 넣지 않아도 persist 시점에 생성")
+    void test1() {
+        Memo memo = newMemo("Robbie");
+
+        jpa.runInTransaction(em -> {
+            em.persist(memo);
+            // INSERT 는 커밋 시점까지 지연되지만 식별자는 persist 직후 이미 할당됨
+            assertNotNull(memo.getId());
+            return memo;
+        });
+
+        assertEquals("Robbie", jpa.runInTransaction(em -> em.find(Memo.class, memo.getId())).getUsername());
+    }
+
+    @Test
+    @DisplayName("한 번의 시퀀스 조회로 식별자 블록(50개) 확보")
+    void test2() {
+        jpa.runInTransaction(em -> {
+            for (int i = 0; i < 100; i++) {
+                em.persist(newMemo("user-" + i));
+            }
+            return null;
+        });
+
+        // 100개 저장에 시퀀스 조회는 블록 수(2)만큼만 발생
+        assertEquals(2, sequenceCalls.get());
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 저장해도 식별자 충돌 없음")
+    void test3() throws Exception {
+        int threads = 8;
+        int perThread = 200;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    // 스레드마다 여러 작업 단위로 나누어 저장
+                    for (int i = 0; i < perThread; i++) {
+                        Memo memo = newMemo("thread-" + thread + "-" + i);
+                        jpa.runInTransaction(em -> {
+                            em.persist(memo);
+                            return memo;
+                        });
+                        assertTrue(ids.add(memo.getId()), "중복된 식별자: " + memo.getId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(threads * perThread, ids.size());
+        Long rows = jpa.runInTransaction(em ->
+                em.createQuery("select count(m) from Memo m", Long.class).getSingleResult());
+        assertEquals(threads * perThread, rows);
+        assertEquals(ids, new HashSet<>(jpa.runInTransaction(em ->
+                em.createQuery("select m.id from Memo m", Long.class).getResultList())));
+        // 식별자 블록 단위로만 시퀀스를 조회
+        assertTrue(sequenceCalls.get() <= threads * perThread / 50 + threads,
+                "시퀀스 조회 횟수: " + sequenceCalls.get());
+    }
+}
@@ -0,0 +1,130 @@
+import com.sparta.JpaManager;
+import com.sparta.entity.Memo;
+import com.sparta.paging.ContinuationToken;
+import com.sparta.paging.MemoPage;
+import com.sparta.paging.MemoPager;
+import com.sparta.repository.MemoSummary;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MemoPagerTest {
+    JpaManager jpa;
+
+    @BeforeEach
+    void setUp() {
+        jpa = new JpaManager(TestDatabase.h2Properties());
+        jpa.runInTransaction(em -> {
+            for (int i = 1; i <= 25; i++) {
+                Memo memo = new Memo();
+                memo.setUsername("user-" + i);
+                memo.setContents("페이지 " + i);
+                em.persist(memo);
+            }
+            return null;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        jpa.close();
+    }
+
+    private List<MemoSummary> readAll(MemoPager pager) {
+        List<MemoSummary> all = new ArrayList<>();
+        MemoPage page = pager.first();
+        all.addAll(page.items());
+        while (page.hasNext()) {
+            page = pager.next(page.nextToken());
+            all.addAll(page.items());
+        }
+        return all;
+    }
+
+    @Test
+    @DisplayName("식별자 순서 : 토큰으로 이어서 조회하면 모든 Memo 를 한 번씩 조회하고 마지막 페이지에는 토큰이 없음")
+    void test1() {
+        try (MemoPager pager = new MemoPager(jpa, MemoPager.Order.ID, 10, false)) {
+            MemoPage first = pager.first();
+            MemoPage second = pager.next(first.nextToken());
+            MemoPage third = pager.next(second.nextToken());
+
+            assertEquals(10, first.items().size());
+            assertEquals(10, second.items().size());
+            assertEquals(5, third.items().size());
+            assertFalse(third.hasNext());
+            assertEquals("user-11", second.items().get(0).username());
+        }
+    }
+
+    @Test
+    @DisplayName("username 순서 : username 의 사전 순서로 모든 Memo 를 한 번씩 조회")
+    void test2() {
+        try (MemoPager pager = new MemoPager(jpa, MemoPager.Order.USERNAME, 10, false)) {
+            List<String> usernames = readAll(pager).stream().map(MemoSummary::username).toList();
+
+            assertEquals(25, usernames.size());
+            assertEquals(usernames.stream().sorted().toList(), usernames);
+        }
+    }
+
+    @Test
+    @DisplayName("잘못된 토큰 : 형식이 틀리거나 다른 정렬 기준의 토큰이면 IllegalArgumentException")
+    void test3() {
+        try (MemoPager pager = new MemoPager(jpa, MemoPager.Order.USERNAME, 10, false)) {
+            assertThrows(IllegalArgumentException.class, () -> pager.next("not a token!"));
+            assertThrows(IllegalArgumentException.class, () -> pager.next(ContinuationToken.afterId(3)));
+        }
+    }
+
+    @Test
+    @DisplayName("미리 읽기 : 다음 페이지를 미리 읽어도 결과는 같음")
+    void test4() {
+        try (MemoPager plain = new MemoPager(jpa, MemoPager.Order.ID, 7, false);
+             MemoPager prefetching = new MemoPager(jpa, MemoPager.Order.ID, 7, true)) {
+            assertEquals(readAll(plain), readAll(prefetching));
+        }
+    }
+
+    @Test
+    @DisplayName("미리 읽기가 실패하면 다음 페이지를 요청할 때 원래 예외를 던짐")
+    void test5() {
+        // 요약 조회를 두 번째부터 실패시킴 (첫 페이지는 성공, 미리 읽는 두 번째 페이지는 실패)
+        AtomicInteger pages = new AtomicInteger();
+        StatementInspector failSecondPage = sql -> {
+            if (sql.contains("order by m1_0.id") && pages.incrementAndGet() >= 2) {
+                throw new IllegalStateException("두 번째 페이지 실패");
+            }
+            return sql;
+        };
+        Map<String, Object> properties = TestDatabase.h2Properties();
+        properties.put(AvailableSettings.STATEMENT_INSPECTOR, failSecondPage);
+
+        try (JpaManager failing = new JpaManager(properties);
+             MemoPager pager = new MemoPager(failing, MemoPager.Order.ID, 2, true)) {
+            failing.runInTransaction(em -> {
+                for (int i = 1; i <= 5; i++) {
+                    Memo memo = new Memo();
+                    memo.setUsername("user-" + i);
+                    memo.setContents("페이지 " + i);
+                    em.persist(memo);
+                }
+                return null;
+            });
+
+            MemoPage page = pager.first();
+            IllegalStateException ex = assertThrows(IllegalStateException.class, () -> pager.next(page.nextToken()));
+            assertEquals("두 번째 페이지 실패", ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,208 @@
+import com.sparta.JpaManager;
+import com.sparta.entity.Memo;
+import com.sparta.search.MemoSearch;
+import com.sparta.search.MemoSearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MemoSearchTest {
+    static final String[] WORDS = {"사과", "바나나", "apple", "Banana", "cherry", "포도", "2024", "메모"};
+
+    JpaManager jpa;
+    MemoSearch search;
+    List<Long> ids;
+
+    @BeforeEach
+    void setUp() {
+        jpa = new JpaManager(TestDatabase.h2Properties());
+        // MemoSearch 를 만들기 전에 저장한 메모는 처음 색인을 만들 때 읽음
+        ids = jpa.runInTransaction(em -> {
+            List<Long> result = new ArrayList<>();
+            result.add(persist(em, "user-1", "사과, 바나나 banana apple!").getId());
+            result.add(persist(em, "user-2", "Banana split 메모").getId());
+            return result;
+        });
+        search = new MemoSearch(jpa);
+    }
+
+    @AfterEach
+    void tearDown() {
+        search.close();
+        jpa.close();
+    }
+
+    private static Memo persist(jakarta.persistence.EntityManager em, String username, String contents) {
+        Memo memo = new Memo();
+        memo.setUsername(username);
+        memo.setContents(contents);
+        em.persist(memo);
+        return memo;
+    }
+
+    // query 의 단어가 모두 나오는 메모를 DB 전체에서 직접 찾은 결과 (색인과 비교할 기준)
+    private long[] expected(String query) {
+        return jpa.runReadOnly(em -> em.createQuery("select m from Memo m order by m.id", Memo.class)
+                .getResultStream()
+                .filter(memo -> MemoSearchIndex.matches(memo.getContents(), query))
+                .mapToLong(Memo::getId)
+                .toArray());
+    }
+
+    @Test
+    @DisplayName("단어 분리 : 글자/숫자가 이어진 구간을 소문자로, 중복 없이")
+    void test1() {
+        assertArrayEquals(new String[]{"hello", "메모", "123", "a1"},
+                MemoSearchIndex.tokenize("Hello, 메모 123 hello... A1"));
+        assertEquals(0, MemoSearchIndex.tokenize(" ,.!").length);
+    }
+
+    @Test
+    @DisplayName("처음 색인 : 기존 메모를 읽어 색인하고 대소문자와 관계없이 모든 단어가 나오는 메모만 찾음")
+    void test2() {
+        assertEquals(2, search.index().documentCount());
+        assertArrayEquals(new long[]{ids.get(0), ids.get(1)}, search.searchIds("BANANA"));
+        assertArrayEquals(new long[]{ids.get(0)}, search.searchIds("banana 사과"));
+        assertArrayEquals(new long[0], search.searchIds("banana 포도"));
+        // 단어 일부로는 찾지 않음 (LIKE '%nan%' 과 다름)
+        assertArrayEquals(new long[0], search.searchIds("nan"));
+
+        List<Memo> memos = search.search("메모", 10);
+        assertEquals(1, memos.size());
+        assertEquals("user-2", memos.get(0).getUsername());
+    }
+
+    @Test
+    @DisplayName("저장, 수정, 삭제 : 엔티티 리스너로 바로 반영되어 이전 단어로는 찾지 않음")
+    void test3() {
+        Long id = jpa.runInTransaction(em -> persist(em, "user-3", "포도 cherry").getId());
+        assertArrayEquals(new long[]{id}, search.searchIds("포도"));
+
+        jpa.runInTransaction(em -> {
+            em.find(Memo.class, id).setContents("cherry 메모");
+            return null;
+        });
+        assertArrayEquals(new long[0], search.searchIds("포도"));
+        assertArrayEquals(new long[]{ids.get(1), id}, search.searchIds("메모"));
+
+        jpa.runInTransaction(em -> {
+            em.remove(em.find(Memo.class, id));
+            return null;
+        });
+        assertArrayEquals(new long[0], search.searchIds("cherry"));
+        assertEquals(2, search.index().documentCount());
+    }
+
+    @Test
+    @DisplayName("일관성 : 무작위 저장/수정/삭제 후 모든 단어의 검색 결과가 DB 전체 비교 결과와 같음")
+    void test4() {
+        Random random = new Random(20);
+        List<Long> live = new ArrayList<>(ids);
+        for (int round = 0; round < 20; round++) {
+            jpa.runInTransaction(em -> {
+                for (int i = 0; i < 10; i++) {
+                    int action = random.nextInt(3);
+                    if (action == 0 || live.isEmpty()) {
+                        live.add(persist(em, "user-r" + random.nextLong(), sentence(random)).getId());
+                    } else if (action == 1) {
+                        em.find(Memo.class, live.get(random.nextInt(live.size()))).setContents(sentence(random));
+                    } else {
+                        em.remove(em.find(Memo.class, live.remove(random.nextInt(live.size()))));
+                        // 같은 트랜잭션에서 삭제한 메모를 다시 찾지 않도록 바로 반영
+                        em.flush();
+                    }
+                }
+                return null;
+            });
+        }
+
+        assertEquals(live.size(), search.index().documentCount());
+        for (String word : WORDS) {
+            assertArrayEquals(expected(word), search.searchIds(word), word);
+        }
+        assertArrayEquals(expected("사과 포도"), search.searchIds("사과 포도"));
+    }
+
+    @Test
+    @DisplayName("롤백 : flush 했더라도 롤백된 저장/수정/삭제는 색인에 반영되지 않음")
+    void test5() {
+        assertThrows(IllegalStateException.class, () -> jpa.runInTransaction(em -> {
+            em.find(Memo.class, ids.get(1)).setContents("포도");
+            persist(em, "user-rollback", "포도 cherry");
+            em.remove(em.find(Memo.class, ids.get(0)));
+            em.flush();
+            throw new IllegalStateException("롤백");
+        }));
+
+        assertArrayEquals(new long[0], search.searchIds("포도"));
+        assertArrayEquals(new long[0], search.searchIds("cherry"));
+        assertArrayEquals(expected("메모"), search.searchIds("메모"));
+        assertArrayEquals(new long[]{ids.get(0)}, search.searchIds("사과"));
+
+        // 커밋된 변경은 반영됨
+        jpa.runInTransaction(em -> {
+            em.find(Memo.class, ids.get(1)).setContents("포도");
+            return null;
+        });
+        assertArrayEquals(new long[]{ids.get(1)}, search.searchIds("포도"));
+        assertArrayEquals(new long[0], search.searchIds("메모"));
+    }
+
+    @Test
+    @DisplayName("다시 만들기 : 리스너를 거치지 않는 JPQL 일괄 수정도 rebuild() 후 반영")
+    void test6() {
+        jpa.runInTransaction(em -> em.createQuery("update Memo m set m.contents = :contents, m.contentsPreview = :preview")
+                .setParameter("contents", "cherry 2024")
+                .setParameter("preview", "cherry 2024")
+                .executeUpdate());
+        assertArrayEquals(new long[0], search.searchIds("cherry"));
+
+        search.rebuild();
+        assertArrayEquals(expected("cherry 2024"), search.searchIds("cherry 2024"));
+        assertEquals(2, search.searchIds("2024").length);
+    }
+
+    @Test
+    @DisplayName("검색 결과 수 제한 : 식별자 순서로 limit 개까지")
+    void test7() {
+        List<Long> added = jpa.runInTransaction(em -> {
+            List<Long> result = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                result.add(persist(em, "user-l" + i, "cherry " + i).getId());
+            }
+            return result;
+        });
+
+        List<Memo> memos = search.search("cherry", 3);
+        assertEquals(added.subList(0, 3), memos.stream().map(Memo::getId).toList());
+        assertThrows(IllegalArgumentException.class, () -> search.search("cherry", 0));
+    }
+
+    @Test
+    @DisplayName("리스너 연결 : EntityManagerFactory 하나에는 MemoSearch 하나만 연결하고, close() 후에는 반영하지 않음")
+    void test8() {
+        assertThrows(IllegalStateException.class, () -> new MemoSearch(jpa));
+
+        search.close();
+        jpa.runInTransaction(em -> persist(em, "user-4", "포도"));
+        assertEquals(0, search.searchIds("포도").length);
+
+        // 연결을 해제했으므로 새로 연결할 수 있음
+        search = new MemoSearch(jpa);
+        assertEquals(1, search.searchIds("포도").length);
+    }
+
+    private static String sentence(Random random) {
+        String[] words = new String[1 + random.nextInt(4)];
+        Arrays.setAll(words, i -> WORDS[random.nextInt(WORDS.length)]);
+        return String.join(" ", words);
+    }
+}
@@ -0,0 +1,143 @@
+import com.sparta.entity.Memo;
+import com.sparta.repository.MemoFetchProfile;
+import com.sparta.repository.MemoSummary;
+import com.sparta.shard.MemoShards;
+import com.sparta.shard.ShardResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MemoShardsTest {
+    MemoShards shards;
+
+    @AfterEach
+    void tearDown() {
+        shards.close();
+    }
+
+    // count 개의 내장 데이터베이스를 샤드로 사용
+    private static MemoShards create(int count, Map<String, Object> overrides) {
+        String prefix = "shard-" + UUID.randomUUID() + "-";
+        List<String> urls = IntStream.range(0, count).mapToObj(i -> TestDatabase.url(prefix + i)).toList();
+        Map<String, Object> properties = TestDatabase.h2Properties(prefix + "unused");
+        properties.remove("jakarta.persistence.jdbc.url");
+        properties.putAll(overrides);
+        return new MemoShards(urls, properties);
+    }
+
+    private static Memo memo(String username) {
+        Memo memo = new Memo();
+        memo.setUsername(username);
+        memo.setContents("샤드 " + username);
+        return memo;
+    }
+
+    @Test
+    @DisplayName("username 해시로 고른 샤드에 저장하고, 식별자와 username 으로 그 샤드 하나에서 조회")
+    void test1() {
+        shards = create(4, Map.of());
+        ShardResolver resolver = shards.resolver();
+
+        Set<Long> ids = new HashSet<>();
+        int[] perShard = new int[4];
+        for (int i = 0; i < 200; i++) {
+            String username = "user-" + i;
+            Long id = shards.persist(memo(username));
+            assertTrue(ids.add(id), "식별자는 샤드가 달라도 겹치지 않음");
+
+            int shard = resolver.shardOf(username);
+            assertEquals(shard, resolver.shardOf(id));
+            assertNotNull(shards.shard(shard).runReadOnly(em -> em.find(Memo.class, id)));
+            perShard[shard]++;
+        }
+        // 한 샤드로 몰리지 않음
+        for (int count : perShard) {
+            assertTrue(count > 20, "샤드별 건수 = " + count);
+        }
+
+        Long id = shards.findByUsername("user-7").orElseThrow().getId();
+        assertEquals("user-7", shards.find(id).orElseThrow().getUsername());
+        assertTrue(shards.findByUsername("nobody").isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> shards.find(ShardResolver.firstId(4)));
+    }
+
+    @Test
+    @DisplayName("scatter-gather : 모든 샤드의 결과를 정렬 순서대로 합친 결과가 전체를 정렬한 결과와 같음")
+    void test2() {
+        shards = create(3, Map.of());
+        LocalDateTime before = LocalDateTime.now().minusSeconds(1);
+        for (int i = 0; i < 60; i++) {
+            shards.persist(memo(String.format("user-%02d", i)));
+        }
+
+        List<MemoSummary> prefix = shards.findSummariesByUsernamePrefix("user-1", 5);
+        assertEquals(List.of("user-10", "user-11", "user-12", "user-13", "user-14"),
+                prefix.stream().map(MemoSummary::username).toList());
+
+        List<Memo> all = new ArrayList<>();
+        shards.scatter(em -> em.createQuery("select m from Memo m", Memo.class).getResultList()).forEach(all::addAll);
+        assertEquals(60, all.size());
+        all.sort(Comparator.comparing(Memo::getUpdatedAt).thenComparing(Memo::getId));
+
+        List<Memo> updated = shards.findUpdatedSince(before, 25);
+        assertEquals(all.subList(0, 25).stream().map(Memo::getId).toList(),
+                updated.stream().map(Memo::getId).toList());
+
+        // 샤드별 건수는 샤드 순서대로
+        List<Long> counts = shards.scatter(em -> em.createQuery("select count(m) from Memo m", Long.class).getSingleResult());
+        assertEquals(3, counts.size());
+        assertEquals(60, counts.stream().mapToLong(Long::longValue).sum());
+    }
+
+    @Test
+    @DisplayName("username 변경 : 같은 샤드면 그 자리에서, 다른 샤드면 새 샤드로 옮기고 username 으로 다시 찾을 수 있음")
+    void test3() {
+        shards = create(4, Map.of());
+        ShardResolver resolver = shards.resolver();
+        Long id = shards.persist(memo("before"));
+        int from = resolver.shardOf("before");
+
+        // 샤드가 같은 username 과 다른 username
+        String same = IntStream.range(0, 1000).mapToObj(i -> "same-" + i)
+                .filter(name -> resolver.shardOf(name) == from).findFirst().orElseThrow();
+        String other = IntStream.range(0, 1000).mapToObj(i -> "other-" + i)
+                .filter(name -> resolver.shardOf(name) != from).findFirst().orElseThrow();
+
+        assertEquals(id, shards.rename(id, same).orElseThrow());
+        assertEquals(id, shards.findByUsername(same).orElseThrow().getId());
+
+        Long moved = shards.rename(id, other).orElseThrow();
+        assertEquals(resolver.shardOf(other), resolver.shardOf(moved));
+        Memo found = shards.findByUsername(other).orElseThrow();
+        assertEquals(moved, found.getId());
+        assertEquals("샤드 before", shards.find(moved, MemoFetchProfile.FULL).orElseThrow().getContents());
+        assertTrue(shards.find(id).isEmpty());
+        assertTrue(shards.rename(id, "nobody").isEmpty());
+
+        // 샤드를 직접 사용해 다른 샤드의 username 으로 바꾸거나 저장하면 예외
+        int otherShard = resolver.shardOf(other);
+        String elsewhere = IntStream.range(0, 1000).mapToObj(i -> "elsewhere-" + i)
+                .filter(name -> resolver.shardOf(name) != otherShard).findFirst().orElseThrow();
+        assertThrows(RuntimeException.class, () -> shards.shard(otherShard).runInTransaction(em -> {
+            em.find(Memo.class, moved).setUsername(elsewhere);
+            return null;
+        }));
+        assertThrows(RuntimeException.class, () -> shards.shard(otherShard).runInTransaction(em -> {
+            em.persist(memo(elsewhere));
+            return null;
+        }));
+        assertEquals(other, shards.find(moved).orElseThrow().getUsername());
+    }
+}
@@ -0,0 +1,153 @@
+import com.sparta.JpaManager;
+import com.sparta.entity.Memo;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityTransaction;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 테스트용 내장 데이터베이스 픽스처 (JUnit 5 확장)
+// @ExtendWith(MemoTestFixture.class) 를 붙이면 테스트와 @BeforeEach 메서드에 JpaManager, EntityManager 를 주입
+// - 데이터베이스는 마이그레이션 스크립트로 스키마를 만든 MySQL 호환 모드의 인메모리 H2
+// - 테스트가 끝나면 테스트 중에 커밋한 내용까지 모두 롤백하므로 모든 테스트는 빈 memo 테이블에서 시작
+// - 동시에 실행 중인 테스트는 서로 다른 데이터베이스를 사용하므로 병렬로 실행해도 서로 영향을 주지 않음
+//   (데이터베이스는 동시에 실행되는 테스트 수만큼만 만들고, 끝난 테스트의 데이터베이스를 다음 테스트가 재사용)
+public class MemoTestFixture implements BeforeEachCallback, AfterEachCallback, ParameterResolver {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(MemoTestFixture.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) throws Exception {
+        Database database = databases(context).acquire();
+        database.provider.begin();
+        context.getStore(NAMESPACE).put(Database.class, database);
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) throws Exception {
+        Database database = context.getStore(NAMESPACE).remove(Database.class, Database.class);
+        try {
+            database.closeEntityManagers();
+        } finally {
+            database.provider.rollback();
+            databases(context).release(database);
+        }
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        Class<?> type = parameterContext.getParameter().getType();
+        return type == JpaManager.class || type == EntityManager.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        Database database = extensionContext.getStore(NAMESPACE).get(Database.class, Database.class);
+        if (parameterContext.getParameter().getType() == JpaManager.class) {
+            return database.jpa;
+        }
+        return database.createEntityManager();
+    }
+
+    // 메모 count 건을 저장하고 커밋한 뒤 (테스트가 끝나면 롤백됨) 식별자를 저장한 순서대로 반환
+    // 영속성 컨텍스트는 비워 두므로 이후 조회는 데이터베이스에서 읽음
+    public static List<Long> insertMemos(EntityManager em, int count) {
+        EntityTransaction et = em.getTransaction();
+        et.begin();
+        List<Long> ids = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            Memo memo = new Memo();
+            memo.setUsername("fixture-" + i);
+            memo.setContents("테스트 메모 " + i);
+            em.persist(memo);
+            ids.add(memo.getId());
+        }
+        et.commit();
+        em.clear();
+        return ids;
+    }
+
+    private static Databases databases(ExtensionContext context) {
+        // 전체 테스트 실행에서 하나만 만들고, 모든 테스트가 끝나면 닫음
+        return context.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(Databases.class, key -> new Databases(), Databases.class);
+    }
+
+    // 쉬고 있는 데이터베이스 목록
+    private static final class Databases implements ExtensionContext.Store.CloseableResource {
+
+        private final AtomicInteger created = new AtomicInteger();
+        private final Queue<Database> idle = new ConcurrentLinkedQueue<>();
+        private final Queue<Database> all = new ConcurrentLinkedQueue<>();
+
+        Database acquire() {
+            Database database = idle.poll();
+            if (database == null) {
+                database = new Database("fixture-" + created.incrementAndGet());
+                all.add(database);
+            }
+            return database;
+        }
+
+        void release(Database database) {
+            idle.add(database);
+        }
+
+        @Override
+        public void close() {
+            all.forEach(database -> database.jpa.close());
+        }
+    }
+
+    // 내장 데이터베이스 하나와 그 데이터베이스를 사용하는 JpaManager (한 번에 한 테스트만 사용)
+    private static final class Database {
+
+        final JpaManager jpa;
+        final RollbackConnectionProvider provider;
+        // 이번 테스트에서 발급한 EntityManager (테스트가 끝나면 닫음)
+        private final List<EntityManager> entityManagers = new ArrayList<>();
+
+        Database(String name) {
+            Map<String, Object> properties = TestDatabase.h2Properties(name);
+            properties.put("hibernate.connection.provider_class", RollbackConnectionProvider.class.getName());
+            // 2차 캐시는 롤백된 데이터를 기억하고 있을 수 있으므로 끔
+            properties.put("hibernate.cache.use_second_level_cache", "false");
+            properties.put("hibernate.cache.use_query_cache", "false");
+            this.jpa = new JpaManager(properties);
+            this.provider = jpa.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getServiceRegistry()
+                    .getService(ConnectionProvider.class)
+                    .unwrap(RollbackConnectionProvider.class);
+        }
+
+        synchronized EntityManager createEntityManager() {
+            EntityManager em = jpa.createEntityManager();
+            entityManagers.add(em);
+            return em;
+        }
+
+        synchronized void closeEntityManagers() {
+            for (EntityManager em : entityManagers) {
+                if (em.isOpen()) {
+                    if (em.getTransaction().isActive()) {
+                        em.getTransaction().rollback();
+                    }
+                    em.close();
+                }
+            }
+            entityManagers.clear();
+        }
+    }
+}
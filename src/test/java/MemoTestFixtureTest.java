@@ -0,0 +1,59 @@
+import com.sparta.JpaManager;
+import com.sparta.entity.Memo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 반복할 때마다 같은 username 으로 저장하고 커밋하지만, 이전 반복이나 동시에 실행 중인 반복의 데이터는 보이지 않아야 함
+@ExtendWith(MemoTestFixture.class)
+@Execution(ExecutionMode.CONCURRENT)
+public class MemoTestFixtureTest {
+
+    @RepeatedTest(4)
+    @DisplayName("테스트 중에 커밋한 내용은 다른 테스트에 보이지 않음")
+    void test1(JpaManager jpa) {
+        assertEquals(0L, count(jpa));
+
+        jpa.runInTransaction(em -> {
+            Memo memo = new Memo();
+            memo.setUsername("Robbie");
+            memo.setContents("픽스처");
+            em.persist(memo);
+            return memo.getId();
+        });
+
+        // 커밋한 내용은 같은 테스트 안에서는 보임
+        assertEquals(1L, count(jpa));
+    }
+
+    @RepeatedTest(2)
+    @DisplayName("테스트 안에서 롤백하면 마지막 커밋 이후의 변경만 되돌림")
+    void test2(JpaManager jpa) {
+        jpa.runInTransaction(em -> {
+            Memo memo = new Memo();
+            memo.setUsername("committed");
+            memo.setContents("커밋");
+            em.persist(memo);
+            return null;
+        });
+
+        assertThrows(IllegalStateException.class, () -> jpa.runInTransaction(em -> {
+            Memo memo = new Memo();
+            memo.setUsername("rolled-back");
+            memo.setContents("롤백");
+            em.persist(memo);
+            em.flush();
+            throw new IllegalStateException("롤백");
+        }));
+
+        assertEquals(1L, count(jpa));
+    }
+
+    private long count(JpaManager jpa) {
+        return jpa.runReadOnly(em -> em.createQuery("select count(m) from Memo m", Long.class).getSingleResult());
+    }
+}
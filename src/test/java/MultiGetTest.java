@@ -0,0 +1,109 @@
+import com.sparta.JpaManager;
+import com.sparta.entity.Memo;
+import com.sparta.repository.MemoRepository;
+import com.sparta.repository.MultiGetResult;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MultiGetTest {
+    JpaManager jpa;
+    Statistics statistics;
+    List<Long> ids;
+
+    @BeforeEach
+    void setUp() {
+        jpa = new JpaManager(TestDatabase.h2Properties());
+        statistics = jpa.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        ids = jpa.runInTransaction(em -> {
+            List<Long> result = new ArrayList<>();
+            for (int i = 1; i <= 30; i++) {
+                Memo memo = new Memo();
+                memo.setUsername("user-" + i);
+                memo.setContents("다건 조회 " + i);
+                em.persist(memo);
+                result.add(memo.getId());
+            }
+            return result;
+        });
+        // 저장하면서 채워진 2차 캐시를 비워 DB 에서 읽게 함
+        jpa.getEntityManagerFactory().getCache().evictAll();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jpa.close();
+    }
+
+    private static List<Long> idsOf(MultiGetResult result) {
+        return result.memos().stream().map(Memo::getId).toList();
+    }
+
+    @Test
+    @DisplayName("요청한 순서대로 반환하고, 중복은 한 번만, 없는 식별자는 따로 알려줌")
+    void test1() {
+        long unknown = ids.get(ids.size() - 1) + 1000;
+        MultiGetResult result = jpa.runReadOnly(em -> new MemoRepository(em)
+                .findAll(List.of(ids.get(2), unknown, ids.get(0), ids.get(1), ids.get(0))));
+
+        assertEquals(List.of(ids.get(2), ids.get(0), ids.get(1)), idsOf(result));
+        assertEquals(List.of(unknown), result.missing());
+        // SELECT 한 번
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        MultiGetResult empty = jpa.runReadOnly(em -> new MemoRepository(em).findAll(List.of()));
+        assertTrue(empty.memos().isEmpty() && empty.missing().isEmpty());
+    }
+
+    @Test
+    @DisplayName("chunkSize 개씩 나눠서 IN 으로 조회")
+    void test2() {
+        MultiGetResult result = jpa.runReadOnly(em -> new MemoRepository(em).findAll(ids, 12));
+
+        assertEquals(ids, idsOf(result));
+        // 30 = 12 + 12 + 6
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("1차 캐시에 있는 Memo 는 그 인스턴스를 그대로 쓰고 나머지만 조회, 삭제한 Memo 는 없는 것으로 봄")
+    void test3() {
+        jpa.runInTransaction(em -> {
+            Memo cached = em.find(Memo.class, ids.get(5));
+            em.remove(em.find(Memo.class, ids.get(6)));
+            statistics.clear();
+
+            MultiGetResult result = new MemoRepository(em).findAll(ids.subList(0, 10));
+            assertSame(cached, result.memos().get(5));
+            assertEquals(List.of(ids.get(6)), result.missing());
+            assertEquals(9, result.memos().size());
+            // ids[5] 는 1차 캐시에서, 나머지 8건은 SELECT 한 번
+            assertEquals(1, statistics.getPrepareStatementCount());
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("2차 캐시에 있는 Memo 는 SQL 없이 가져옴")
+    void test4() {
+        // 다른 작업 단위에서 읽어 2차 캐시를 채움
+        jpa.runReadOnly(em -> new MemoRepository(em).findAll(ids.subList(0, 20)));
+        statistics.clear();
+
+        MultiGetResult result = jpa.runReadOnly(em -> new MemoRepository(em).findAll(ids));
+        assertEquals(ids, idsOf(result));
+        assertEquals(20, statistics.getSecondLevelCacheHitCount());
+        // 캐시에 없던 10건만 SELECT 한 번
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(10, statistics.getEntityLoadCount());
+    }
+}
@@ -0,0 +1,85 @@
+import com.sparta.JpaManager;
+import com.sparta.entity.Memo;
+import com.sparta.repository.MemoRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NaturalIdTest {
+    JpaManager jpa;
+    Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        jpa = new JpaManager(TestDatabase.h2Properties());
+        statistics = jpa.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jpa.close();
+    }
+
+    private Long save(String username) {
+        return jpa.runInTransaction(em -> {
+            Memo memo = new Memo();
+            memo.setUsername(username);
+            memo.setContents("natural id");
+            em.persist(memo);
+            return memo.getId();
+        });
+    }
+
+    private Optional<Memo> findByUsername(String username) {
+        return jpa.runInTransaction(em -> new MemoRepository(em).findByUsername(username));
+    }
+
+    @Test
+    @DisplayName("username 으로 조회")
+    void test1() {
+        Long id = save("Robbie");
+        save("Robbert");
+
+        assertEquals(id, findByUsername("Robbie").orElseThrow().getId());
+        assertTrue(findByUsername("Nobody").isEmpty());
+    }
+
+    @Test
+    @DisplayName("캐시된 username 은 SQL 없이 조회")
+    void test2() {
+        Long id = save("Robbie");
+        // 첫 조회는 DB 에서 username → 식별자 변환 후 캐시에 저장
+        jpa.getEntityManagerFactory().getCache().evictAll();
+        findByUsername("Robbie");
+
+        statistics.clear();
+        Memo memo = findByUsername("Robbie").orElseThrow();
+
+        assertEquals(id, memo.getId());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getNaturalIdCacheHitCount());
+    }
+
+    @Test
+    @DisplayName("username 을 변경하면 새 username 으로만 조회")
+    void test3() {
+        Long id = save("Robbie");
+        findByUsername("Robbie");
+
+        // 변경 감지로 username 수정
+        jpa.runInTransaction(em -> {
+            em.find(Memo.class, id).setUsername("Update");
+            return null;
+        });
+
+        assertEquals(id, findByUsername("Update").orElseThrow().getId());
+        assertTrue(findByUsername("Robbie").isEmpty());
+    }
+}
@@ -0,0 +1,108 @@
+import com.sparta.JpaManager;
+import com.sparta.entity.Memo;
+import com.sparta.retry.OptimisticRetryExecutor;
+import com.sparta.retry.RetryMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OptimisticLockingTest {
+    JpaManager jpa;
+    List<Long> ids;
+
+    @BeforeEach
+    void setUp() {
+        jpa = new JpaManager(TestDatabase.h2Properties());
+        ids = jpa.runInTransaction(em -> {
+            List<Long> result = new ArrayList<>();
+            for (int i = 1; i <= 2; i++) {
+                Memo memo = new Memo();
+                memo.setUsername("counter-" + i);
+                // contents 를 카운터로 사용
+                memo.setContents("0");
+                em.persist(memo);
+                result.add(memo.getId());
+            }
+            return result;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        jpa.close();
+    }
+
+    @Test
+    @DisplayName("준영속 Memo 를 merge() 할 때 그 사이 다른 트랜잭션이 수정했다면 덮어쓰지 않고 충돌")
+    void test1() {
+        Long id = ids.get(0);
+        Memo detached = jpa.runInTransaction(em -> em.find(Memo.class, id));
+        assertEquals(0L, detached.getVersion());
+
+        // 다른 트랜잭션이 먼저 수정
+        jpa.runInTransaction(em -> {
+            em.find(Memo.class, id).setContents("먼저 수정");
+            return null;
+        });
+
+        // 예전 버전으로 merge() 하면 충돌 (재시도 없이 한 번만 실행)
+        detached.setContents("나중 수정");
+        OptimisticRetryExecutor executor = new OptimisticRetryExecutor(jpa, 1, 0, 0);
+        assertThrows(RuntimeException.class, () -> executor.execute(em -> em.merge(detached)));
+
+        Memo memo = jpa.runInTransaction(em -> em.find(Memo.class, id));
+        assertEquals("먼저 수정", memo.getContents());
+        assertEquals(1L, memo.getVersion());
+        assertEquals(new RetryMetrics(1, 1, 1, 0, 1), executor.getMetrics());
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 같은 Memo 를 동시에 수정해도 재시도로 모든 수정이 반영됨 (갱신 손실 없음)")
+    void test2() throws Exception {
+        int threads = 8;
+        int updatesPerThread = 25;
+        OptimisticRetryExecutor executor = new OptimisticRetryExecutor(jpa, 100, 1, 20);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < updatesPerThread; i++) {
+                        Long id = ids.get(i % ids.size());
+                        executor.execute(em -> {
+                            Memo memo = em.find(Memo.class, id);
+                            memo.setContents(String.valueOf(Integer.parseInt(memo.getContents()) + 1));
+                            return null;
+                        });
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        int total = jpa.runInTransaction(em -> ids.stream()
+                .mapToInt(id -> Integer.parseInt(em.find(Memo.class, id).getContents()))
+                .sum());
+        RetryMetrics metrics = executor.getMetrics();
+
+        assertEquals(threads * updatesPerThread, total);
+        assertEquals(threads * updatesPerThread, metrics.executions());
+        assertEquals(0, metrics.failures());
+        assertEquals(metrics.executions() + metrics.retries(), metrics.attempts());
+        assertEquals(metrics.conflicts(), metrics.retries());
+    }
+}
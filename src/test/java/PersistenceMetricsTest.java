@@ -0,0 +1,134 @@
+import com.sparta.JpaManager;
+import com.sparta.entity.Memo;
+import com.sparta.metrics.MetricsSnapshot;
+import com.sparta.metrics.Operation;
+import com.sparta.metrics.PersistenceMetrics;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PersistenceMetricsTest {
+    JpaManager jpa;
+
+    @BeforeEach
+    void setUp() {
+        jpa = new JpaManager(TestDatabase.h2Properties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jpa.close();
+    }
+
+    @Test
+    @DisplayName("작업별 지연시간, 트랜잭션당 SQL/flush 수, 1차 캐시 적중을 기록")
+    void test1() {
+        Long id = jpa.runInTransaction(em -> {
+            Memo memo = new Memo();
+            memo.setUsername("Robbie");
+            memo.setContents("측정");
+            em.persist(memo);
+            return memo.getId();
+        });
+        jpa.runInTransaction(em -> {
+            // 첫 번째 find() 는 SQL 실행 (또는 2차 캐시), 두 번째는 1차 캐시
+            Memo memo = em.find(Memo.class, id);
+            assertSame(memo, em.find(Memo.class, id));
+            memo.setContents("측정 수정");
+            return null;
+        });
+
+        MetricsSnapshot snapshot = jpa.getMetrics().snapshot();
+
+        assertEquals(1, snapshot.latencies().get(Operation.PERSIST).count());
+        assertEquals(2, snapshot.latencies().get(Operation.FIND).count());
+        assertEquals(2, snapshot.latencies().get(Operation.COMMIT).count());
+        assertTrue(snapshot.latencies().get(Operation.COMMIT).max() > 0);
+        assertEquals(1, snapshot.firstLevelCacheHits());
+        assertEquals(1, snapshot.firstLevelCacheMisses());
+        assertEquals(0.5, snapshot.firstLevelCacheHitRatio());
+        // 트랜잭션마다 INSERT / UPDATE 로 엔티티 하나씩 flush
+        assertEquals(2, snapshot.entitiesFlushedPerTransaction().count());
+        assertEquals(1, snapshot.entitiesFlushedPerTransaction().max());
+        assertTrue(snapshot.statementsPerTransaction().max() >= 1);
+
+        // 조회만 한 엔티티는 flush 할 때 dirty 검사는 하지만 쓰지 않으므로 0
+        jpa.getMetrics().reset();
+        jpa.runInTransaction(em -> em.find(Memo.class, id));
+        assertEquals(0, jpa.getMetrics().snapshot().entitiesFlushedPerTransaction().max());
+
+        // 삭제도 쓴 엔티티로 셈
+        jpa.runInTransaction(em -> {
+            em.remove(em.find(Memo.class, id));
+            return null;
+        });
+        assertEquals(1, jpa.getMetrics().snapshot().entitiesFlushedPerTransaction().max());
+    }
+
+    @Test
+    @DisplayName("JMX 로 측정값을 조회하고 JpaManager 를 닫으면 등록 해제")
+    void test2() throws Exception {
+        jpa.runInTransaction(em -> em.find(Memo.class, 1L));
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = jpa.getMetrics().getObjectName();
+
+        assertEquals(1L, server.getAttribute(name, "TransactionCount"));
+        assertNotNull(server.getAttribute(name, "LatencyP99Micros"));
+
+        server.invoke(name, "reset", null, null);
+        assertEquals(0L, server.getAttribute(name, "TransactionCount"));
+
+        jpa.close();
+        assertFalse(server.isRegistered(name));
+    }
+
+    @Test
+    @DisplayName("측정을 끄면 EntityManager 를 감싸지 않음")
+    void test3() {
+        Map<String, Object> properties = TestDatabase.h2Properties();
+        properties.put(PersistenceMetrics.ENABLED, "false");
+
+        try (JpaManager plain = new JpaManager(properties)) {
+            EntityManager em = plain.createEntityManager();
+            assertFalse(Proxy.isProxyClass(em.getClass()));
+            em.close();
+            assertThrows(IllegalStateException.class, plain::getMetrics);
+        }
+    }
+
+    @Test
+    @DisplayName("감싼 EntityManager 는 Session 으로도 사용할 수 있고, Session 메소드도 측정")
+    void test4() {
+        jpa.runInTransaction(em -> {
+            assertInstanceOf(Session.class, em);
+            Session session = em.unwrap(Session.class);
+            assertSame(em, session);
+
+            Memo memo = new Memo();
+            memo.setUsername("Robbie");
+            memo.setContents("세션");
+            session.persist(memo);
+            // Session.getTransaction() 은 하이버네이트 Transaction
+            assertTrue(session.getTransaction().isActive());
+            // SPI 는 원래 세션
+            assertFalse(Proxy.isProxyClass(em.unwrap(SessionImplementor.class).getClass()));
+            return null;
+        });
+
+        MetricsSnapshot snapshot = jpa.getMetrics().snapshot();
+        assertEquals(1, snapshot.latencies().get(Operation.PERSIST).count());
+        assertEquals(1, snapshot.entitiesFlushedPerTransaction().max());
+    }
+}
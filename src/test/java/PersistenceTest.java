@@ -1,22 +1,29 @@
 import com.sparta.entity.Memo;
 import jakarta.persistence.EntityManager;
-import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.EntityTransaction;
-import jakarta.persistence.Persistence;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
 
+import java.util.List;
+
+// 테스트마다 분리된 내장 데이터베이스를 사용하고 끝나면 롤백하므로 순서와 상관없이 병렬로 실행 가능
+@ExtendWith(MemoTestFixture.class)
+@Execution(ExecutionMode.CONCURRENT)
 public class PersistenceTest {
-    EntityManagerFactory emf;
     EntityManager em;
+    // 미리 저장한 메모의 식별자 (저장한 순서대로)
+    List<Long> ids;
 
     @BeforeEach
-    void setUp() {
-        // "memo"라는 이름의 Persistence Unit을 사용하여 EntityManagerFactory를 생성
-        emf = Persistence.createEntityManagerFactory("memo");
-        // EntityManagerFactory를 통해 EntityManager를 생성
-        em = emf.createEntityManager();
+    void setUp(EntityManager em) {
+        // 테스트 픽스처가 발급한 EntityManager (내장 데이터베이스를 사용하며 테스트가 끝나면 롤백됨)
+        this.em = em;
+        // 조회, 수정, 삭제 테스트에서 사용할 메모 4건을 미리 저장
+        ids = MemoTestFixture.insertMemos(em, 4);
     }
 
     // 1차 캐시 : Entity 저장
@@ -32,7 +39,6 @@ public class PersistenceTest {
         try {
             // 새로운 Memo 엔티티 생성 및 설정
             Memo memo = new Memo();
-            memo.setId(1L);
             memo.setUsername("Robbie");
             memo.setContents("1차 캐시 Entity 저장");
 
@@ -50,9 +56,6 @@ public class PersistenceTest {
             // EntityManager 닫기
             em.close();
         }
-
-        // EntityManagerFactory 닫기
-        emf.close();
     }
 
     // Entity 조회 : 캐시 저장소에 해당하는 Id가 존재하지 않은 경우
@@ -60,8 +63,8 @@ public class PersistenceTest {
     @DisplayName("Entity 조회 : 캐시 저장소에 해당하는 Id가 존재하지 않은 경우")
     void test2() {
         try {
-            // Id가 1인 Memo 엔티티 조회 (1차 캐시에 존재하지 않으면 DB에서 조회)
-            Memo memo = em.find(Memo.class, 1);
+            // 첫 번째 Memo 엔티티 조회 (1차 캐시에 존재하지 않으면 DB에서 조회)
+            Memo memo = em.find(Memo.class, ids.get(0));
             System.out.println("memo.getId() = " + memo.getId());
             System.out.println("memo.getUsername() = " + memo.getUsername());
             System.out.println("memo.getContents() = " + memo.getContents());
@@ -72,9 +75,6 @@ public class PersistenceTest {
             // EntityManager 닫기
             em.close();
         }
-
-        // EntityManagerFactory 닫기
-        emf.close();
     }
 
     // Entity 조회 : 캐시 저장소에 해당하는 Id가 존재하는 경우
@@ -82,12 +82,12 @@ public class PersistenceTest {
     @DisplayName("Entity 조회 : 캐시 저장소에 해당하는 Id가 존재하는 경우")
     void test3() {
         try {
-            // Id가 1인 Memo 엔티티 조회 (1차 캐시에 존재하지 않으면 DB에서 조회)
-            Memo memo1 = em.find(Memo.class, 1);
+            // 첫 번째 Memo 엔티티 조회 (1차 캐시에 존재하지 않으면 DB에서 조회)
+            Memo memo1 = em.find(Memo.class, ids.get(0));
             System.out.println("memo1 조회 후 캐시 저장소에 저장\n");
 
             // 동일한 Id로 다시 조회 (이번에는 1차 캐시에서 조회됨)
-            Memo memo2 = em.find(Memo.class, 1);
+            Memo memo2 = em.find(Memo.class, ids.get(0));
             System.out.println("memo2.getId() = " + memo2.getId());
             System.out.println("memo2.getUsername() = " + memo2.getUsername());
             System.out.println("memo2.getContents() = " + memo2.getContents());
@@ -98,9 +98,6 @@ public class PersistenceTest {
             // EntityManager 닫기
             em.close();
         }
-
-        // EntityManagerFactory 닫기
-        emf.close();
     }
 
     // 객체 동일성 보장
@@ -116,17 +113,16 @@ public class PersistenceTest {
         try {
             // 새로운 Memo 엔티티 생성 및 설정
             Memo memo3 = new Memo();
-            memo3.setId(2L);
             memo3.setUsername("Robbert");
             memo3.setContents("객체 동일성 보장");
             em.persist(memo3);
 
-            // Id가 1인 Memo 엔티티 조회
-            Memo memo1 = em.find(Memo.class, 1);
+            // 첫 번째 Memo 엔티티 조회
+            Memo memo1 = em.find(Memo.class, ids.get(0));
             // 동일한 Id로 다시 조회
-            Memo memo2 = em.find(Memo.class, 1);
-            // Id가 2인 Memo 엔티티 조회
-            Memo memo  = em.find(Memo.class, 2);
+            Memo memo2 = em.find(Memo.class, ids.get(0));
+            // 두 번째 Memo 엔티티 조회
+            Memo memo  = em.find(Memo.class, ids.get(1));
 
             // memo1과 memo2가 동일한 객체인지 확인 (1차 캐시에 의해 동일 객체 보장)
             System.out.println(memo1 == memo2);
@@ -143,9 +139,6 @@ public class PersistenceTest {
             // EntityManager 닫기
             em.close();
         }
-
-        // EntityManagerFactory 닫기
-        emf.close();
     }
 
     // Entity 삭제
@@ -159,8 +152,8 @@ public class PersistenceTest {
         et.begin();
 
         try {
-            // Id가 2인 Memo 엔티티 조회
-            Memo memo = em.find(Memo.class, 2);
+            // 두 번째 Memo 엔티티 조회
+            Memo memo = em.find(Memo.class, ids.get(1));
 
             // 엔티티 삭제
             em.remove(memo);
@@ -176,9 +169,6 @@ public class PersistenceTest {
             // EntityManager 닫기
             em.close();
         }
-
-        // EntityManagerFactory 닫기
-        emf.close();
     }
 
     // 쓰기 지연 저장소 (ActionQueue) 확인
@@ -194,14 +184,12 @@ public class PersistenceTest {
         try {
             // 새로운 Memo 엔티티 생성 및 설정
             Memo memo = new Memo();
-            memo.setId(2L);
             memo.setUsername("Robbert");
             memo.setContents("쓰기 지연 저장소");
             em.persist(memo);
 
             // 또 다른 Memo 엔티티 생성 및 설정
             Memo memo2 = new Memo();
-            memo2.setId(3L);
             memo2.setUsername("Bob");
             memo2.setContents("과연 저장을 잘 하고 있을까?");
             em.persist(memo2);
@@ -221,9 +209,6 @@ public class PersistenceTest {
             // EntityManager 닫기
             em.close();
         }
-
-        // EntityManagerFactory 닫기
-        emf.close();
     }
 
     // flush() 메서드 확인
@@ -239,7 +224,6 @@ public class PersistenceTest {
         try {
             // 새로운 Memo 엔티티 생성 및 설정
             Memo memo = new Memo();
-            memo.setId(4L);
             memo.setUsername("Flush");
             memo.setContents("Flush() 메서드 호출");
             em.persist(memo);
@@ -266,9 +250,6 @@ public class PersistenceTest {
             // EntityManager 닫기
             em.close();
         }
-
-        // EntityManagerFactory 닫기
-        emf.close();
     }
 
     // 변경 감지 확인
@@ -284,7 +265,7 @@ public class PersistenceTest {
         try {
             // 변경할 데이터를 조회
             System.out.println("변경할 데이터를 조회합니다.");
-            Memo memo = em.find(Memo.class, 4);
+            Memo memo = em.find(Memo.class, ids.get(3));
             System.out.println("memo.getId() = " + memo.getId());
             System.out.println("memo.getUsername() = " + memo.getUsername());
             System.out.println("memo.getContents() = " + memo.getContents());
@@ -309,8 +290,5 @@ public class PersistenceTest {
             // EntityManager 닫기
             em.close();
         }
-
-        // EntityManagerFactory 닫기
-        emf.close();
     }
 }
@@ -0,0 +1,120 @@
+import com.sparta.JpaManager;
+import com.sparta.entity.Memo;
+import com.sparta.jdbc.PoolMetrics;
+import com.sparta.jdbc.PooledConnectionProvider;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PooledConnectionProviderTest {
+    JpaManager jpa;
+
+    @AfterEach
+    void tearDown() {
+        jpa.close();
+    }
+
+    private JpaManager create(Map<String, Object> overrides) {
+        Map<String, Object> properties = TestDatabase.h2Properties();
+        properties.putAll(overrides);
+        return new JpaManager(properties);
+    }
+
+    @Test
+    @DisplayName("persistence.xml 설정으로 커넥션 풀 사용")
+    void test1() {
+        jpa = create(Map.of());
+
+        // 커넥션 풀을 통해 저장과 조회 수행
+        Long id = jpa.runInTransaction(em -> {
+            Memo memo = new Memo();
+            memo.setUsername("Robbie");
+            memo.setContents("커넥션 풀");
+            em.persist(memo);
+            return memo.getId();
+        });
+        assertNotNull(jpa.runInTransaction(em -> em.find(Memo.class, id)));
+
+        PoolMetrics metrics = PooledConnectionProvider.from(jpa.getEntityManagerFactory()).getMetrics();
+        System.out.println("metrics = " + metrics);
+
+        // 작업이 끝나면 모든 커넥션이 풀에 반납되어 있어야 함
+        assertEquals(0, metrics.active());
+        assertTrue(metrics.total() >= 1 && metrics.total() <= 10);
+        assertTrue(metrics.acquireCount() >= 2);
+        assertTrue(metrics.maxAcquireNanos() >= metrics.averageAcquireNanos());
+    }
+
+    @Test
+    @DisplayName("커넥션이 모두 사용 중이면 타임아웃까지 기다린 후 실패")
+    void test2() {
+        jpa = create(Map.of(
+                PooledConnectionProvider.MAXIMUM_POOL_SIZE, "1",
+                PooledConnectionProvider.CONNECTION_TIMEOUT, "250"));
+
+        // 트랜잭션을 열어 하나뿐인 커넥션을 점유
+        EntityManager holder = jpa.createEntityManager();
+        holder.getTransaction().begin();
+        holder.find(Memo.class, 1L);
+
+        try {
+            PoolMetrics busy = PooledConnectionProvider.from(jpa.getEntityManagerFactory()).getMetrics();
+            assertEquals(1, busy.active());
+            assertEquals(0, busy.idle());
+
+            // 다른 작업 단위는 커넥션을 얻지 못하고 타임아웃
+            assertThrows(RuntimeException.class, () -> jpa.runInTransaction(em -> em.find(Memo.class, 1L)));
+            assertEquals(1, PooledConnectionProvider.from(jpa.getEntityManagerFactory()).getMetrics().acquireTimeouts());
+        } finally {
+            holder.getTransaction().rollback();
+            holder.close();
+        }
+
+        assertEquals(0, PooledConnectionProvider.from(jpa.getEntityManagerFactory()).getMetrics().active());
+    }
+
+    @Test
+    @DisplayName("최소 유휴 수를 넘는 커넥션은 idle-timeout 이 지나면 정리됨")
+    void test3() throws InterruptedException {
+        // 정리 작업(housekeeping) 주기를 줄임 (풀을 만들 때 읽음, 기본 30초)
+        System.setProperty("com.zaxxer.hikari.housekeeping.periodMs", "200");
+        try {
+            // HikariCP 가 허용하는 가장 짧은 idle-timeout 은 10초
+            jpa = create(Map.of(
+                    PooledConnectionProvider.MAXIMUM_POOL_SIZE, "4",
+                    PooledConnectionProvider.MINIMUM_IDLE, "1",
+                    PooledConnectionProvider.IDLE_TIMEOUT, "10000"));
+        } finally {
+            System.clearProperty("com.zaxxer.hikari.housekeeping.periodMs");
+        }
+        PooledConnectionProvider provider = PooledConnectionProvider.from(jpa.getEntityManagerFactory());
+
+        // 커넥션 4개를 동시에 사용한 뒤 반납
+        List<EntityManager> holders = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            EntityManager holder = jpa.createEntityManager();
+            holder.getTransaction().begin();
+            holder.find(Memo.class, 1L);
+            holders.add(holder);
+        }
+        assertEquals(4, provider.getMetrics().total());
+        for (EntityManager holder : holders) {
+            holder.getTransaction().rollback();
+            holder.close();
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (provider.getMetrics().total() > 1 && System.nanoTime() < deadline) {
+            Thread.sleep(200);
+        }
+        assertEquals(1, provider.getMetrics().total());
+    }
+}
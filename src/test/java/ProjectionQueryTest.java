@@ -0,0 +1,125 @@
+import com.sparta.JpaManager;
+import com.sparta.entity.Memo;
+import com.sparta.repository.MemoRepository;
+import com.sparta.repository.MemoSummary;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProjectionQueryTest {
+    JpaManager jpa;
+
+    @BeforeEach
+    void setUp() {
+        jpa = new JpaManager(TestDatabase.h2Properties());
+        jpa.runInTransaction(em -> {
+            for (int i = 1; i <= 25; i++) {
+                Memo memo = new Memo();
+                memo.setUsername("user-" + i);
+                memo.setContents("요약 " + i);
+                em.persist(memo);
+            }
+            return null;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        jpa.close();
+    }
+
+    @Test
+    @DisplayName("생성자 표현식 : MemoSummary 로 조회하고 영속성 컨텍스트에는 아무것도 등록되지 않음")
+    void test1() {
+        jpa.runInTransaction(em -> {
+            List<MemoSummary> summaries = new MemoRepository(em).findSummaries(0, 10);
+
+            assertEquals(10, summaries.size());
+            assertEquals("user-1", summaries.get(0).username());
+            assertEquals(0, em.unwrap(Session.class).getStatistics().getEntityCount());
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("keyset 페이지 : 마지막 식별자 다음부터 이어서 조회하면 빠짐없이 한 번씩 조회")
+    void test2() {
+        List<MemoSummary> all = jpa.runInTransaction(em -> {
+            MemoRepository repository = new MemoRepository(em);
+            List<MemoSummary> result = new ArrayList<>();
+            long afterId = 0;
+            List<MemoSummary> page;
+            while (!(page = repository.findSummaries(afterId, 10)).isEmpty()) {
+                result.addAll(page);
+                afterId = page.get(page.size() - 1).id();
+            }
+            return result;
+        });
+
+        assertEquals(25, all.size());
+        assertEquals(25, all.stream().map(MemoSummary::id).distinct().count());
+        assertEquals("user-25", all.get(24).username());
+    }
+
+    @Test
+    @DisplayName("Tuple 쿼리 : 생성자 표현식과 같은 결과")
+    void test3() {
+        jpa.runInTransaction(em -> {
+            MemoRepository repository = new MemoRepository(em);
+            long afterId = repository.findSummaries(0, 5).get(4).id();
+
+            assertEquals(repository.findSummaries(afterId, 10), repository.findSummariesAsTuples(afterId, 10));
+            assertEquals(0, em.unwrap(Session.class).getStatistics().getEntityCount());
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("접두사 검색 : username, contents 가 접두사로 시작하는 요약만 조회하고 % 와 _ 는 문자 그대로 비교")
+    void test4() {
+        jpa.runInTransaction(em -> {
+            MemoRepository repository = new MemoRepository(em);
+
+            // user-1, user-10 ~ user-19
+            List<MemoSummary> byUsername = repository.findSummariesByUsernamePrefix("user-1", 100);
+            assertEquals(11, byUsername.size());
+            assertEquals("user-1", byUsername.get(0).username());
+            // 요약 2, 요약 20 ~ 요약 25
+            assertEquals(7, repository.findSummariesByContentsPrefix("요약 2", 10).size());
+
+            assertTrue(repository.findSummariesByUsernamePrefix("user_", 100).isEmpty());
+            assertTrue(repository.findSummariesByUsernamePrefix("%", 100).isEmpty());
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("생성/수정 시각 : 저장하면 채워지고 최신순 목록과 변경분 조회에 사용")
+    void test5() {
+        Memo memo = jpa.runInTransaction(em -> {
+            Memo created = new Memo();
+            created.setUsername("latest");
+            created.setContents("가장 최근");
+            em.persist(created);
+            return created;
+        });
+        assertNotNull(memo.getCreatedAt());
+        assertNotNull(memo.getUpdatedAt());
+
+        jpa.runInTransaction(em -> {
+            MemoRepository repository = new MemoRepository(em);
+            assertEquals("latest", repository.findRecentSummaries(1).get(0).username());
+
+            List<Memo> updated = repository.findUpdatedSince(memo.getUpdatedAt().minusNanos(1000), 10);
+            assertTrue(updated.stream().anyMatch(m -> m.getId().equals(memo.getId())));
+            return null;
+        });
+    }
+}
@@ -0,0 +1,118 @@
+import com.sparta.JpaManager;
+import com.sparta.entity.Memo;
+import com.sparta.repository.MemoRepository;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// MemoRepository 의 쿼리가 전체 테이블을 읽지 않고 인덱스를 사용하는지 실행 계획(EXPLAIN)으로 확인
+// H2 의 실행 계획은 사용한 인덱스를 /* public.<인덱스 이름> */ 로, 전체 테이블 읽기를 /* public.memo.tableScan */ 으로 표시
+public class QueryPlanTest {
+    JpaManager jpa;
+    // 하이버네이트가 실행한 SQL
+    final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Map<String, Object> properties = TestDatabase.h2Properties();
+        properties.put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+            statements.add(sql);
+            return sql;
+        });
+        jpa = new JpaManager(properties);
+        jpa.runInTransaction(em -> {
+            for (int i = 1; i <= 200; i++) {
+                Memo memo = new Memo();
+                memo.setUsername("user-" + i);
+                memo.setContents("실행 계획 " + i);
+                em.persist(memo);
+            }
+            return null;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        jpa.close();
+    }
+
+    // query 가 실행한 SELECT 의 실행 계획 (parameters: SQL 의 ? 에 순서대로 바인딩할 값)
+    private String plan(Function<MemoRepository, ?> query, Object... parameters) {
+        statements.clear();
+        jpa.runReadOnly(em -> query.apply(new MemoRepository(em)));
+        String sql = statements.stream()
+                .filter(statement -> statement.startsWith("select"))
+                .reduce((first, second) -> second)
+                .orElseThrow(() -> new AssertionError("SELECT 가 실행되지 않았습니다: " + statements));
+
+        return jpa.runReadOnly(em -> em.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement explain = connection.prepareStatement("explain " + sql)) {
+                for (int i = 0; i < parameters.length; i++) {
+                    explain.setObject(i + 1, parameters[i]);
+                }
+                try (ResultSet rs = explain.executeQuery()) {
+                    rs.next();
+                    return rs.getString(1);
+                }
+            }
+        }));
+    }
+
+    private static void assertUsesIndex(String index, String plan) {
+        assertFalse(plan.contains("tableScan"), () -> "전체 테이블을 읽음:\n" + plan);
+        assertTrue(plan.toLowerCase().contains(index), () -> index + " 인덱스를 사용하지 않음:\n" + plan);
+    }
+
+    @Test
+    @DisplayName("식별자 keyset 목록 : 기본 키 인덱스")
+    void test1() {
+        assertUsesIndex("primary_key", plan(repository -> repository.findSummaries(100, 10), 100L, 10));
+    }
+
+    @Test
+    @DisplayName("username 조회 : uk_memo_username")
+    void test2() {
+        assertUsesIndex("uk_memo_username", plan(repository -> repository.queryByUsername("user-7"), "user-7"));
+    }
+
+    @Test
+    @DisplayName("username 접두사 검색 : uk_memo_username")
+    void test3() {
+        assertUsesIndex("uk_memo_username",
+                plan(repository -> repository.findSummariesByUsernamePrefix("user-1", 10), "user-1%", 10));
+    }
+
+    @Test
+    @DisplayName("최신순 목록 : idx_memo_recent")
+    void test4() {
+        assertUsesIndex("idx_memo_recent", plan(repository -> repository.findRecentSummaries(10), 10));
+    }
+
+    @Test
+    @DisplayName("변경분 조회 : idx_memo_updated_at")
+    void test5() {
+        LocalDateTime since = LocalDateTime.now().minusMinutes(1);
+        assertUsesIndex("idx_memo_updated_at", plan(repository -> repository.findUpdatedSince(since, 10), since, 10));
+    }
+
+    @Test
+    @DisplayName("내용 접두사 검색 : idx_memo_contents_preview")
+    void test6() {
+        assertUsesIndex("idx_memo_contents_preview",
+                plan(repository -> repository.findSummariesByContentsPrefix("실행 계획 1", 10), "실행 계획 1%", 10));
+    }
+}
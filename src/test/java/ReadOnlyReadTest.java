@@ -0,0 +1,83 @@
+import com.sparta.JpaManager;
+import com.sparta.entity.Memo;
+import com.sparta.repository.MemoScanner;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadOnlyReadTest {
+    JpaManager jpa;
+
+    @BeforeEach
+    void setUp() {
+        jpa = new JpaManager(TestDatabase.h2Properties());
+        jpa.runInTransaction(em -> {
+            for (int i = 1; i <= 25; i++) {
+                Memo memo = new Memo();
+                memo.setUsername("user-" + i);
+                memo.setContents("읽기 전용 " + i);
+                em.persist(memo);
+            }
+            return null;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        jpa.close();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 작업 단위 : 조회한 엔티티는 읽기 전용이고 수정해도 반영되지 않음")
+    void test1() {
+        Long id = jpa.runReadOnly(em -> {
+            List<Memo> memos = em.createQuery("select m from Memo m", Memo.class).getResultList();
+            Session session = em.unwrap(Session.class);
+
+            // 읽기 전용 엔티티는 변경 감지 대상이 아님
+            assertTrue(memos.stream().allMatch(session::isReadOnly));
+
+            memos.get(0).setContents("읽기 전용 수정 시도");
+            return memos.get(0).getId();
+        });
+
+        assertNotEquals("읽기 전용 수정 시도", jpa.runInTransaction(em -> em.find(Memo.class, id)).getContents());
+    }
+
+    @Test
+    @DisplayName("StatelessSession 스캐너 : 모든 Memo 를 식별자 순서로 전달")
+    void test2() {
+        List<Memo> scanned = new ArrayList<>();
+
+        // fetchSize 보다 많은 건수를 읽어도 모두 전달됨
+        long count = new MemoScanner(jpa.getEntityManagerFactory(), 10).scan(scanned::add);
+
+        assertEquals(25, count);
+        assertEquals(25, scanned.size());
+        for (int i = 1; i < scanned.size(); i++) {
+            assertTrue(scanned.get(i - 1).getId() < scanned.get(i).getId());
+        }
+        assertEquals("읽기 전용 1", scanned.get(0).getContents());
+    }
+
+    @Test
+    @DisplayName("StatelessSession 스캐너 : 1차 캐시가 없어 매번 새 객체를 전달")
+    void test3() {
+        List<Memo> first = new ArrayList<>();
+        List<Memo> second = new ArrayList<>();
+        MemoScanner scanner = new MemoScanner(jpa.getEntityManagerFactory());
+
+        scanner.scan(first::add);
+        scanner.scan(second::add);
+
+        assertNotSame(first.get(0), second.get(0));
+        assertEquals(first.get(0).getId(), second.get(0).getId());
+    }
+}
@@ -0,0 +1,133 @@
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.service.UnknownUnwrapTypeException;
+import org.hibernate.service.spi.Configurable;
+import org.hibernate.service.spi.Stoppable;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.Map;
+
+// 테스트 픽스처용 ConnectionProvider (MemoTestFixture 에서 사용)
+// 내장 데이터베이스 커넥션 하나를 열어 두고 모든 세션이 같은 커넥션(트랜잭션)을 사용
+// begin() 이후 세션의 commit() 은 세이브포인트를 새로 잡고, rollback() 은 마지막 세이브포인트로 되돌리므로
+// 테스트 안에서는 커밋한 것처럼 보이지만 rollback() 을 호출하면 테스트 중의 모든 변경이 사라짐
+public class RollbackConnectionProvider implements ConnectionProvider, Configurable, Stoppable {
+
+    private Connection connection;
+    // 세션에 나눠주는 프록시 (close, commit, rollback, setAutoCommit 을 가로챔)
+    private Connection shared;
+    // 테스트 밖(부트스트랩)이면 null 이고 실제로 커밋/롤백
+    private Savepoint savepoint;
+
+    @Override
+    public void configure(Map<String, Object> settings) {
+        try {
+            connection = DriverManager.getConnection(
+                    (String) settings.get("jakarta.persistence.jdbc.url"),
+                    (String) settings.get("jakarta.persistence.jdbc.user"),
+                    (String) settings.get("jakarta.persistence.jdbc.password"));
+            connection.setAutoCommit(false);
+        } catch (SQLException ex) {
+            throw new IllegalStateException("내장 데이터베이스에 연결할 수 없습니다.", ex);
+        }
+        shared = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    // 커넥션은 테스트가 끝날 때까지 닫지 않음
+                    case "close" -> null;
+                    // 테스트 전체를 한 트랜잭션으로 묶기 위해 autocommit 은 항상 끔
+                    case "setAutoCommit" -> null;
+                    case "getAutoCommit" -> false;
+                    case "commit" -> {
+                        commit();
+                        yield null;
+                    }
+                    case "rollback" -> {
+                        if (args == null) {
+                            rollbackToSavepoint();
+                            yield null;
+                        }
+                        yield invoke(method, args);
+                    }
+                    default -> invoke(method, args);
+                });
+    }
+
+    // 테스트 시작: 지금부터의 변경은 rollback() 으로 모두 되돌림
+    public synchronized void begin() throws SQLException {
+        savepoint = connection.setSavepoint();
+    }
+
+    // 테스트 종료: 테스트 중에 커밋한 내용까지 모두 롤백
+    public synchronized void rollback() throws SQLException {
+        savepoint = null;
+        connection.rollback();
+    }
+
+    private synchronized void commit() throws SQLException {
+        if (savepoint == null) {
+            connection.commit();
+        } else {
+            savepoint = connection.setSavepoint();
+        }
+    }
+
+    private synchronized void rollbackToSavepoint() throws SQLException {
+        if (savepoint == null) {
+            connection.rollback();
+        } else {
+            connection.rollback(savepoint);
+        }
+    }
+
+    // 위임 대상이 던진 예외를 감싸지 않고 그대로 전달
+    private Object invoke(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(connection, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    @Override
+    public Connection getConnection() {
+        return shared;
+    }
+
+    @Override
+    public void closeConnection(Connection conn) {
+        // 세션이 반납해도 닫지 않음
+    }
+
+    @Override
+    public boolean supportsAggressiveRelease() {
+        return false;
+    }
+
+    @Override
+    public void stop() {
+        try {
+            connection.close();
+        } catch (SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Override
+    public boolean isUnwrappableAs(Class<?> unwrapType) {
+        return unwrapType.isAssignableFrom(getClass());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> unwrapType) {
+        if (unwrapType.isAssignableFrom(getClass())) {
+            return (T) this;
+        }
+        throw new UnknownUnwrapTypeException(unwrapType);
+    }
+}
@@ -0,0 +1,193 @@
+import com.sparta.JpaManager;
+import com.sparta.entity.Memo;
+import com.sparta.jdbc.ReadOnlyRouting;
+import com.sparta.jdbc.RoutingConnectionProvider;
+import com.sparta.jdbc.RoutingMetrics;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RoutingConnectionProviderTest {
+    JpaManager jpa;
+
+    @AfterEach
+    void tearDown() {
+        jpa.close();
+    }
+
+    // replicaMemos 건이 들어 있는 복제본 대역 데이터베이스를 만들고 접속 URL 반환
+    // (실제 복제는 하지 않으므로 조회 건수로 어느 데이터베이스가 응답했는지 구분)
+    private static String replica(int replicaMemos) {
+        String name = "replica-" + UUID.randomUUID();
+        try (JpaManager replica = new JpaManager(TestDatabase.h2Properties(name))) {
+            replica.runInTransaction(em -> {
+                for (int i = 0; i < replicaMemos; i++) {
+                    Memo memo = new Memo();
+                    memo.setUsername(name + "-" + i);
+                    memo.setContents("복제본");
+                    em.persist(memo);
+                }
+                return null;
+            });
+        }
+        return TestDatabase.url(name);
+    }
+
+    private JpaManager create(Map<String, Object> overrides) {
+        Map<String, Object> properties = TestDatabase.h2Properties();
+        properties.put(RoutingConnectionProvider.READ_YOUR_WRITES, "0");
+        properties.putAll(overrides);
+        return new JpaManager(properties);
+    }
+
+    private static long count(EntityManager em) {
+        return em.createQuery("select count(m) from Memo m", Long.class).getSingleResult();
+    }
+
+    private void insertMemo() {
+        jpa.runInTransaction(em -> {
+            Memo memo = new Memo();
+            memo.setUsername("primary-" + UUID.randomUUID());
+            memo.setContents("주 DB");
+            em.persist(memo);
+            return null;
+        });
+    }
+
+    private RoutingMetrics metrics() {
+        return RoutingConnectionProvider.from(jpa.getEntityManagerFactory()).getRoutingMetrics();
+    }
+
+    @Test
+    @DisplayName("복제본이 없으면 읽기 전용 작업 단위도 주 DB 사용")
+    void test1() {
+        jpa = create(Map.of());
+        insertMemo();
+
+        assertEquals(1, jpa.runReadOnly(RoutingConnectionProviderTest::count));
+        assertEquals(0, RoutingConnectionProvider.from(jpa.getEntityManagerFactory()).getReplicaCount());
+        assertEquals(0, metrics().replica());
+    }
+
+    @Test
+    @DisplayName("읽기 전용 작업 단위는 복제본, 나머지는 주 DB")
+    void test2() {
+        jpa = create(Map.of(RoutingConnectionProvider.REPLICA_URLS, replica(3)));
+        insertMemo();
+
+        assertEquals(3, jpa.runReadOnly(RoutingConnectionProviderTest::count));
+        assertEquals(1, jpa.runInTransaction(RoutingConnectionProviderTest::count));
+        // JpaManager 를 거치지 않아도 readOnly() 안에서 시작한 트랜잭션은 복제본 사용
+        assertEquals(3, ReadOnlyRouting.readOnly(() -> jpa.runInTransaction(RoutingConnectionProviderTest::count)));
+
+        RoutingMetrics metrics = metrics();
+        assertEquals(2, metrics.replica());
+        assertEquals(0, metrics.sticky());
+    }
+
+    // work 를 새 스레드에서 실행 (공용 풀 스레드는 앞선 작업의 호출자로 남아 있을 수 있음)
+    private static <T> T onNewThread(Supplier<T> work) {
+        return CompletableFuture.supplyAsync(work, runnable -> new Thread(runnable).start()).join();
+    }
+
+    @Test
+    @DisplayName("read-your-writes : 엔티티를 쓴 호출자의 읽기만 주 DB, 다른 호출자는 복제본")
+    void test3() {
+        jpa = create(Map.of(
+                RoutingConnectionProvider.REPLICA_URLS, replica(3),
+                RoutingConnectionProvider.READ_YOUR_WRITES, "60000"));
+        // 시작할 때의 스키마 검증이나 조회만 한 트랜잭션은 쓰기가 아님
+        jpa.runInTransaction(RoutingConnectionProviderTest::count);
+        assertEquals(3, jpa.runReadOnly(RoutingConnectionProviderTest::count));
+
+        // 쓴 스레드는 복제 지연과 상관없이 자기가 쓴 메모를 봄
+        insertMemo();
+        assertEquals(1, jpa.runReadOnly(RoutingConnectionProviderTest::count));
+        // 다른 호출자의 쓰기는 이 스레드의 읽기를 주 DB 로 보내지 않음
+        assertEquals(3, onNewThread(() -> jpa.runReadOnly(RoutingConnectionProviderTest::count)));
+
+        // 여러 스레드에 걸친 요청은 같은 Caller 로 묶으면 다른 스레드에서 쓴 것도 봄
+        ReadOnlyRouting.Caller request = new ReadOnlyRouting.Caller();
+        onNewThread(() -> ReadOnlyRouting.as(request, () -> {
+            insertMemo();
+            return null;
+        }));
+        assertEquals(2, ReadOnlyRouting.as(request, () -> jpa.runReadOnly(RoutingConnectionProviderTest::count)));
+        assertEquals(2, metrics().sticky());
+
+        request.clearWrites();
+        assertEquals(3, ReadOnlyRouting.as(request, () -> jpa.runReadOnly(RoutingConnectionProviderTest::count)));
+    }
+
+    @Test
+    @DisplayName("round-robin : 복제본을 차례대로 사용")
+    void test4() {
+        jpa = create(Map.of(RoutingConnectionProvider.REPLICA_URLS, replica(1) + "," + replica(2)));
+
+        long total = 0;
+        for (int i = 0; i < 4; i++) {
+            total += jpa.runReadOnly(RoutingConnectionProviderTest::count);
+        }
+        assertEquals(6, total);
+        assertArrayEquals(new long[]{2, 2}, metrics().replicaConnections());
+    }
+
+    @Test
+    @DisplayName("least-connections : 사용 중인 커넥션이 적은 복제본 사용")
+    void test5() {
+        jpa = create(Map.of(
+                RoutingConnectionProvider.REPLICA_URLS, replica(1) + "," + replica(2),
+                RoutingConnectionProvider.BALANCER, "least-connections"));
+        assertEquals(RoutingConnectionProvider.Balancer.LEAST_CONNECTIONS,
+                RoutingConnectionProvider.from(jpa.getEntityManagerFactory()).getBalancer());
+
+        ReadOnlyRouting.readOnly(() -> {
+            // 첫 번째 복제본의 커넥션을 트랜잭션이 끝날 때까지 점유
+            EntityManager busy = jpa.createEntityManager();
+            busy.getTransaction().begin();
+            assertEquals(1, count(busy));
+
+            // 그 동안의 읽기는 모두 두 번째 복제본으로
+            for (int i = 0; i < 3; i++) {
+                assertEquals(2, jpa.runReadOnly(RoutingConnectionProviderTest::count));
+            }
+            busy.getTransaction().commit();
+            busy.close();
+            return null;
+        });
+        assertArrayEquals(new long[]{1, 3}, metrics().replicaConnections());
+    }
+
+    @Test
+    @DisplayName("커넥션을 얻을 수 없는 복제본은 건너뛰고, 모두 실패하면 주 DB 사용")
+    void test6() {
+        // 없는 데이터베이스 (IFEXISTS=TRUE 이므로 새로 만들지 않고 접속 실패)
+        String missing = "jdbc:h2:mem:missing-" + UUID.randomUUID() + ";IFEXISTS=TRUE";
+        jpa = create(Map.of(
+                RoutingConnectionProvider.REPLICA_URLS, missing + "," + replica(2),
+                "memo.pool.connection-timeout-ms", "250"));
+        insertMemo();
+
+        assertEquals(2, jpa.runReadOnly(RoutingConnectionProviderTest::count));
+        assertEquals(2, jpa.runReadOnly(RoutingConnectionProviderTest::count));
+        RoutingMetrics metrics = metrics();
+        assertEquals(1, metrics.failovers());
+        assertArrayEquals(new long[]{0, 2}, metrics.replicaConnections());
+        jpa.close();
+
+        jpa = create(Map.of(
+                RoutingConnectionProvider.REPLICA_URLS, missing,
+                "memo.pool.connection-timeout-ms", "250"));
+        insertMemo();
+        assertEquals(1, jpa.runReadOnly(RoutingConnectionProviderTest::count));
+        assertEquals(1, metrics().failovers());
+    }
+}
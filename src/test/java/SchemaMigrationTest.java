@@ -0,0 +1,71 @@
+import com.sparta.JpaManager;
+import com.sparta.entity.Memo;
+import com.sparta.schema.SchemaMigrator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SchemaMigrationTest {
+
+    private Map<String, Object> properties(String name, SchemaMigrator.Mode mode) {
+        Map<String, Object> properties = TestDatabase.h2Properties(name);
+        properties.put(SchemaMigrator.MODE, mode.name());
+        return properties;
+    }
+
+    @Test
+    @DisplayName("이미 적용된 마이그레이션은 다시 실행하지 않음")
+    void test1() {
+        SchemaMigrator migrator = new SchemaMigrator(TestDatabase.url("migrate-" + UUID.randomUUID()), "sa", "");
+
+        assertNull(migrator.currentVersion());
+        assertTrue(migrator.migrate() > 0);
+        String version = migrator.currentVersion();
+        assertNotNull(version);
+
+        // 두 번째 실행은 적용할 것이 없음
+        assertEquals(0, migrator.migrate());
+        assertEquals(version, migrator.currentVersion());
+        assertDoesNotThrow(migrator::validate);
+    }
+
+    @Test
+    @DisplayName("validate 모드: 마이그레이션이 적용되지 않은 데이터베이스면 시작 실패")
+    void test2() {
+        String name = "validate-" + UUID.randomUUID();
+
+        assertThrows(RuntimeException.class,
+                () -> new JpaManager(properties(name, SchemaMigrator.Mode.VALIDATE)).close());
+
+        // 마이그레이션을 적용한 뒤에는 validate 모드로 시작 가능
+        new SchemaMigrator(TestDatabase.url(name), "sa", "").migrate();
+        assertDoesNotThrow(() -> new JpaManager(properties(name, SchemaMigrator.Mode.VALIDATE)).close());
+    }
+
+    @Test
+    @DisplayName("다시 시작해도 memo 테이블을 지우지 않음")
+    void test3() {
+        String name = "restart-" + UUID.randomUUID();
+
+        Long id;
+        try (JpaManager jpa = new JpaManager(properties(name, SchemaMigrator.Mode.MIGRATE))) {
+            id = jpa.runInTransaction(em -> {
+                Memo memo = new Memo();
+                memo.setUsername("Robbie");
+                memo.setContents("다시 시작해도 남아 있음");
+                em.persist(memo);
+                return memo.getId();
+            });
+        }
+
+        // 같은 데이터베이스로 다시 시작
+        try (JpaManager jpa = new JpaManager(properties(name, SchemaMigrator.Mode.VALIDATE))) {
+            String contents = jpa.runReadOnly(em -> em.find(Memo.class, id).getContents());
+            assertEquals("다시 시작해도 남아 있음", contents);
+        }
+    }
+}
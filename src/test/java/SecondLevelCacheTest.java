@@ -0,0 +1,153 @@
+import com.sparta.JpaManager;
+import com.sparta.cache.MemoCacheStatistics;
+import com.sparta.entity.Memo;
+import com.sparta.repository.MemoRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SecondLevelCacheTest {
+    JpaManager jpa;
+    Statistics statistics;
+
+    @AfterEach
+    void tearDown() {
+        jpa.close();
+    }
+
+    private void create(Map<String, Object> overrides) {
+        Map<String, Object> properties = TestDatabase.h2Properties();
+        properties.putAll(overrides);
+        jpa = new JpaManager(properties);
+        statistics = jpa.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private Long save(String username) {
+        return jpa.runInTransaction(em -> {
+            Memo memo = new Memo();
+            memo.setUsername(username);
+            memo.setContents("2차 캐시");
+            em.persist(memo);
+            return memo.getId();
+        });
+    }
+
+    @Test
+    @DisplayName("서로 다른 EntityManager 에서 조회해도 DB 조회는 한 번")
+    void test1() {
+        create(Map.of());
+        Long id = save("Robbie");
+        // 저장 시 캐시에 들어간 항목을 비워 첫 조회가 DB 에서 일어나도록 함
+        jpa.getEntityManagerFactory().getCache().evictAll();
+        statistics.clear();
+
+        Memo memo1 = jpa.runInTransaction(em -> em.find(Memo.class, id));
+        Memo memo2 = jpa.runInTransaction(em -> em.find(Memo.class, id));
+
+        // 다른 영속성 컨텍스트이므로 다른 객체지만 DB 조회는 첫 번째에서만 발생
+        assertNotSame(memo1, memo2);
+        assertEquals(1, statistics.getEntityLoadCount());
+
+        MemoCacheStatistics cache = MemoCacheStatistics.snapshot(jpa.getEntityManagerFactory());
+        System.out.println("cache = " + cache);
+        assertEquals(1, cache.misses());
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.puts());
+    }
+
+    @Test
+    @DisplayName("merge 로 수정하면 캐시 항목도 갱신")
+    void test2() {
+        create(Map.of());
+        Long id = save("Robbie");
+
+        // 캐시에 있는 Memo 를 준영속 상태로 수정 후 merge
+        Memo detached = jpa.runInTransaction(em -> em.find(Memo.class, id));
+        detached.setContents("merge() 수정");
+        jpa.runInTransaction(em -> em.merge(detached));
+
+        statistics.clear();
+        Memo memo = jpa.runInTransaction(em -> em.find(Memo.class, id));
+
+        // 오래된 값이 아닌 수정된 값을 캐시에서 읽음
+        assertEquals("merge() 수정", memo.getContents());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    @DisplayName("username 조회 결과는 쿼리 캐시에서 재사용하고, 테이블이 바뀌면 무효화")
+    void test3() {
+        create(Map.of());
+        Long id = save("Robbie");
+        statistics.clear();
+
+        jpa.runInTransaction(em -> new MemoRepository(em).queryByUsername("Robbie"));
+        Memo memo = jpa.runInTransaction(em -> new MemoRepository(em).queryByUsername("Robbie")).orElseThrow();
+
+        assertEquals(id, memo.getId());
+        assertEquals(1, statistics.getQueryExecutionCount());
+        MemoCacheStatistics cache = MemoCacheStatistics.snapshot(jpa.getEntityManagerFactory());
+        assertEquals(1, cache.queryMisses());
+        assertEquals(1, cache.queryHits());
+
+        // memo 테이블이 수정되면 기존 쿼리 캐시 결과는 사용하지 않음
+        save("Robbert");
+        jpa.runInTransaction(em -> new MemoRepository(em).queryByUsername("Robbie"));
+        assertEquals(2, statistics.getQueryExecutionCount());
+    }
+
+    @Test
+    @DisplayName("캐시 크기를 넘으면 오래된 항목부터 축출")
+    void test4() {
+        // Memo 캐시를 10건으로 제한한 설정 사용
+        create(Map.of("hibernate.javax.cache.uri", "ehcache-small.xml"));
+
+        for (int i = 0; i < 30; i++) {
+            Long id = save("user-" + i);
+            jpa.runInTransaction(em -> em.find(Memo.class, id));
+        }
+
+        MemoCacheStatistics cache = MemoCacheStatistics.snapshot(jpa.getEntityManagerFactory());
+        System.out.println("cache = " + cache);
+        assertTrue(cache.evictions() > 0);
+    }
+
+    @Test
+    @DisplayName("EntityManagerFactory 마다 캐시를 따로 쓰고, 축출 횟수도 자기 캐시 것만 집계")
+    void test5() {
+        // 같은 설정 파일을 쓰는 두 EntityManagerFactory
+        create(Map.of("hibernate.javax.cache.uri", "ehcache-small.xml"));
+        Map<String, Object> properties = TestDatabase.h2Properties();
+        properties.put("hibernate.javax.cache.uri", "ehcache-small.xml");
+        try (JpaManager other = new JpaManager(properties)) {
+            // 두 데이터베이스 모두 첫 Memo 의 식별자가 같음
+            Long id = save("Robbie");
+            Long otherId = other.runInTransaction(em -> {
+                Memo memo = new Memo();
+                memo.setUsername("Robbert");
+                memo.setContents("다른 데이터베이스");
+                em.persist(memo);
+                return memo.getId();
+            });
+            assertEquals(id, otherId);
+            assertEquals("Robbie", jpa.runInTransaction(em -> em.find(Memo.class, id)).getUsername());
+            assertEquals("Robbert", other.runInTransaction(em -> em.find(Memo.class, id)).getUsername());
+
+            for (int i = 0; i < 30; i++) {
+                Long saved = save("user-" + i);
+                jpa.runInTransaction(em -> em.find(Memo.class, saved));
+            }
+            assertTrue(MemoCacheStatistics.snapshot(jpa.getEntityManagerFactory()).evictions() > 0);
+            assertEquals(0, MemoCacheStatistics.snapshot(other.getEntityManagerFactory()).evictions());
+        }
+        // 다른 EntityManagerFactory 를 닫아도 이 캐시는 그대로 사용
+        jpa.runInTransaction(em -> em.find(Memo.class, 1L));
+    }
+}
@@ -0,0 +1,37 @@
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+// 테스트용 데이터베이스 설정
+// 'memo' 퍼시스턴스 유닛을 그대로 사용하되, 접속 정보만 MySQL 호환 모드의 내장 H2로 덮어씀
+public final class TestDatabase {
+
+    private TestDatabase() {}
+
+    // 테스트마다 분리된 인메모리 데이터베이스 접속 설정
+    public static Map<String, Object> h2Properties() {
+        return h2Properties("test-" + UUID.randomUUID());
+    }
+
+    // name: 인메모리 데이터베이스 이름 (같은 이름이면 같은 데이터베이스를 공유)
+    public static Map<String, Object> h2Properties(String name) {
+        Map<String, Object> properties = new HashMap<>();
+        // 데이터베이스 드라이버와 접속 정보를 H2로 교체
+        properties.put("jakarta.persistence.jdbc.driver", "org.h2.Driver");
+        properties.put("jakarta.persistence.jdbc.url", url(name));
+        properties.put("jakarta.persistence.jdbc.user", "sa");
+        properties.put("jakarta.persistence.jdbc.password", "");
+        // 테스트 출력이 SQL 로 넘치지 않도록 끔
+        properties.put("hibernate.show_sql", "false");
+        properties.put("hibernate.format_sql", "false");
+        properties.put("hibernate.use_sql_comments", "false");
+        properties.put("memo.sql-log.enabled", "false");
+        // 새 데이터베이스에는 마이그레이션 스크립트로 스키마를 만듦 (이미 적용된 데이터베이스면 그대로 사용)
+        properties.put("memo.schema.migration", "migrate");
+        return properties;
+    }
+
+    public static String url(String name) {
+        return "jdbc:h2:mem:" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    }
+}
@@ -0,0 +1,87 @@
+import com.sparta.JpaManager;
+import com.sparta.UnitOfWorkExecutor;
+import com.sparta.entity.Memo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UnitOfWorkExecutorTest {
+    JpaManager jpa;
+
+    @BeforeEach
+    void setUp() {
+        jpa = new JpaManager(TestDatabase.h2Properties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jpa.close();
+    }
+
+    @Test
+    @DisplayName("persist, find, merge, remove 를 각각 별도의 작업 단위로 실행")
+    void test1() {
+        try (UnitOfWorkExecutor executor = new UnitOfWorkExecutor(jpa)) {
+            // Java 21 이상이면 가상 스레드 사용
+            assertEquals(Runtime.version().feature() >= 21, executor.isVirtual());
+
+            Memo memo = new Memo();
+            memo.setUsername("Robbie");
+            memo.setContents("동시 실행");
+            Long id = executor.persist(memo).join();
+
+            Memo found = executor.find(id).join().orElseThrow();
+            found.setContents("동시 실행 수정");
+            executor.merge(found).join();
+            assertEquals("동시 실행 수정", executor.find(id).join().orElseThrow().getContents());
+
+            assertTrue(executor.remove(id).join());
+            assertFalse(executor.remove(id).join());
+            assertTrue(executor.find(id).join().isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("동시에 실행되는 작업 수는 maxConcurrency 를 넘지 않음")
+    void test2() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        Set<Thread> workers = ConcurrentHashMap.newKeySet();
+        boolean virtual;
+
+        try (UnitOfWorkExecutor executor = new UnitOfWorkExecutor(jpa, 2)) {
+            virtual = executor.isVirtual();
+            List<CompletableFuture<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                futures.add(executor.submit(em -> {
+                    workers.add(Thread.currentThread());
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(20);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    running.decrementAndGet();
+                    return 1;
+                }));
+            }
+
+            assertEquals(10, futures.stream().mapToInt(CompletableFuture::join).sum());
+        }
+        assertEquals(2, maxRunning.get());
+        // 플랫폼 스레드로 동작할 때는 허가를 기다리는 스레드를 만들지 않음
+        if (!virtual) {
+            assertTrue(workers.size() <= 2, "작업 스레드 " + workers.size() + "개");
+        }
+    }
+}
@@ -0,0 +1,220 @@
+import com.sparta.JpaManager;
+import com.sparta.entity.Memo;
+import com.sparta.writebehind.DeadLetter;
+import com.sparta.writebehind.MemoWriteBehindBuffer;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WriteBehindBufferTest {
+    JpaManager jpa;
+    Statistics statistics;
+    List<Long> ids;
+
+    @BeforeEach
+    void setUp() {
+        jpa = new JpaManager(TestDatabase.h2Properties());
+        statistics = jpa.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        ids = jpa.runInTransaction(em -> {
+            List<Long> result = new ArrayList<>();
+            for (int i = 1; i <= 4; i++) {
+                Memo memo = new Memo();
+                memo.setUsername("user-" + i);
+                // contents 를 카운터로 사용
+                memo.setContents("0");
+                em.persist(memo);
+                result.add(memo.getId());
+            }
+            return result;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        jpa.close();
+    }
+
+    private String contentsOf(Long id) {
+        return jpa.runInTransaction(em -> em.find(Memo.class, id).getContents());
+    }
+
+    @Test
+    @DisplayName("같은 Memo 를 100번 수정해도 UPDATE 는 한 번만 실행되고 마지막 값이 반영됨")
+    void test1() {
+        // 주기적 반영이 끼어들지 않도록 간격을 길게 설정
+        try (MemoWriteBehindBuffer buffer = new MemoWriteBehindBuffer(jpa, 100, 100, TimeUnit.HOURS.toMillis(1))) {
+            for (int i = 1; i <= 100; i++) {
+                buffer.setContents(ids.get(0), "수정 " + i);
+            }
+            assertEquals(1, buffer.pendingCount());
+
+            statistics.clear();
+            assertEquals(1, buffer.flush());
+
+            assertEquals(1, statistics.getEntityUpdateCount());
+            assertEquals(99, buffer.getMetrics().coalesced());
+        }
+        assertEquals("수정 100", contentsOf(ids.get(0)));
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 수정하는 중에 close() 해도 받은 변경은 모두 반영됨")
+    void test2() throws Exception {
+        int threads = 4;
+        int updatesPerThread = 500;
+        MemoWriteBehindBuffer buffer = new MemoWriteBehindBuffer(jpa, 3, 2, 5);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < updatesPerThread; i++) {
+                        buffer.update(ids.get(i % ids.size()),
+                                memo -> memo.setContents(String.valueOf(Integer.parseInt(memo.getContents()) + 1)));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        buffer.close();
+
+        int total = ids.stream().mapToInt(id -> Integer.parseInt(contentsOf(id))).sum();
+        assertEquals(threads * updatesPerThread, total);
+        assertEquals(0, buffer.pendingCount());
+        assertThrows(IllegalStateException.class, () -> buffer.setContents(ids.get(0), "닫힌 뒤"));
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 새 Memo 의 변경은 반영될 때까지 기다림")
+    void test3() throws Exception {
+        // 임계치 반영 없이 직접 flush() 할 때만 자리가 남
+        try (MemoWriteBehindBuffer buffer = new MemoWriteBehindBuffer(jpa, 2, 3, TimeUnit.HOURS.toMillis(1))) {
+            buffer.setContents(ids.get(0), "첫째");
+            buffer.setContents(ids.get(1), "둘째");
+            // 이미 대기 중인 Memo 의 변경은 기다리지 않고 합쳐짐
+            buffer.setContents(ids.get(0), "첫째 수정");
+
+            CompletableFuture<Void> third = CompletableFuture.runAsync(() -> buffer.setContents(ids.get(2), "셋째"));
+            assertThrows(TimeoutException.class, () -> third.get(200, TimeUnit.MILLISECONDS));
+
+            assertEquals(2, buffer.flush());
+            third.get(5, TimeUnit.SECONDS);
+            assertEquals(1, buffer.pendingCount());
+        }
+
+        assertEquals("첫째 수정", contentsOf(ids.get(0)));
+        assertEquals("셋째", contentsOf(ids.get(2)));
+    }
+
+    @Test
+    @DisplayName("close() 와 동시에 들어온 변경은 거절되거나 반영되고, 잃어버리지 않음")
+    void test4() throws Exception {
+        int threads = 4;
+        // 자리가 부족해 update() 가 기다리는 중에 close() 가 시작되도록 버퍼를 작게 설정
+        MemoWriteBehindBuffer buffer = new MemoWriteBehindBuffer(jpa, 1, 1, 5);
+        AtomicInteger accepted = new AtomicInteger();
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; ; i++) {
+                        try {
+                            buffer.update(ids.get(i % ids.size()),
+                                    memo -> memo.setContents(String.valueOf(Integer.parseInt(memo.getContents()) + 1)));
+                        } catch (IllegalStateException ex) {
+                            return;
+                        }
+                        accepted.incrementAndGet();
+                    }
+                }));
+            }
+            Thread.sleep(100);
+            buffer.close();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        int total = ids.stream().mapToInt(id -> Integer.parseInt(contentsOf(id))).sum();
+        assertTrue(accepted.get() > 0);
+        assertEquals(accepted.get(), total);
+        assertEquals(0, buffer.pendingCount());
+    }
+
+    @Test
+    @DisplayName("계속 실패하는 변경은 maxAttempts 번 시도한 뒤 dead letter 로 옮기고, 다른 Memo 의 반영은 막지 않음")
+    void test5() {
+        try (MemoWriteBehindBuffer buffer = new MemoWriteBehindBuffer(jpa, 10, 10, TimeUnit.HOURS.toMillis(1), 2)) {
+            buffer.setContents(ids.get(0), "정상");
+            buffer.update(ids.get(1), memo -> {
+                throw new IllegalArgumentException("잘못된 변경");
+            });
+            buffer.setContents(ids.get(2), "정상");
+
+            // 첫 실패 : 나머지는 반영하고 실패한 변경만 버퍼에 남김
+            assertThrows(IllegalArgumentException.class, buffer::flush);
+            assertEquals("정상", contentsOf(ids.get(0)));
+            assertEquals("정상", contentsOf(ids.get(2)));
+            assertEquals(1, buffer.pendingCount());
+            assertTrue(buffer.drainDeadLetters().isEmpty());
+
+            // 두 번째 실패 : dead letter 로 옮김
+            assertThrows(IllegalArgumentException.class, buffer::flush);
+            assertEquals(0, buffer.pendingCount());
+            List<DeadLetter> deadLetters = buffer.drainDeadLetters();
+            assertEquals(1, deadLetters.size());
+            assertEquals(ids.get(1), deadLetters.get(0).id());
+            assertInstanceOf(IllegalArgumentException.class, deadLetters.get(0).cause());
+            assertEquals(1, buffer.getMetrics().deadLetters());
+            assertTrue(buffer.drainDeadLetters().isEmpty());
+
+            // 자리를 반납했으므로 같은 Memo 를 다시 수정할 수 있음
+            buffer.setContents(ids.get(1), "다시");
+            assertEquals(1, buffer.flush());
+        }
+        assertEquals("다시", contentsOf(ids.get(1)));
+    }
+
+    @Test
+    @DisplayName("close() 의 마지막 반영이 실패하면 maxAttempts 번 다시 시도하고, 그래도 실패한 변경은 dead letter 로 남김")
+    void test6() {
+        MemoWriteBehindBuffer buffer = new MemoWriteBehindBuffer(jpa, 10, 10, TimeUnit.HOURS.toMillis(1), 3);
+        buffer.setContents(ids.get(0), "정상");
+        buffer.update(ids.get(1), memo -> {
+            throw new IllegalArgumentException("잘못된 변경");
+        });
+
+        assertThrows(IllegalArgumentException.class, buffer::close);
+
+        assertEquals("정상", contentsOf(ids.get(0)));
+        assertEquals(0, buffer.pendingCount());
+        List<DeadLetter> deadLetters = buffer.drainDeadLetters();
+        assertEquals(1, deadLetters.size());
+        assertEquals(ids.get(1), deadLetters.get(0).id());
+        assertEquals(1, buffer.getMetrics().deadLetters());
+    }
+}